@@ -0,0 +1,31 @@
+#!/bin/sh
+# Builds an extracted application layout plus a class-data sharing (CDS) archive.
+# Usage: scripts/build-cds-archive.sh [--aot]
+#   --aot  package with the aot profile and train with Spring AOT enabled
+set -e
+
+cd "$(dirname "$0")/.."
+
+JAR_NAME=attendance-backend-0.0.1-SNAPSHOT.jar
+EXTRACTED=target/extracted
+JAVA_OPTS=""
+MVN_PROFILES=""
+
+if [ "$1" = "--aot" ]; then
+  MVN_PROFILES="-Paot"
+  JAVA_OPTS="-Dspring.aot.enabled=true"
+fi
+
+${MVN:-mvn} -B -q $MVN_PROFILES -DskipTests package
+
+rm -rf "$EXTRACTED"
+java -Djarmode=tools -jar "target/$JAR_NAME" extract --destination "$EXTRACTED"
+
+# Training run: start the context, then exit right after refresh and dump the archive
+java -XX:ArchiveClassesAtExit="$EXTRACTED/application.jsa" \
+  -Dspring.context.exit=onRefresh \
+  $JAVA_OPTS \
+  -jar "$EXTRACTED/$JAR_NAME"
+
+echo "CDS archive written to $EXTRACTED/application.jsa"
+echo "Run with: java -XX:SharedArchiveFile=$EXTRACTED/application.jsa $JAVA_OPTS -jar $EXTRACTED/$JAR_NAME"
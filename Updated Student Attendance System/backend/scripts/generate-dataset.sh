@@ -0,0 +1,23 @@
+#!/bin/sh
+# Fills the configured MongoDB database with a reproducible synthetic dataset.
+# Usage: scripts/generate-dataset.sh [students] [years] [seed] [extra spring args...]
+# e.g.   scripts/generate-dataset.sh 100000 3 42 --attendance.generator.drop-existing=true
+set -e
+
+cd "$(dirname "$0")/.."
+
+STUDENTS="${1:-1000}"
+YEARS="${2:-3}"
+SEED="${3:-42}"
+[ $# -gt 0 ] && shift
+[ $# -gt 0 ] && shift
+[ $# -gt 0 ] && shift
+
+${MVN:-mvn} -B -q compile dependency:build-classpath -Dmdep.outputFile=target/classpath.txt
+java -cp "target/classes:$(cat target/classpath.txt)" \
+  com.example.attendance.AttendanceApplication \
+  --spring.profiles.active=generate \
+  --attendance.generator.students="$STUDENTS" \
+  --attendance.generator.years="$YEARS" \
+  --attendance.generator.seed="$SEED" \
+  "$@"
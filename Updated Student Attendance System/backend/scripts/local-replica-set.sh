@@ -0,0 +1,29 @@
+#!/bin/sh
+# Starts a single-host MongoDB replica set (one primary, two secondaries) in Docker
+# for trying out read-replica routing locally.
+# Usage: scripts/local-replica-set.sh [start|stop]
+set -e
+
+NAME=attendance-rs
+IMAGE=${MONGO_IMAGE:-mongo:7}
+
+if [ "$1" = "stop" ]; then
+  docker rm -f "${NAME}0" "${NAME}1" "${NAME}2" >/dev/null
+  exit 0
+fi
+
+for i in 0 1 2; do
+  docker run -d --name "$NAME$i" --network host "$IMAGE" \
+    mongod --replSet rs0 --port "2701$((7 + i))" --bind_ip localhost >/dev/null
+done
+sleep 3
+
+docker exec "${NAME}0" mongosh --quiet --eval 'rs.initiate({_id: "rs0", members: [
+  {_id: 0, host: "localhost:27017", priority: 2},
+  {_id: 1, host: "localhost:27018"},
+  {_id: 2, host: "localhost:27019"}
+]})'
+
+echo "Replica set rs0 started. Run the backend with:"
+echo "  --spring.data.mongodb.uri=mongodb://localhost:27017,localhost:27018,localhost:27019/attendance?replicaSet=rs0"
+echo "  --attendance.read-routing.enabled=true"
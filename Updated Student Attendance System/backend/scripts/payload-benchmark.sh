@@ -0,0 +1,15 @@
+#!/bin/sh
+# Compares payload size and serialization time of a large attendance list in
+# JSON, CBOR, Smile and columnar JSON. The benchmark lives in src/benchmark/java,
+# outside the Maven build, and is compiled here against the application classes.
+# Usage: scripts/payload-benchmark.sh [rows] [iterations]
+set -e
+
+cd "$(dirname "$0")/.."
+
+${MVN:-mvn} -B -q compile dependency:build-classpath -Dmdep.outputFile=target/classpath.txt
+CLASSPATH="target/classes:$(cat target/classpath.txt)"
+mkdir -p target/benchmark-classes
+javac -d target/benchmark-classes -cp "$CLASSPATH" $(find src/benchmark/java -name '*.java')
+java -cp "target/benchmark-classes:$CLASSPATH" \
+  com.example.attendance.codec.PayloadBenchmark "${1:-5000}" "${2:-200}"
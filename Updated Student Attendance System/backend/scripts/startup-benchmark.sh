@@ -0,0 +1,65 @@
+#!/bin/sh
+# Measures time from process launch to the first successful GET /api/attendance/today.
+# Usage: scripts/startup-benchmark.sh <jvm|aot|cds|aot-cds|native> [runs] [report-file]
+# Build the matching artifact first (mvn package, mvn -Paot package,
+# scripts/build-cds-archive.sh [--aot], or mvn -Pnative native:compile).
+set -e
+
+cd "$(dirname "$0")/.."
+
+MODE=${1:-jvm}
+RUNS=${2:-5}
+REPORT=${3:-target/startup-benchmark.txt}
+PORT=${SERVER_PORT:-8083}
+TIMEOUT_MS=${TIMEOUT_MS:-120000}
+URL="http://localhost:$PORT/api/attendance/today"
+
+JAR=target/attendance-backend-0.0.1-SNAPSHOT.jar
+EXTRACTED_JAR=target/extracted/attendance-backend-0.0.1-SNAPSHOT.jar
+CDS_ARCHIVE=target/extracted/application.jsa
+
+case "$MODE" in
+  jvm)     CMD="java -jar $JAR" ;;
+  aot)     CMD="java -Dspring.aot.enabled=true -jar $JAR" ;;
+  cds)     CMD="java -XX:SharedArchiveFile=$CDS_ARCHIVE -jar $EXTRACTED_JAR" ;;
+  aot-cds) CMD="java -XX:SharedArchiveFile=$CDS_ARCHIVE -Dspring.aot.enabled=true -jar $EXTRACTED_JAR" ;;
+  native)  CMD="target/attendance-backend" ;;
+  *) echo "Unknown mode: $MODE" >&2; exit 1 ;;
+esac
+
+now_ms() {
+  echo $(( $(date +%s%N) / 1000000 ))
+}
+
+mkdir -p "$(dirname "$REPORT")"
+total=0
+i=1
+while [ "$i" -le "$RUNS" ]; do
+  start=$(now_ms)
+  $CMD --server.port="$PORT" --logging.level.root=WARN > target/startup-run.log 2>&1 &
+  pid=$!
+
+  until curl -sf -o /dev/null "$URL"; do
+    if ! kill -0 "$pid" 2>/dev/null; then
+      echo "Application exited before serving $URL, see target/startup-run.log" >&2
+      exit 1
+    fi
+    if [ $(( $(now_ms) - start )) -gt "$TIMEOUT_MS" ]; then
+      kill "$pid"
+      echo "No successful response from $URL within ${TIMEOUT_MS} ms, is MongoDB running?" >&2
+      exit 1
+    fi
+    sleep 0.02
+  done
+  elapsed=$(( $(now_ms) - start ))
+
+  kill "$pid"
+  wait "$pid" 2>/dev/null || true
+
+  echo "run $i: ${elapsed} ms"
+  total=$(( total + elapsed ))
+  i=$(( i + 1 ))
+done
+
+avg=$(( total / RUNS ))
+echo "$(date -u +%Y-%m-%dT%H:%M:%SZ) mode=$MODE runs=$RUNS avg_time_to_first_today_ms=$avg" | tee -a "$REPORT"
@@ -0,0 +1,107 @@
+package com.example.attendance.codec;
+
+import com.example.attendance.dto.ApiResponse;
+import com.example.attendance.dto.AttendanceDTO;
+import com.example.attendance.model.Attendance;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Compares payload size and serialization time of an attendance list response
+ * in JSON, CBOR, Smile and columnar JSON. Run with scripts/payload-benchmark.sh.
+ * Usage: PayloadBenchmark [rows] [iterations]
+ */
+public final class PayloadBenchmark {
+
+    private interface Encoder {
+        byte[] encode(ApiResponse<?> response) throws IOException;
+    }
+
+    private PayloadBenchmark() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        int rows = args.length > 0 ? Integer.parseInt(args[0]) : 5000;
+        int iterations = args.length > 1 ? Integer.parseInt(args[1]) : 200;
+        ApiResponse<List<AttendanceDTO>> response = ApiResponse.success(sample(rows));
+
+        ObjectMapper json = mapper(null);
+        ColumnarJsonWriter columnar = new ColumnarJsonWriter(json);
+
+        System.out.printf("%d rows, %d iterations%n", rows, iterations);
+        System.out.printf("%-10s %12s %12s %14s%n", "format", "bytes", "gzip bytes", "us/serialize");
+        run("json", iterations, response, json::writeValueAsBytes);
+        run("cbor", iterations, response, mapper(new CBORFactory())::writeValueAsBytes);
+        run("smile", iterations, response, mapper(new SmileFactory())::writeValueAsBytes);
+        run("columnar", iterations, response, r -> {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            columnar.write(r, out);
+            return out.toByteArray();
+        });
+    }
+
+    private static void run(String name, int iterations, ApiResponse<?> response, Encoder encoder) throws IOException {
+        byte[] body = encoder.encode(response);
+        // Warm up before timing
+        for (int i = 0; i < iterations; i++) {
+            encoder.encode(response);
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            encoder.encode(response);
+        }
+        long micros = (System.nanoTime() - start) / 1000 / iterations;
+        System.out.printf("%-10s %12d %12d %14d%n", name, body.length, gzip(body).length, micros);
+    }
+
+    private static ObjectMapper mapper(JsonFactory factory) {
+        // Same settings as spring.jackson.* in application.properties
+        Jackson2ObjectMapperBuilder builder = Jackson2ObjectMapperBuilder.json()
+            .serializationInclusion(JsonInclude.Include.NON_NULL)
+            .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        if (factory != null) {
+            builder.factory(factory);
+        }
+        return builder.build();
+    }
+
+    private static List<AttendanceDTO> sample(int rows) {
+        List<AttendanceDTO> list = new ArrayList<>(rows);
+        LocalDate start = LocalDate.of(2025, 1, 1);
+        for (int i = 0; i < rows; i++) {
+            int student = i % 600;
+            list.add(new AttendanceDTO(
+                String.format("%024x", i),
+                String.format("%024x", 1_000_000 + student),
+                "Student " + student,
+                String.format("%08d", 22_000_000 + student),
+                start.plusDays(i / 600),
+                i % 7 == 0 ? Attendance.Status.ABSENT : Attendance.Status.PRESENT,
+                null,
+                null,
+                0L
+            ));
+        }
+        return list;
+    }
+
+    private static byte[] gzip(byte[] body) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(body);
+        }
+        return out.toByteArray();
+    }
+}
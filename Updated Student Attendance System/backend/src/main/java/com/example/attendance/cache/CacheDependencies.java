@@ -0,0 +1,82 @@
+package com.example.attendance.cache;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Collects what the response of the current request was built from, so the
+ * cached bytes can be dropped precisely when one of those inputs is written.
+ * Recording outside of a cacheable request is a no-op.
+ */
+public final class CacheDependencies {
+
+    static final String ALL_ATTENDANCE = "attendance";
+    static final String STUDENT_LIST = "students";
+
+    private static final ThreadLocal<Set<String>> CURRENT = new ThreadLocal<>();
+    private static volatile int maxTrackedDays = 92;
+
+    private CacheDependencies() {
+    }
+
+    public static void date(LocalDate date) {
+        add(dateKey(date));
+    }
+
+    public static void dates(LocalDate startDate, LocalDate endDate) {
+        if (startDate.isAfter(endDate)) {
+            return;
+        }
+        // Long ranges depend on every attendance write instead of one key per day
+        if (startDate.plusDays(maxTrackedDays).isBefore(endDate)) {
+            add(ALL_ATTENDANCE);
+            return;
+        }
+        for (LocalDate date = startDate; !date.isAfter(endDate); date = date.plusDays(1)) {
+            add(dateKey(date));
+        }
+    }
+
+    public static void student(String studentId) {
+        add(studentKey(studentId));
+    }
+
+    public static void students(Collection<String> studentIds) {
+        studentIds.forEach(CacheDependencies::student);
+    }
+
+    public static void studentList() {
+        add(STUDENT_LIST);
+    }
+
+    static String dateKey(LocalDate date) {
+        return "date:" + date;
+    }
+
+    public static String studentKey(String studentId) {
+        return "student:" + studentId;
+    }
+
+    static void begin() {
+        CURRENT.set(new HashSet<>());
+    }
+
+    static Set<String> end() {
+        Set<String> dependencies = CURRENT.get();
+        CURRENT.remove();
+        return dependencies;
+    }
+
+    static void setMaxTrackedDays(int days) {
+        maxTrackedDays = days;
+    }
+
+    private static void add(String key) {
+        Set<String> dependencies = CURRENT.get();
+        if (dependencies != null) {
+            dependencies.add(key);
+        }
+    }
+}
@@ -0,0 +1,186 @@
+package com.example.attendance.cache;
+
+import com.example.attendance.config.ResponseCacheProperties;
+import com.example.attendance.event.AttendanceChangedEvent;
+import com.example.attendance.event.StudentChangedEvent;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Serialized responses kept within a byte budget with LRU eviction. Each entry
+ * is indexed under the dependency keys it was built from; attendance and
+ * student writes drop exactly the entries indexed under the keys they touch.
+ * A response is only stored if none of its own dependencies was written while
+ * it was being built, so writes elsewhere never block caching.
+ */
+@Component
+public class ResponseCache {
+
+    record Entry(String key, String contentType, byte[] body, byte[] gzipBody, Set<String> dependencies) {
+        long size() {
+            return body.length + (gzipBody != null ? gzipBody.length : 0);
+        }
+    }
+
+    private static final int MAX_TRACKED_VERSIONS = 10_000;
+
+    private final ResponseCacheProperties properties;
+
+    private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>(256, 0.75f, true);
+    private final Map<String, Set<String>> dependents = new HashMap<>();
+    // Sequence number of the last write per tenant|dependency, and the start sequence of in-flight misses
+    private final Map<String, Long> versions = new HashMap<>();
+    private final TreeMap<Long, Integer> inFlight = new TreeMap<>();
+    private long sequence;
+    private long clearedAt;
+    private long bytes;
+
+    public ResponseCache(ResponseCacheProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        CacheDependencies.setMaxTrackedDays(properties.maxTrackedDays());
+        Gauge.builder("attendance.response.cache.bytes", this, ResponseCache::bytes).register(meterRegistry);
+        Gauge.builder("attendance.response.cache.entries", this, ResponseCache::size).register(meterRegistry);
+    }
+
+    public synchronized Entry get(String key) {
+        return entries.get(key);
+    }
+
+    /**
+     * Starts building a response for the cache and returns the sequence that
+     * {@link #put} compares the dependencies' versions against. Every call
+     * must be paired with {@link #end}.
+     */
+    synchronized long begin() {
+        inFlight.merge(sequence, 1, Integer::sum);
+        return sequence;
+    }
+
+    synchronized void end(long start) {
+        inFlight.computeIfPresent(start, (s, count) -> count > 1 ? count - 1 : null);
+    }
+
+    synchronized void put(String key, String contentType, byte[] body, Set<String> dependencies, long start) {
+        if (body.length > properties.maxBytes() || changedSince(dependencies, start)) {
+            return;
+        }
+        byte[] gzipBody = properties.gzip() && body.length >= properties.gzipMinBytes() ? gzip(body) : null;
+        Entry entry = new Entry(key, contentType, body, gzipBody, Set.copyOf(dependencies));
+
+        remove(key);
+        entries.put(key, entry);
+        bytes += entry.size();
+        entry.dependencies().forEach(dependency -> dependents.computeIfAbsent(dependency, d -> new HashSet<>()).add(key));
+
+        for (Iterator<Entry> it = entries.values().iterator(); bytes > properties.maxBytes() && it.hasNext(); ) {
+            Entry eldest = it.next();
+            it.remove();
+            unindex(eldest);
+        }
+    }
+
+    public synchronized void invalidate(String tenantId, String dependency) {
+        String key = tenantId + "|" + dependency;
+        versions.put(key, ++sequence);
+        Set<String> keys = dependents.remove(key);
+        if (keys != null) {
+            keys.forEach(this::remove);
+        }
+        if (versions.size() > MAX_TRACKED_VERSIONS) {
+            // Versions no older than the oldest in-flight miss can no longer reject any put
+            long oldest = inFlight.isEmpty() ? sequence : inFlight.firstKey();
+            versions.values().removeIf(version -> version <= oldest);
+        }
+    }
+
+    public synchronized void clear() {
+        clearedAt = ++sequence;
+        versions.clear();
+        entries.clear();
+        dependents.clear();
+        bytes = 0;
+    }
+
+    public synchronized long bytes() {
+        return bytes;
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    @EventListener
+    public void onAttendanceChanged(AttendanceChangedEvent event) {
+        // Cached reports only contain whole-day records
+        if (event.isPeriod()) {
+            return;
+        }
+        if (event.before() != null) {
+            invalidate(event.tenantId(), CacheDependencies.dateKey(event.before().date()));
+        }
+        if (event.after() != null) {
+            invalidate(event.tenantId(), CacheDependencies.dateKey(event.after().date()));
+        }
+        invalidate(event.tenantId(), CacheDependencies.ALL_ATTENDANCE);
+    }
+
+    @EventListener
+    public void onStudentChanged(StudentChangedEvent event) {
+        invalidate(event.tenantId(), CacheDependencies.studentKey(event.studentId()));
+        invalidate(event.tenantId(), CacheDependencies.STUDENT_LIST);
+    }
+
+    private boolean changedSince(Set<String> dependencies, long start) {
+        if (clearedAt > start) {
+            return true;
+        }
+        for (String dependency : dependencies) {
+            Long version = versions.get(dependency);
+            if (version != null && version > start) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void remove(String key) {
+        Entry entry = entries.remove(key);
+        if (entry != null) {
+            unindex(entry);
+        }
+    }
+
+    private void unindex(Entry entry) {
+        bytes -= entry.size();
+        for (String dependency : entry.dependencies()) {
+            Set<String> keys = dependents.get(dependency);
+            if (keys != null && keys.remove(entry.key()) && keys.isEmpty()) {
+                dependents.remove(dependency);
+            }
+        }
+    }
+
+    private static byte[] gzip(byte[] body) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(body.length / 4);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(body);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+}
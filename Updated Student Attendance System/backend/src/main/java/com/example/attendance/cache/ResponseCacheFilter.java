@@ -0,0 +1,108 @@
+package com.example.attendance.cache;
+
+import com.example.attendance.config.ResponseCacheProperties;
+import com.example.attendance.tenant.TenantContext;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.cors.CorsUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.IOException;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Serves configured GET endpoints from {@link ResponseCache}. On a miss the
+ * response body is captured and stored together with the dependencies the
+ * handler recorded through {@link CacheDependencies}; handlers that record
+ * nothing are never cached.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 20)
+public class ResponseCacheFilter extends OncePerRequestFilter {
+
+    private final ResponseCache cache;
+    private final ResponseCacheProperties properties;
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+    private final Counter hits;
+    private final Counter misses;
+
+    public ResponseCacheFilter(ResponseCache cache, ResponseCacheProperties properties, MeterRegistry meterRegistry) {
+        this.cache = cache;
+        this.properties = properties;
+        this.hits = meterRegistry.counter("attendance.response.cache.requests", "result", "hit");
+        this.misses = meterRegistry.counter("attendance.response.cache.requests", "result", "miss");
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        // Cross-origin requests need CORS headers from the filters further down the chain
+        return !properties.enabled()
+            || !"GET".equals(request.getMethod())
+            || CorsUtils.isCorsRequest(request)
+            || properties.paths().stream().noneMatch(path -> pathMatcher.match(path, request.getRequestURI()));
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+        throws ServletException, IOException {
+        String tenantId = TenantContext.current();
+        String key = tenantId + "|" + request.getRequestURI() + "?" + request.getQueryString()
+            + "|" + request.getHeader(HttpHeaders.ACCEPT);
+
+        ResponseCache.Entry entry = cache.get(key);
+        if (entry != null) {
+            hits.increment();
+            write(request, response, entry);
+            return;
+        }
+        misses.increment();
+
+        long start = cache.begin();
+        ContentCachingResponseWrapper wrapper = new ContentCachingResponseWrapper(response);
+        try {
+            CacheDependencies.begin();
+            Set<String> dependencies;
+            try {
+                chain.doFilter(request, wrapper);
+            } finally {
+                dependencies = CacheDependencies.end();
+            }
+
+            if (wrapper.getStatus() == HttpStatus.OK.value() && dependencies != null && !dependencies.isEmpty()) {
+                cache.put(key, wrapper.getContentType(), wrapper.getContentAsByteArray(),
+                    dependencies.stream().map(dependency -> tenantId + "|" + dependency).collect(Collectors.toSet()),
+                    start);
+            }
+        } finally {
+            cache.end(start);
+        }
+        wrapper.copyBodyToResponse();
+    }
+
+    private void write(HttpServletRequest request, HttpServletResponse response, ResponseCache.Entry entry)
+        throws IOException {
+        String acceptEncoding = request.getHeader(HttpHeaders.ACCEPT_ENCODING);
+        byte[] body = entry.body();
+        if (entry.gzipBody() != null && acceptEncoding != null && acceptEncoding.contains("gzip")) {
+            body = entry.gzipBody();
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        response.setHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        response.setStatus(HttpStatus.OK.value());
+        response.setContentType(entry.contentType());
+        response.setContentLength(body.length);
+        response.getOutputStream().write(body);
+    }
+}
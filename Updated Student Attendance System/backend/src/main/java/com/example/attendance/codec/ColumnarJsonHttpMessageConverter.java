@@ -0,0 +1,67 @@
+package com.example.attendance.codec;
+
+import com.example.attendance.dto.ApiResponse;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractGenericHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+
+/**
+ * Serves {@link ApiResponse} bodies as columnar JSON to clients that ask for
+ * {@value #MEDIA_TYPE_VALUE}.
+ */
+public class ColumnarJsonHttpMessageConverter extends AbstractGenericHttpMessageConverter<ApiResponse<?>> {
+
+    public static final String MEDIA_TYPE_VALUE = "application/vnd.attendance.columnar+json";
+    public static final MediaType MEDIA_TYPE = MediaType.parseMediaType(MEDIA_TYPE_VALUE);
+
+    private final ColumnarJsonWriter writer;
+
+    public ColumnarJsonHttpMessageConverter(ColumnarJsonWriter writer) {
+        super(MEDIA_TYPE);
+        this.writer = writer;
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return ApiResponse.class.isAssignableFrom(clazz);
+    }
+
+    /**
+     * Only for an explicit request: listed ahead of the JSON converter, it
+     * would otherwise also be chosen for wildcard Accept headers.
+     */
+    @Override
+    protected boolean canWrite(MediaType mediaType) {
+        return mediaType != null && mediaType.isConcrete() && MEDIA_TYPE.isCompatibleWith(mediaType);
+    }
+
+    @Override
+    public boolean canRead(Type type, Class<?> contextClass, MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    protected boolean canRead(MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    protected void writeInternal(ApiResponse<?> response, Type type, HttpOutputMessage outputMessage) throws IOException {
+        writer.write(response, outputMessage.getBody());
+    }
+
+    @Override
+    public ApiResponse<?> read(Type type, Class<?> contextClass, HttpInputMessage inputMessage) {
+        throw new HttpMessageNotReadableException("Columnar JSON is a response-only format", inputMessage);
+    }
+
+    @Override
+    protected ApiResponse<?> readInternal(Class<? extends ApiResponse<?>> clazz, HttpInputMessage inputMessage) {
+        throw new HttpMessageNotReadableException("Columnar JSON is a response-only format", inputMessage);
+    }
+}
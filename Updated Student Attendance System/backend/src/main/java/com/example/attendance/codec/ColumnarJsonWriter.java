@@ -0,0 +1,124 @@
+package com.example.attendance.codec;
+
+import com.example.attendance.dto.ApiResponse;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.data.domain.Page;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.RecordComponent;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Writes an {@link ApiResponse} whose data is a list (or page) of records with
+ * every record field sent once as an array:
+ * {@code {"success":true,"data":{"count":2,"columns":{"id":["a","b"],"status":["PRESENT","ABSENT"]}}}}.
+ * Any other payload is written as plain JSON.
+ */
+public class ColumnarJsonWriter {
+
+    private final ObjectMapper objectMapper;
+    private final Map<Class<?>, Method[]> accessors = new ConcurrentHashMap<>();
+
+    public ColumnarJsonWriter(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    public void write(ApiResponse<?> response, OutputStream out) throws IOException {
+        try (JsonGenerator generator = objectMapper.createGenerator(out)) {
+            generator.writeStartObject();
+            generator.writeBooleanField("success", response.success());
+            if (response.message() != null) {
+                generator.writeStringField("message", response.message());
+            }
+            if (response.data() != null) {
+                generator.writeFieldName("data");
+                writeData(generator, response.data());
+            }
+            if (response.error() != null) {
+                generator.writeStringField("error", response.error());
+            }
+            generator.writeEndObject();
+        }
+    }
+
+    private void writeData(JsonGenerator generator, Object data) throws IOException {
+        if (data instanceof List<?> list) {
+            writeColumns(generator, list);
+        } else if (data instanceof Page<?> page) {
+            generator.writeStartObject();
+            generator.writeFieldName("content");
+            writeColumns(generator, page.getContent());
+            generator.writeNumberField("totalElements", page.getTotalElements());
+            generator.writeNumberField("totalPages", page.getTotalPages());
+            generator.writeNumberField("number", page.getNumber());
+            generator.writeNumberField("size", page.getSize());
+            generator.writeEndObject();
+        } else {
+            generator.writeObject(data);
+        }
+    }
+
+    private void writeColumns(JsonGenerator generator, List<?> rows) throws IOException {
+        Class<?> type = rows.isEmpty() ? null : rows.get(0).getClass();
+        if (type == null || !type.isRecord() || rows.stream().anyMatch(row -> row.getClass() != type)) {
+            generator.writeObject(rows);
+            return;
+        }
+        Method[] methods = accessors.computeIfAbsent(type, ColumnarJsonWriter::recordAccessors);
+        RecordComponent[] components = type.getRecordComponents();
+
+        generator.writeStartObject();
+        generator.writeNumberField("count", rows.size());
+        generator.writeObjectFieldStart("columns");
+        for (int i = 0; i < methods.length; i++) {
+            generator.writeArrayFieldStart(components[i].getName());
+            for (Object row : rows) {
+                writeValue(generator, invoke(methods[i], row));
+            }
+            generator.writeEndArray();
+        }
+        generator.writeEndObject();
+        generator.writeEndObject();
+    }
+
+    private static void writeValue(JsonGenerator generator, Object value) throws IOException {
+        // Skip the serializer lookup for the common scalar column types
+        if (value == null) {
+            generator.writeNull();
+        } else if (value instanceof String string) {
+            generator.writeString(string);
+        } else if (value instanceof Integer number) {
+            generator.writeNumber(number);
+        } else if (value instanceof Long number) {
+            generator.writeNumber(number);
+        } else if (value instanceof Boolean bool) {
+            generator.writeBoolean(bool);
+        } else {
+            generator.writeObject(value);
+        }
+    }
+
+    private static Method[] recordAccessors(Class<?> type) {
+        RecordComponent[] components = type.getRecordComponents();
+        Method[] methods = new Method[components.length];
+        for (int i = 0; i < components.length; i++) {
+            methods[i] = components[i].getAccessor();
+            methods[i].setAccessible(true);
+        }
+        return methods;
+    }
+
+    private static Object invoke(Method accessor, Object row) {
+        try {
+            return accessor.invoke(row);
+        } catch (IllegalAccessException | InvocationTargetException e) {
+            throw new IllegalStateException("Cannot read " + accessor.getName() + " of " + row.getClass().getSimpleName(), e);
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package com.example.attendance.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties(prefix = "attendance.alerts")
+public record AlertProperties(
+    @DefaultValue("true") boolean lowPercentageEnabled,
+    @DefaultValue("75.0") double minPercentage,
+    @DefaultValue("5") long minDays,
+    @DefaultValue("true") boolean absenceStreakEnabled,
+    @DefaultValue("3") int absenceStreak,
+    @DefaultValue("30000") long snapshotIntervalMs
+) {}
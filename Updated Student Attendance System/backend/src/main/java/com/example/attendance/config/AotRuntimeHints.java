@@ -0,0 +1,49 @@
+package com.example.attendance.config;
+
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.ImportRuntimeHints;
+import org.springframework.util.ClassUtils;
+
+import java.util.List;
+
+/**
+ * Reflection hints for Spring AOT and native images. Mongo entities and
+ * aggregation projections are materialized reflectively, and DTO records are
+ * serialized by Jackson through the generic ApiResponse wrapper, which the AOT
+ * engine cannot see through on its own. The packages are scanned at build time
+ * so new types are covered without touching this class.
+ */
+@Configuration
+@ImportRuntimeHints(AotRuntimeHints.Registrar.class)
+public class AotRuntimeHints {
+
+    static final List<String> REFLECTIVE_PACKAGES = List.of(
+        "com.example.attendance.model",
+        "com.example.attendance.dto",
+        "com.example.attendance.event",
+        "com.example.attendance.repository"
+    );
+
+    static class Registrar implements RuntimeHintsRegistrar {
+        @Override
+        public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+            ClassPathScanningCandidateComponentProvider scanner = new ClassPathScanningCandidateComponentProvider(false);
+            scanner.addIncludeFilter((reader, factory) -> !reader.getClassMetadata().isInterface());
+
+            for (String basePackage : REFLECTIVE_PACKAGES) {
+                for (BeanDefinition candidate : scanner.findCandidateComponents(basePackage)) {
+                    Class<?> type = ClassUtils.resolveClassName(candidate.getBeanClassName(), classLoader);
+                    hints.reflection().registerType(type,
+                        MemberCategory.INVOKE_DECLARED_CONSTRUCTORS,
+                        MemberCategory.INVOKE_DECLARED_METHODS,
+                        MemberCategory.DECLARED_FIELDS);
+                }
+            }
+        }
+    }
+}
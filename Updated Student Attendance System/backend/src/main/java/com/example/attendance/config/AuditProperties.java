@@ -0,0 +1,24 @@
+package com.example.attendance.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * {@code overflowPolicy} decides what happens when the audit buffer is full:
+ * CALLER_RUNS writes the entry synchronously on the request thread, BLOCK waits
+ * up to {@code blockTimeoutMs} for space and then drops, DROP discards at once.
+ * {@code actorHeader} is recorded as sent and is not authenticated, so every
+ * entry also keeps the request's remote address.
+ */
+@ConfigurationProperties(prefix = "attendance.audit")
+public record AuditProperties(
+    @DefaultValue("true") boolean enabled,
+    @DefaultValue("8192") int capacity,
+    @DefaultValue("256") int batchSize,
+    @DefaultValue("50") long idleWaitMs,
+    @DefaultValue("CALLER_RUNS") OverflowPolicy overflowPolicy,
+    @DefaultValue("100") long blockTimeoutMs,
+    @DefaultValue("X-Actor") String actorHeader
+) {
+    public enum OverflowPolicy { CALLER_RUNS, BLOCK, DROP }
+}
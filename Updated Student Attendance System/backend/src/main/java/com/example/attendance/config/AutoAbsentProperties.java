@@ -0,0 +1,10 @@
+package com.example.attendance.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties(prefix = "attendance.auto-absent")
+public record AutoAbsentProperties(
+    @DefaultValue("true") boolean enabled,
+    @DefaultValue("0 55 23 * * *") String cron
+) {}
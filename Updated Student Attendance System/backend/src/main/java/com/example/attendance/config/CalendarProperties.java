@@ -0,0 +1,23 @@
+package com.example.attendance.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.DayOfWeek;
+import java.util.Set;
+
+/**
+ * {@code weeklyOffDays} applies until a calendar sets its own. Working days are
+ * compiled from {@code yearsBack} before to {@code yearsAhead} after the current
+ * year (widened to cover every term); days outside that window never count.
+ * Compiled calendars are checked against the stored {@code updatedAt} at most
+ * every {@code refreshIntervalMs}, so edits made through another instance take
+ * effect within that interval.
+ */
+@ConfigurationProperties(prefix = "attendance.calendar")
+public record CalendarProperties(
+    @DefaultValue("SUNDAY") Set<DayOfWeek> weeklyOffDays,
+    @DefaultValue("5") int yearsBack,
+    @DefaultValue("2") int yearsAhead,
+    @DefaultValue("30000") long refreshIntervalMs
+) {}
@@ -0,0 +1,39 @@
+package com.example.attendance.config;
+
+import com.example.attendance.limiter.ConcurrencyLimitInterceptor;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+public class ConcurrencyLimitConfig implements WebMvcConfigurer {
+    
+    private final ConcurrencyLimitInterceptor concurrencyLimitInterceptor;
+    private final ConcurrencyLimitProperties properties;
+    private final WorkloadProperties workloadProperties;
+    
+    public ConcurrencyLimitConfig(ConcurrencyLimitInterceptor concurrencyLimitInterceptor,
+                                  ConcurrencyLimitProperties properties,
+                                  WorkloadProperties workloadProperties) {
+        this.concurrencyLimitInterceptor = concurrencyLimitInterceptor;
+        this.properties = properties;
+        this.workloadProperties = workloadProperties;
+    }
+    
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        if (properties.enabled()) {
+            // Admin endpoints stay reachable under overload so operators can diagnose it
+            InterceptorRegistration registration = registry.addInterceptor(concurrencyLimitInterceptor)
+                .addPathPatterns("/api/**")
+                .excludePathPatterns(properties.excludedPaths())
+                .order(WorkloadConfig.INTERCEPTOR_ORDER + 1);
+            if (workloadProperties.enabled()) {
+                // Reports are capped by their bulkhead; their multi-second latencies would otherwise
+                // drive the reads limit down to its minimum and shed interactive reads
+                registration.excludePathPatterns(workloadProperties.reportPaths());
+            }
+        }
+    }
+}
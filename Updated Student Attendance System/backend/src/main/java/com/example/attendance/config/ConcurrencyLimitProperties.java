@@ -0,0 +1,25 @@
+package com.example.attendance.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.util.List;
+
+@ConfigurationProperties(prefix = "attendance.concurrency-limit")
+public record ConcurrencyLimitProperties(
+    @DefaultValue("true") boolean enabled,
+    @DefaultValue("1") int retryAfterSeconds,
+    @DefaultValue("2.0") double tolerance,
+    @DefaultValue("0.2") double smoothing,
+    @DefaultValue Limit reads,
+    @DefaultValue Limit writes,
+    @DefaultValue({"/api/admin/**"}) List<String> excludedPaths,
+    @DefaultValue({"/api/graphql"}) List<String> readPaths
+) {
+    
+    public record Limit(
+        @DefaultValue("20") int initialLimit,
+        @DefaultValue("4") int minLimit,
+        @DefaultValue("100") int maxLimit
+    ) {}
+}
@@ -0,0 +1,10 @@
+package com.example.attendance.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties(prefix = "attendance.concurrency")
+public record ConcurrencyProperties(
+    @DefaultValue("4") int maxAttempts,
+    @DefaultValue("5") long backoffMs
+) {}
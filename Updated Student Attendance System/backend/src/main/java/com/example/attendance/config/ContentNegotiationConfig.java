@@ -0,0 +1,50 @@
+package com.example.attendance.config;
+
+import com.example.attendance.codec.ColumnarJsonHttpMessageConverter;
+import com.example.attendance.codec.ColumnarJsonWriter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+
+/**
+ * Adds CBOR, Smile and columnar JSON as alternatives to plain JSON, selected by
+ * the Accept header. The default CBOR and Smile converters are replaced so the
+ * binary mappers share the spring.jackson.* settings, and the columnar
+ * converter goes first because the JSON converter also accepts
+ * {@code application/*+json} and would otherwise write plain JSON for it.
+ */
+@Configuration
+public class ContentNegotiationConfig implements WebMvcConfigurer {
+    
+    private final ObjectProvider<Jackson2ObjectMapperBuilder> builders;
+    private final ObjectMapper objectMapper;
+    
+    public ContentNegotiationConfig(ObjectProvider<Jackson2ObjectMapperBuilder> builders, ObjectMapper objectMapper) {
+        this.builders = builders;
+        this.objectMapper = objectMapper;
+    }
+    
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        replace(converters, MappingJackson2CborHttpMessageConverter.class, new MappingJackson2CborHttpMessageConverter(
+            builders.getObject().factory(new CBORFactory()).build()));
+        replace(converters, MappingJackson2SmileHttpMessageConverter.class, new MappingJackson2SmileHttpMessageConverter(
+            builders.getObject().factory(new SmileFactory()).build()));
+        converters.add(0, new ColumnarJsonHttpMessageConverter(new ColumnarJsonWriter(objectMapper)));
+    }
+    
+    private static void replace(List<HttpMessageConverter<?>> converters, Class<?> type,
+                                HttpMessageConverter<?> replacement) {
+        converters.removeIf(type::isInstance);
+        converters.add(replacement);
+    }
+}
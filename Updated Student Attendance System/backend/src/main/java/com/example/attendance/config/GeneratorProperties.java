@@ -0,0 +1,30 @@
+package com.example.attendance.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Settings of the synthetic dataset generator (profile {@code generate}).
+ * {@code endDate} defaults to yesterday and {@code writerThreads} of 0 uses
+ * one writer per available processor.
+ */
+@ConfigurationProperties(prefix = "attendance.generator")
+public record GeneratorProperties(
+    @DefaultValue("1000") int students,
+    @DefaultValue("3") int years,
+    LocalDate endDate,
+    @DefaultValue("42") long seed,
+    @DefaultValue({"Computer Science", "Information Technology", "Electronics", "Electrical",
+        "Mechanical", "Civil", "Chemical", "Biotechnology"})
+    List<String> departments,
+    @DefaultValue("0.97") double activeRatio,
+    @DefaultValue("0.01") double unmarkedRatio,
+    @DefaultValue("0") int writerThreads,
+    @DefaultValue("5000") int batchSize,
+    @DefaultValue("false") boolean dropExisting,
+    String tenant,
+    @DefaultValue("true") boolean exitOnCompletion
+) {}
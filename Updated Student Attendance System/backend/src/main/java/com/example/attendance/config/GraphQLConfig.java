@@ -0,0 +1,104 @@
+package com.example.attendance.config;
+
+import graphql.GraphQLContext;
+import graphql.analysis.FieldComplexityCalculator;
+import graphql.analysis.MaxQueryComplexityInstrumentation;
+import graphql.analysis.MaxQueryDepthInstrumentation;
+import graphql.execution.CoercedVariables;
+import graphql.language.StringValue;
+import graphql.language.Value;
+import graphql.schema.Coercing;
+import graphql.schema.CoercingParseLiteralException;
+import graphql.schema.CoercingParseValueException;
+import graphql.schema.CoercingSerializeException;
+import graphql.schema.GraphQLList;
+import graphql.schema.GraphQLNonNull;
+import graphql.schema.GraphQLScalarType;
+import graphql.schema.GraphQLType;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.graphql.execution.RuntimeWiringConfigurer;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Locale;
+
+@Configuration
+public class GraphQLConfig {
+    
+    private final GraphQLProperties properties;
+    
+    public GraphQLConfig(GraphQLProperties properties) {
+        this.properties = properties;
+    }
+    
+    @Bean
+    public RuntimeWiringConfigurer dateScalarConfigurer() {
+        GraphQLScalarType date = GraphQLScalarType.newScalar()
+            .name("Date")
+            .description("ISO-8601 calendar date")
+            .coercing(new DateCoercing())
+            .build();
+        return wiring -> wiring.scalar(date);
+    }
+    
+    @Bean
+    public MaxQueryDepthInstrumentation maxQueryDepthInstrumentation() {
+        return new MaxQueryDepthInstrumentation(properties.maxDepth());
+    }
+    
+    // Rejects a query before any data is fetched when its estimated result size is too large
+    @Bean
+    public MaxQueryComplexityInstrumentation maxQueryComplexityInstrumentation() {
+        FieldComplexityCalculator calculator = (env, childComplexity) -> {
+            int complexity = 1 + childComplexity;
+            if (!isList(env.getFieldDefinition().getType())) {
+                return complexity;
+            }
+            Object limit = env.getArguments().get("limit");
+            int size = limit instanceof Integer requested
+                ? Math.max(1, Math.min(requested, properties.maxLimit()))
+                : properties.defaultListSize();
+            return (int) Math.min((long) complexity * size, Integer.MAX_VALUE);
+        };
+        return new MaxQueryComplexityInstrumentation(properties.maxComplexity(), calculator);
+    }
+    
+    private static boolean isList(GraphQLType type) {
+        GraphQLType unwrapped = type instanceof GraphQLNonNull nonNull ? nonNull.getWrappedType() : type;
+        return unwrapped instanceof GraphQLList;
+    }
+    
+    private static final class DateCoercing implements Coercing<LocalDate, String> {
+        
+        @Override
+        public String serialize(Object value, GraphQLContext context, Locale locale) {
+            if (value instanceof LocalDate date) {
+                return date.toString();
+            }
+            throw new CoercingSerializeException("Expected a LocalDate but was " + value);
+        }
+        
+        @Override
+        public LocalDate parseValue(Object input, GraphQLContext context, Locale locale) {
+            try {
+                return LocalDate.parse(input.toString());
+            } catch (DateTimeParseException e) {
+                throw new CoercingParseValueException("Invalid date '" + input + "', expected yyyy-MM-dd");
+            }
+        }
+        
+        @Override
+        public LocalDate parseLiteral(Value<?> input, CoercedVariables variables, GraphQLContext context,
+                                      Locale locale) {
+            if (input instanceof StringValue string) {
+                try {
+                    return LocalDate.parse(string.getValue());
+                } catch (DateTimeParseException e) {
+                    throw new CoercingParseLiteralException("Invalid date '" + string.getValue() + "', expected yyyy-MM-dd");
+                }
+            }
+            throw new CoercingParseLiteralException("Expected a date string");
+        }
+    }
+}
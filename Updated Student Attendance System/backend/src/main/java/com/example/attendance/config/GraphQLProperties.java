@@ -0,0 +1,17 @@
+package com.example.attendance.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Query limits of the GraphQL endpoint. Complexity counts one per selected
+ * field, with list fields multiplied by their {@code limit} argument (capped at
+ * {@code maxLimit}) or by {@code defaultListSize} when they have none.
+ */
+@ConfigurationProperties(prefix = "attendance.graphql")
+public record GraphQLProperties(
+    @DefaultValue("8") int maxDepth,
+    @DefaultValue("5000") int maxComplexity,
+    @DefaultValue("20") int defaultListSize,
+    @DefaultValue("1000") int maxLimit
+) {}
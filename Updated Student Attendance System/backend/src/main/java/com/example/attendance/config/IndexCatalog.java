@@ -0,0 +1,114 @@
+package com.example.attendance.config;
+
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.index.Index;
+import org.springframework.data.mongodb.core.index.PartialIndexFilter;
+import org.springframework.data.mongodb.core.query.Collation;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+
+/**
+ * Single source of truth for the MongoDB indexes the application needs.
+ * Entities no longer carry index annotations; IndexManagementService builds
+ * the unique ones before requests are served and anything else missing from
+ * this list in the background after startup.
+ */
+@Component
+public class IndexCatalog {
+
+    public static final Collation DEPARTMENT_COLLATION = Collation.of("en").strength(Collation.ComparisonLevel.secondary());
+
+    public record RequiredIndex(String collection, String name, Index definition) {
+        public boolean unique() {
+            return Boolean.TRUE.equals(definition.getIndexOptions().get("unique"));
+        }
+    }
+
+    public record ObsoleteIndex(String collection, String name, String replacedBy) {}
+
+    private final List<RequiredIndex> indexes = List.of(
+        // students
+        index("students", "rollNumber_unique_idx", new Index()
+            .on("rollNumber", Sort.Direction.ASC)
+            .unique()),
+        index("students", "department_year_idx", new Index()
+            .on("department", Sort.Direction.ASC)
+            .on("year", Sort.Direction.ASC)
+            .collation(DEPARTMENT_COLLATION)),
+        index("students", "active_students_idx", new Index()
+            .on("active", Sort.Direction.ASC)
+            .on("name", Sort.Direction.ASC)
+            .partial(PartialIndexFilter.of(where("active").is(true)))),
+
+        // attendance
+        // One whole-day record (period null) or one record per period per student and date
+        index("attendance", "student_date_period_idx", new Index()
+            .on("studentId", Sort.Direction.ASC)
+            .on("date", Sort.Direction.ASC)
+            .on("period", Sort.Direction.ASC)
+            .unique()),
+        index("attendance", "section_date_period_idx", new Index()
+            .on("sectionId", Sort.Direction.ASC)
+            .on("date", Sort.Direction.ASC)
+            .on("period", Sort.Direction.ASC)
+            .partial(PartialIndexFilter.of(where("sectionId").exists(true)))),
+        index("attendance", "date_status_idx", new Index()
+            .on("date", Sort.Direction.ASC)
+            .on("status", Sort.Direction.ASC)),
+        index("attendance", "date_student_idx", new Index()
+            .on("date", Sort.Direction.ASC)
+            .on("studentId", Sort.Direction.ASC)),
+        index("attendance", "student_status_date_idx", new Index()
+            .on("studentId", Sort.Direction.ASC)
+            .on("status", Sort.Direction.ASC)
+            .on("date", Sort.Direction.DESC)),
+
+        // alerts and background jobs
+        index("attendance_alerts", "student_rule_active_idx", new Index()
+            .on("studentId", Sort.Direction.ASC)
+            .on("rule", Sort.Direction.ASC)
+            .on("active", Sort.Direction.ASC)),
+        index("attendance_alerts", "active_alerts_idx", new Index()
+            .on("active", Sort.Direction.ASC)
+            .partial(PartialIndexFilter.of(where("active").is(true)))),
+        index("purge_jobs", "status_created_idx", new Index()
+            .on("status", Sort.Direction.ASC)
+            .on("createdAt", Sort.Direction.ASC)),
+
+        // audit trail
+        index("attendance_audit", "audit_student_date_idx", new Index()
+            .on("studentId", Sort.Direction.ASC)
+            .on("date", Sort.Direction.ASC)
+            .on("timestamp", Sort.Direction.DESC)),
+        index("attendance_audit", "audit_attendance_idx", new Index()
+            .on("attendanceId", Sort.Direction.ASC)
+            .on("timestamp", Sort.Direction.ASC)),
+
+        // sections
+        index("sections", "section_name_unique_idx", new Index()
+            .on("name", Sort.Direction.ASC)
+            .unique()),
+        index("sections", "section_students_idx", new Index()
+            .on("studentIds", Sort.Direction.ASC))
+    );
+
+    // Superseded indexes, dropped once their replacement is built so uniqueness is never missing in between
+    private final List<ObsoleteIndex> obsoleteIndexes = List.of(
+        new ObsoleteIndex("attendance", "student_date_idx", "student_date_period_idx")
+    );
+
+    public List<RequiredIndex> getIndexes() {
+        return indexes;
+    }
+
+    public List<ObsoleteIndex> getObsoleteIndexes() {
+        return obsoleteIndexes;
+    }
+
+    private static RequiredIndex index(String collection, String name, Index definition) {
+        return new RequiredIndex(collection, name, definition.named(name).background());
+    }
+}
@@ -0,0 +1,13 @@
+package com.example.attendance.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties(prefix = "attendance.profiling")
+public record ProfilingProperties(
+    String directory,
+    @DefaultValue("2") int maxActive,
+    @DefaultValue("10") int retained,
+    @DefaultValue("600") long maxDurationSeconds,
+    @DefaultValue("256") long maxSizeMb
+) {}
@@ -0,0 +1,11 @@
+package com.example.attendance.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties(prefix = "attendance.purge")
+public record PurgeProperties(
+    @DefaultValue("false") boolean archive,
+    @DefaultValue("500") int batchSize,
+    @DefaultValue("200") long batchDelayMs
+) {}
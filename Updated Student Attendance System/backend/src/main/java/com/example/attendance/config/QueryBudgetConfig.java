@@ -0,0 +1,33 @@
+package com.example.attendance.config;
+
+import com.example.attendance.querybudget.QueryBudgetInterceptor;
+import com.example.attendance.querybudget.QueryCountingCommandListener;
+import org.springframework.boot.autoconfigure.mongo.MongoClientSettingsBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+public class QueryBudgetConfig implements WebMvcConfigurer {
+    
+    private final QueryBudgetInterceptor queryBudgetInterceptor;
+    private final QueryBudgetProperties properties;
+    
+    public QueryBudgetConfig(QueryBudgetInterceptor queryBudgetInterceptor, QueryBudgetProperties properties) {
+        this.queryBudgetInterceptor = queryBudgetInterceptor;
+        this.properties = properties;
+    }
+    
+    @Bean
+    public MongoClientSettingsBuilderCustomizer queryCountingCustomizer() {
+        return settings -> settings.addCommandListener(new QueryCountingCommandListener());
+    }
+    
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        if (properties.enabled()) {
+            registry.addInterceptor(queryBudgetInterceptor);
+        }
+    }
+}
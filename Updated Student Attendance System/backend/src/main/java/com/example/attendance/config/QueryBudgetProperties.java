@@ -0,0 +1,19 @@
+package com.example.attendance.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.util.List;
+
+@ConfigurationProperties(prefix = "attendance.query-budget")
+public record QueryBudgetProperties(
+    @DefaultValue("true") boolean enabled,
+    @DefaultValue("false") boolean enforce,
+    @DefaultValue("20") int defaultMaxQueries,
+    @DefaultValue("X-Query-Count") String header,
+    @DefaultValue List<Budget> budgets
+) {
+    
+    // endpoint is the HTTP method and the mapped pattern, e.g. "GET /api/attendance/date/{date}"
+    public record Budget(String endpoint, int maxQueries) {}
+}
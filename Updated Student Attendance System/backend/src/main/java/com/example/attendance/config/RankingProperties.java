@@ -0,0 +1,21 @@
+package com.example.attendance.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@ConfigurationProperties(prefix = "attendance.ranking")
+public record RankingProperties(
+    @DefaultValue("20") int defaultLimit,
+    @DefaultValue("100") int maxLimit,
+    @DefaultValue List<Term> terms
+) {
+    public record Term(
+        String name,
+        @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+        @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate
+    ) {}
+}
@@ -0,0 +1,17 @@
+package com.example.attendance.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.util.Map;
+
+/**
+ * Routing of report reads to replica set secondaries. {@code endpoints} switches
+ * individual report endpoints back to the primary (e.g. {@code endpoints.history=false}).
+ */
+@ConfigurationProperties(prefix = "attendance.read-routing")
+public record ReadRoutingProperties(
+    @DefaultValue("false") boolean enabled,
+    @DefaultValue("90") long maxStalenessSeconds,
+    @DefaultValue Map<String, Boolean> endpoints
+) {}
@@ -0,0 +1,17 @@
+package com.example.attendance.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.util.List;
+
+@ConfigurationProperties(prefix = "attendance.response-cache")
+public record ResponseCacheProperties(
+    @DefaultValue("true") boolean enabled,
+    @DefaultValue("33554432") long maxBytes,
+    @DefaultValue("true") boolean gzip,
+    @DefaultValue("1024") int gzipMinBytes,
+    @DefaultValue("92") int maxTrackedDays,
+    @DefaultValue({"/api/attendance/range", "/api/attendance/status/*", "/api/attendance/date/*", "/api/students"})
+    List<String> paths
+) {}
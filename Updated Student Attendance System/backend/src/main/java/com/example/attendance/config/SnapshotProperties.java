@@ -0,0 +1,11 @@
+package com.example.attendance.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties(prefix = "attendance.snapshot")
+public record SnapshotProperties(
+    @DefaultValue("true") boolean backfillOnStartup,
+    @DefaultValue("1000") int batchSize,
+    @DefaultValue("20") long batchDelayMs
+) {}
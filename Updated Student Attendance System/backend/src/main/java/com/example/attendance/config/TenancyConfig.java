@@ -0,0 +1,58 @@
+package com.example.attendance.config;
+
+import com.example.attendance.tenant.TenantMongoCommandTagsProvider;
+import com.example.attendance.tenant.TenantRegistry;
+import com.example.attendance.tenant.TenantRoutingMongoDatabaseFactory;
+import com.mongodb.MongoClientSettings;
+import com.mongodb.client.MongoClient;
+import io.micrometer.core.instrument.binder.mongodb.MongoCommandTagsProvider;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.mongo.MongoClientFactory;
+import org.springframework.boot.autoconfigure.mongo.MongoClientSettingsBuilderCustomizer;
+import org.springframework.boot.autoconfigure.mongo.MongoConnectionDetails;
+import org.springframework.boot.autoconfigure.mongo.MongoProperties;
+import org.springframework.boot.autoconfigure.mongo.PropertiesMongoConnectionDetails;
+import org.springframework.boot.autoconfigure.mongo.StandardMongoClientSettingsBuilderCustomizer;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.ssl.SslBundles;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.mongodb.MongoDatabaseFactory;
+
+@Configuration
+@EnableConfigurationProperties(MongoProperties.class)
+public class TenancyConfig {
+    
+    // Boot backs off its whole Mongo client setup when a MongoDatabaseFactory is defined, so it is
+    // rebuilt here from the same parts: every spring.data.mongodb.* property (uri or host/port/
+    // credentials/replica set, uuid representation, ssl) plus the registered settings customizers
+    @Bean
+    @ConditionalOnMissingBean(MongoConnectionDetails.class)
+    public PropertiesMongoConnectionDetails mongoConnectionDetails(MongoProperties properties) {
+        return new PropertiesMongoConnectionDetails(properties);
+    }
+    
+    @Bean
+    public StandardMongoClientSettingsBuilderCustomizer standardMongoSettingsCustomizer(
+        MongoProperties properties, MongoConnectionDetails connectionDetails, ObjectProvider<SslBundles> sslBundles) {
+        return new StandardMongoClientSettingsBuilderCustomizer(connectionDetails.getConnectionString(),
+            properties.getUuidRepresentation(), properties.getSsl(), sslBundles.getIfAvailable());
+    }
+    
+    @Bean
+    public MongoClient mongoClient(ObjectProvider<MongoClientSettingsBuilderCustomizer> customizers) {
+        return new MongoClientFactory(customizers.orderedStream().toList())
+            .createMongoClient(MongoClientSettings.builder().build());
+    }
+    
+    @Bean
+    public MongoDatabaseFactory mongoDatabaseFactory(MongoClient mongoClient, TenantRegistry tenantRegistry) {
+        return new TenantRoutingMongoDatabaseFactory(mongoClient, tenantRegistry);
+    }
+    
+    @Bean
+    public MongoCommandTagsProvider mongoCommandTagsProvider() {
+        return new TenantMongoCommandTagsProvider();
+    }
+}
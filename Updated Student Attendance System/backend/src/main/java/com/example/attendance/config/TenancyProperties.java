@@ -0,0 +1,24 @@
+package com.example.attendance.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.util.Map;
+
+@ConfigurationProperties(prefix = "attendance.tenancy")
+public record TenancyProperties(
+    @DefaultValue("false") boolean enabled,
+    @DefaultValue("X-Tenant-ID") String header,
+    @DefaultValue("default") String defaultTenant,
+    @DefaultValue Map<String, Tenant> tenants
+) {
+    /**
+     * A campus with its own database. {@code uri} and {@code maxPoolSize} are
+     * optional; when either is set the tenant gets a dedicated connection pool.
+     */
+    public record Tenant(
+        String database,
+        String uri,
+        Integer maxPoolSize
+    ) {}
+}
@@ -0,0 +1,20 @@
+package com.example.attendance.config;
+
+import io.micrometer.observation.ObservationRegistry;
+import org.springframework.boot.autoconfigure.mongo.MongoClientSettingsBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.mongodb.observability.ContextProviderFactory;
+import org.springframework.data.mongodb.observability.MongoObservationCommandListener;
+
+@Configuration
+public class TracingConfig {
+    
+    // Every Mongo command becomes a span under whatever observation is current on the calling thread
+    @Bean
+    public MongoClientSettingsBuilderCustomizer mongoObservationCustomizer(ObservationRegistry observationRegistry) {
+        return settings -> settings
+            .contextProvider(ContextProviderFactory.create(observationRegistry))
+            .addCommandListener(new MongoObservationCommandListener(observationRegistry));
+    }
+}
@@ -0,0 +1,12 @@
+package com.example.attendance.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties(prefix = "attendance.tracing")
+public record TracingProperties(
+    @DefaultValue("1000") int recentCapacity,
+    @DefaultValue("500") int maxSpansPerTrace,
+    @DefaultValue("60") long pendingTimeoutSeconds,
+    @DefaultValue("X-Trace-Id") String responseHeader
+) {}
@@ -0,0 +1,31 @@
+package com.example.attendance.config;
+
+import com.example.attendance.workload.BulkheadInterceptor;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+public class WorkloadConfig implements WebMvcConfigurer {
+    
+    // Ahead of the concurrency limiter, so bulkhead rejections never reach it as failed requests
+    static final int INTERCEPTOR_ORDER = -10;
+    
+    private final BulkheadInterceptor bulkheadInterceptor;
+    private final WorkloadProperties properties;
+    
+    public WorkloadConfig(BulkheadInterceptor bulkheadInterceptor, WorkloadProperties properties) {
+        this.bulkheadInterceptor = bulkheadInterceptor;
+        this.properties = properties;
+    }
+    
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        if (properties.enabled()) {
+            registry.addInterceptor(bulkheadInterceptor)
+                .addPathPatterns("/api/**")
+                .excludePathPatterns("/api/admin/**")
+                .order(INTERCEPTOR_ORDER);
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.example.attendance.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.util.List;
+
+/**
+ * Bulkheads per workload class. {@code maxConcurrent} is also the class's
+ * connection budget, since a request holds at most one pooled connection at a
+ * time; the three budgets together should stay below the Mongo pool size.
+ */
+@ConfigurationProperties(prefix = "attendance.workload")
+public record WorkloadProperties(
+    @DefaultValue("true") boolean enabled,
+    @DefaultValue("1") int retryAfterSeconds,
+    @DefaultValue Bulkhead writes,
+    @DefaultValue Bulkhead reads,
+    @DefaultValue Bulkhead reports,
+    @DefaultValue({"/api/attendance/range", "/api/attendance/status/**", "/api/attendance/student/*/range",
+        "/api/attendance/student/*/stats/range", "/api/graphql"})
+    List<String> reportPaths
+) {
+    
+    public record Bulkhead(
+        @DefaultValue("20") int maxConcurrent,
+        @DefaultValue("0") long maxWaitMs,
+        @DefaultValue("5000") long queryTimeoutMs
+    ) {}
+}
@@ -0,0 +1,57 @@
+package com.example.attendance.controller;
+
+import com.example.attendance.dto.AcademicCalendarDTO;
+import com.example.attendance.dto.ApiResponse;
+import com.example.attendance.dto.UpdateCalendarRequest;
+import com.example.attendance.dto.WorkingDaysDTO;
+import com.example.attendance.service.AcademicCalendarService;
+import jakarta.validation.Valid;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/calendars")
+public class AcademicCalendarController {
+    
+    private final AcademicCalendarService calendarService;
+    
+    public AcademicCalendarController(AcademicCalendarService calendarService) {
+        this.calendarService = calendarService;
+    }
+    
+    @GetMapping
+    public ResponseEntity<ApiResponse<List<AcademicCalendarDTO>>> getCalendars() {
+        return ResponseEntity.ok(ApiResponse.success(calendarService.getCalendars()));
+    }
+    
+    @GetMapping("/working-days")
+    public ResponseEntity<ApiResponse<WorkingDaysDTO>> getWorkingDays(
+        @RequestParam(required = false) String department,
+        @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+        @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate) {
+        return ResponseEntity.ok(ApiResponse.success(calendarService.getWorkingDays(department, startDate, endDate)));
+    }
+    
+    @GetMapping("/{department}")
+    public ResponseEntity<ApiResponse<AcademicCalendarDTO>> getCalendar(@PathVariable String department) {
+        return ResponseEntity.ok(ApiResponse.success(calendarService.getCalendar(department)));
+    }
+    
+    @PutMapping("/{department}")
+    public ResponseEntity<ApiResponse<AcademicCalendarDTO>> updateCalendar(
+        @PathVariable String department,
+        @Valid @RequestBody UpdateCalendarRequest request) {
+        AcademicCalendarDTO calendar = calendarService.updateCalendar(department, request);
+        return ResponseEntity.ok(ApiResponse.success("Calendar updated successfully", calendar));
+    }
+    
+    @DeleteMapping("/{department}")
+    public ResponseEntity<ApiResponse<Void>> deleteCalendar(@PathVariable String department) {
+        calendarService.deleteCalendar(department);
+        return ResponseEntity.ok(ApiResponse.success("Calendar deleted successfully", null));
+    }
+}
@@ -0,0 +1,45 @@
+package com.example.attendance.controller;
+
+import com.example.attendance.dto.ApiResponse;
+import com.example.attendance.dto.AtRiskStudentDTO;
+import com.example.attendance.dto.AttendanceAlertDTO;
+import com.example.attendance.model.Student;
+import com.example.attendance.service.AlertService;
+import com.example.attendance.service.StudentService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/alerts")
+public class AlertController {
+    
+    private final AlertService alertService;
+    private final StudentService studentService;
+    
+    public AlertController(AlertService alertService, StudentService studentService) {
+        this.alertService = alertService;
+        this.studentService = studentService;
+    }
+    
+    @GetMapping("/at-risk")
+    public ResponseEntity<ApiResponse<List<AtRiskStudentDTO>>> getAtRiskStudents(
+        @RequestParam(required = false) String department) {
+        List<AtRiskStudentDTO> students = alertService.getAtRiskStudents(department);
+        return ResponseEntity.ok(ApiResponse.success(students));
+    }
+    
+    @GetMapping("/student/{rollNumber}")
+    public ResponseEntity<ApiResponse<List<AttendanceAlertDTO>>> getStudentAlerts(@PathVariable String rollNumber) {
+        Student student = studentService.getStudentEntityByRollNumber(rollNumber);
+        List<AttendanceAlertDTO> alerts = alertService.getAlertsForStudent(student.getId());
+        return ResponseEntity.ok(ApiResponse.success(alerts));
+    }
+    
+    @PostMapping("/rebuild")
+    public ResponseEntity<ApiResponse<Void>> rebuild() {
+        alertService.rebuild();
+        return ResponseEntity.ok(ApiResponse.success("Alert state rebuilt successfully", null));
+    }
+}
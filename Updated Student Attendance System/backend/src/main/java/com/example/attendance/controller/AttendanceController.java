@@ -1,8 +1,10 @@
 package com.example.attendance.controller;
 
+import com.example.attendance.cache.CacheDependencies;
 import com.example.attendance.dto.*;
 import com.example.attendance.model.Attendance;
 import com.example.attendance.service.AttendanceService;
+import com.example.attendance.service.UnmarkedAttendanceService;
 import jakarta.validation.Valid;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -13,15 +15,20 @@ import org.springframework.web.bind.annotation.*;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 @RestController
 @RequestMapping("/api/attendance")
 public class AttendanceController {
     
     private final AttendanceService attendanceService;
+    private final UnmarkedAttendanceService unmarkedAttendanceService;
     
-    public AttendanceController(AttendanceService attendanceService) {
+    public AttendanceController(AttendanceService attendanceService,
+                                UnmarkedAttendanceService unmarkedAttendanceService) {
         this.attendanceService = attendanceService;
+        this.unmarkedAttendanceService = unmarkedAttendanceService;
     }
     
     @PostMapping("/mark")
@@ -51,6 +58,8 @@ public class AttendanceController {
     public ResponseEntity<ApiResponse<List<AttendanceDTO>>> getAttendanceForDate(
         @PathVariable @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date) {
         List<AttendanceDTO> attendance = attendanceService.getAttendanceForDate(date);
+        CacheDependencies.date(date);
+        CacheDependencies.students(studentIds(attendance));
         return ResponseEntity.ok(ApiResponse.success(attendance));
     }
     
@@ -73,6 +82,8 @@ public class AttendanceController {
         @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
         @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate) {
         List<AttendanceDTO> attendance = attendanceService.getAttendanceByDateRange(startDate, endDate);
+        CacheDependencies.dates(startDate, endDate);
+        CacheDependencies.students(studentIds(attendance));
         return ResponseEntity.ok(ApiResponse.success(attendance));
     }
     
@@ -83,6 +94,17 @@ public class AttendanceController {
         return ResponseEntity.ok(ApiResponse.success(history));
     }
     
+    @GetMapping("/student/{rollNumber}/compact")
+    public ResponseEntity<ApiResponse<CompactAttendanceHistoryDTO>> getCompactStudentHistory(
+        @PathVariable String rollNumber,
+        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+        @RequestParam(defaultValue = "false") boolean includeIds) {
+        CompactAttendanceHistoryDTO history = attendanceService.getCompactStudentHistory(
+            rollNumber, startDate, endDate, includeIds);
+        return ResponseEntity.ok(ApiResponse.success(history));
+    }
+    
     @GetMapping("/student/{rollNumber}/range")
     public ResponseEntity<ApiResponse<StudentAttendanceHistoryDTO>> getStudentAttendanceHistoryByRange(
         @PathVariable String rollNumber,
@@ -116,6 +138,28 @@ public class AttendanceController {
         @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
         @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate) {
         List<AttendanceDTO> attendance = attendanceService.getAttendanceByStatus(startDate, endDate, status);
+        CacheDependencies.dates(startDate, endDate);
+        CacheDependencies.students(studentIds(attendance));
         return ResponseEntity.ok(ApiResponse.success(attendance));
     }
+    
+    @GetMapping("/unmarked")
+    public ResponseEntity<ApiResponse<UnmarkedStudentsDTO>> getUnmarkedStudents(
+        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+        @RequestParam(required = false) String department) {
+        UnmarkedStudentsDTO unmarked = unmarkedAttendanceService.getUnmarkedStudents(
+            date != null ? date : LocalDate.now(), department);
+        return ResponseEntity.ok(ApiResponse.success(unmarked));
+    }
+    
+    @PostMapping("/unmarked/mark-absent")
+    public ResponseEntity<ApiResponse<AutoAbsentResultDTO>> markUnmarkedAbsent(
+        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date) {
+        AutoAbsentResultDTO result = unmarkedAttendanceService.markUnmarkedAbsent(date != null ? date : LocalDate.now());
+        return ResponseEntity.ok(ApiResponse.success("Unmarked students marked absent", result));
+    }
+    
+    private static Set<String> studentIds(List<AttendanceDTO> attendance) {
+        return attendance.stream().map(AttendanceDTO::studentId).collect(Collectors.toSet());
+    }
 }
\ No newline at end of file
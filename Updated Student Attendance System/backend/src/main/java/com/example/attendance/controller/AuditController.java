@@ -0,0 +1,45 @@
+package com.example.attendance.controller;
+
+import com.example.attendance.dto.ApiResponse;
+import com.example.attendance.dto.AttendanceAuditDTO;
+import com.example.attendance.model.Student;
+import com.example.attendance.service.AttendanceAuditService;
+import com.example.attendance.service.StudentService;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.web.PageableDefault;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/audit")
+public class AuditController {
+    
+    private final AttendanceAuditService auditService;
+    private final StudentService studentService;
+    
+    public AuditController(AttendanceAuditService auditService, StudentService studentService) {
+        this.auditService = auditService;
+        this.studentService = studentService;
+    }
+    
+    @GetMapping("/student/{rollNumber}")
+    public ResponseEntity<ApiResponse<Page<AttendanceAuditDTO>>> getStudentAudit(
+        @PathVariable String rollNumber,
+        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+        @PageableDefault(size = 50, sort = "timestamp", direction = Sort.Direction.DESC) Pageable pageable) {
+        Student student = studentService.getStudentEntityByRollNumber(rollNumber);
+        return ResponseEntity.ok(ApiResponse.success(auditService.getStudentAudit(student, startDate, endDate, pageable)));
+    }
+    
+    @GetMapping("/attendance/{id}")
+    public ResponseEntity<ApiResponse<List<AttendanceAuditDTO>>> getAttendanceAudit(@PathVariable String id) {
+        return ResponseEntity.ok(ApiResponse.success(auditService.getAttendanceAudit(id)));
+    }
+}
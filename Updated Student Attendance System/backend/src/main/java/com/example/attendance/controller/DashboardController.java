@@ -0,0 +1,25 @@
+package com.example.attendance.controller;
+
+import com.example.attendance.dto.ApiResponse;
+import com.example.attendance.dto.DashboardSummaryDTO;
+import com.example.attendance.service.DashboardService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/dashboard")
+public class DashboardController {
+    
+    private final DashboardService dashboardService;
+    
+    public DashboardController(DashboardService dashboardService) {
+        this.dashboardService = dashboardService;
+    }
+    
+    @GetMapping("/summary")
+    public ResponseEntity<ApiResponse<DashboardSummaryDTO>> getSummary() {
+        return ResponseEntity.ok(ApiResponse.success(dashboardService.getSummary()));
+    }
+}
@@ -0,0 +1,39 @@
+package com.example.attendance.controller;
+
+import com.example.attendance.dto.ApiResponse;
+import com.example.attendance.dto.IndexReportDTO;
+import com.example.attendance.service.IndexManagementService;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/admin/indexes")
+public class IndexAdminController {
+    
+    private final IndexManagementService indexManagementService;
+    
+    public IndexAdminController(IndexManagementService indexManagementService) {
+        this.indexManagementService = indexManagementService;
+    }
+    
+    @GetMapping
+    public ResponseEntity<ApiResponse<List<IndexReportDTO>>> getIndexReport(
+        @RequestParam(required = false) Boolean unusedOnly) {
+        List<IndexReportDTO> report = indexManagementService.getIndexReport();
+        if (unusedOnly != null && unusedOnly) {
+            report = report.stream().filter(IndexReportDTO::unused).toList();
+        }
+        return ResponseEntity.ok(ApiResponse.success(report));
+    }
+    
+    @PostMapping("/build")
+    public ResponseEntity<ApiResponse<Void>> buildIndexes() {
+        indexManagementService.scheduleBuild();
+        return ResponseEntity
+            .status(HttpStatus.ACCEPTED)
+            .body(ApiResponse.success("Index build started", null));
+    }
+}
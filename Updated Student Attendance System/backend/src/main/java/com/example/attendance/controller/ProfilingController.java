@@ -0,0 +1,73 @@
+package com.example.attendance.controller;
+
+import com.example.attendance.dto.ApiResponse;
+import com.example.attendance.dto.RecordingDTO;
+import com.example.attendance.dto.StartRecordingRequest;
+import com.example.attendance.service.ProfilingService;
+import jakarta.validation.Valid;
+import org.springframework.core.io.Resource;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/admin/profiling")
+public class ProfilingController {
+    
+    private final ProfilingService profilingService;
+    
+    public ProfilingController(ProfilingService profilingService) {
+        this.profilingService = profilingService;
+    }
+    
+    @GetMapping("/templates")
+    public ResponseEntity<ApiResponse<List<String>>> getTemplates() {
+        return ResponseEntity.ok(ApiResponse.success(profilingService.getTemplates()));
+    }
+    
+    @PostMapping("/recordings")
+    public ResponseEntity<ApiResponse<RecordingDTO>> startRecording(
+        @Valid @RequestBody(required = false) StartRecordingRequest request) {
+        RecordingDTO recording = profilingService.start(
+            request != null ? request : new StartRecordingRequest(null, null, null, null));
+        return ResponseEntity
+            .status(HttpStatus.CREATED)
+            .body(ApiResponse.success("Recording started", recording));
+    }
+    
+    @GetMapping("/recordings")
+    public ResponseEntity<ApiResponse<List<RecordingDTO>>> getRecordings() {
+        return ResponseEntity.ok(ApiResponse.success(profilingService.getRecordings()));
+    }
+    
+    @GetMapping("/recordings/{id}")
+    public ResponseEntity<ApiResponse<RecordingDTO>> getRecording(@PathVariable long id) {
+        return ResponseEntity.ok(ApiResponse.success(profilingService.getRecording(id)));
+    }
+    
+    @PostMapping("/recordings/{id}/stop")
+    public ResponseEntity<ApiResponse<RecordingDTO>> stopRecording(@PathVariable long id) {
+        return ResponseEntity.ok(ApiResponse.success("Recording stopped", profilingService.stop(id)));
+    }
+    
+    @GetMapping("/recordings/{id}/file")
+    public ResponseEntity<Resource> downloadRecording(@PathVariable long id) {
+        Resource file = profilingService.getFile(id);
+        return ResponseEntity.ok()
+            .contentType(MediaType.APPLICATION_OCTET_STREAM)
+            .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                .filename("recording-" + id + ".jfr").build().toString())
+            .body(file);
+    }
+    
+    @DeleteMapping("/recordings/{id}")
+    public ResponseEntity<ApiResponse<Void>> deleteRecording(@PathVariable long id) {
+        profilingService.delete(id);
+        return ResponseEntity.ok(ApiResponse.success("Recording deleted", null));
+    }
+}
@@ -0,0 +1,36 @@
+package com.example.attendance.controller;
+
+import com.example.attendance.dto.ApiResponse;
+import com.example.attendance.dto.PurgeJobDTO;
+import com.example.attendance.service.AttendancePurgeService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/purge-jobs")
+public class PurgeJobController {
+    
+    private final AttendancePurgeService purgeService;
+    
+    public PurgeJobController(AttendancePurgeService purgeService) {
+        this.purgeService = purgeService;
+    }
+    
+    @GetMapping
+    public ResponseEntity<ApiResponse<List<PurgeJobDTO>>> getJobs() {
+        return ResponseEntity.ok(ApiResponse.success(purgeService.getJobs()));
+    }
+    
+    @GetMapping("/{id}")
+    public ResponseEntity<ApiResponse<PurgeJobDTO>> getJob(@PathVariable String id) {
+        return ResponseEntity.ok(ApiResponse.success(purgeService.getJob(id)));
+    }
+    
+    @PostMapping("/{id}/retry")
+    public ResponseEntity<ApiResponse<PurgeJobDTO>> retryJob(@PathVariable String id) {
+        PurgeJobDTO job = purgeService.retryJob(id);
+        return ResponseEntity.ok(ApiResponse.success("Purge job resubmitted", job));
+    }
+}
@@ -0,0 +1,52 @@
+package com.example.attendance.controller;
+
+import com.example.attendance.dto.ApiResponse;
+import com.example.attendance.dto.LeaderboardDTO;
+import com.example.attendance.dto.StudentRankDTO;
+import com.example.attendance.model.Student;
+import com.example.attendance.service.RankingService;
+import com.example.attendance.service.StudentService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/rankings")
+public class RankingController {
+    
+    private final RankingService rankingService;
+    private final StudentService studentService;
+    
+    public RankingController(RankingService rankingService, StudentService studentService) {
+        this.rankingService = rankingService;
+        this.studentService = studentService;
+    }
+    
+    @GetMapping("/top")
+    public ResponseEntity<ApiResponse<LeaderboardDTO>> getTop(
+        @RequestParam String department,
+        @RequestParam Integer year,
+        @RequestParam(required = false) String term,
+        @RequestParam(required = false) Integer limit) {
+        LeaderboardDTO leaderboard = rankingService.getTop(department, year, term, limit);
+        return ResponseEntity.ok(ApiResponse.success(leaderboard));
+    }
+    
+    @GetMapping("/bottom")
+    public ResponseEntity<ApiResponse<LeaderboardDTO>> getBottom(
+        @RequestParam String department,
+        @RequestParam Integer year,
+        @RequestParam(required = false) String term,
+        @RequestParam(required = false) Integer limit) {
+        LeaderboardDTO leaderboard = rankingService.getBottom(department, year, term, limit);
+        return ResponseEntity.ok(ApiResponse.success(leaderboard));
+    }
+    
+    @GetMapping("/student/{rollNumber}")
+    public ResponseEntity<ApiResponse<StudentRankDTO>> getStudentRank(
+        @PathVariable String rollNumber,
+        @RequestParam(required = false) String term) {
+        Student student = studentService.getStudentEntityByRollNumber(rollNumber);
+        StudentRankDTO rank = rankingService.getStudentRank(student, term);
+        return ResponseEntity.ok(ApiResponse.success(rank));
+    }
+}
@@ -0,0 +1,76 @@
+package com.example.attendance.controller;
+
+import com.example.attendance.dto.*;
+import com.example.attendance.service.SectionService;
+import jakarta.validation.Valid;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/sections")
+public class SectionController {
+    
+    private final SectionService sectionService;
+    
+    public SectionController(SectionService sectionService) {
+        this.sectionService = sectionService;
+    }
+    
+    @PostMapping
+    public ResponseEntity<ApiResponse<SectionDTO>> createSection(@Valid @RequestBody CreateSectionRequest request) {
+        SectionDTO section = sectionService.createSection(request);
+        return ResponseEntity
+            .status(HttpStatus.CREATED)
+            .body(ApiResponse.success("Section created successfully", section));
+    }
+    
+    @GetMapping
+    public ResponseEntity<ApiResponse<List<SectionDTO>>> getSections() {
+        return ResponseEntity.ok(ApiResponse.success(sectionService.getSections()));
+    }
+    
+    @GetMapping("/{id}")
+    public ResponseEntity<ApiResponse<SectionDTO>> getSection(@PathVariable String id) {
+        return ResponseEntity.ok(ApiResponse.success(sectionService.getSection(id)));
+    }
+    
+    @GetMapping("/{id}/roster")
+    public ResponseEntity<ApiResponse<List<StudentDTO>>> getRoster(@PathVariable String id) {
+        return ResponseEntity.ok(ApiResponse.success(sectionService.getRoster(id)));
+    }
+    
+    @PutMapping("/{id}/roster")
+    public ResponseEntity<ApiResponse<SectionDTO>> updateRoster(
+        @PathVariable String id,
+        @Valid @RequestBody UpdateRosterRequest request) {
+        SectionDTO section = sectionService.updateRoster(id, request);
+        return ResponseEntity.ok(ApiResponse.success("Roster updated successfully", section));
+    }
+    
+    @DeleteMapping("/{id}")
+    public ResponseEntity<ApiResponse<Void>> deleteSection(@PathVariable String id) {
+        sectionService.deleteSection(id);
+        return ResponseEntity.ok(ApiResponse.success("Section deleted successfully", null));
+    }
+    
+    @PostMapping("/{id}/roll-call")
+    public ResponseEntity<ApiResponse<RollCallResultDTO>> rollCall(
+        @PathVariable String id,
+        @Valid @RequestBody RollCallRequest request) {
+        RollCallResultDTO result = sectionService.rollCall(id, request);
+        return ResponseEntity.ok(ApiResponse.success("Roll call recorded", result));
+    }
+    
+    @GetMapping("/{id}/attendance")
+    public ResponseEntity<ApiResponse<List<AttendanceDTO>>> getPeriodAttendance(
+        @PathVariable String id,
+        @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+        @RequestParam int period) {
+        return ResponseEntity.ok(ApiResponse.success(sectionService.getPeriodAttendance(id, date, period)));
+    }
+}
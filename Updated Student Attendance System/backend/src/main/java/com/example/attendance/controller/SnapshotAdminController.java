@@ -0,0 +1,31 @@
+package com.example.attendance.controller;
+
+import com.example.attendance.dto.ApiResponse;
+import com.example.attendance.dto.SnapshotConsistencyDTO;
+import com.example.attendance.service.StudentSnapshotService;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/admin/snapshots")
+public class SnapshotAdminController {
+    
+    private final StudentSnapshotService snapshotService;
+    
+    public SnapshotAdminController(StudentSnapshotService snapshotService) {
+        this.snapshotService = snapshotService;
+    }
+    
+    @GetMapping("/consistency")
+    public ResponseEntity<ApiResponse<SnapshotConsistencyDTO>> checkConsistency() {
+        return ResponseEntity.ok(ApiResponse.success(snapshotService.checkConsistency(false)));
+    }
+    
+    @PostMapping("/repair")
+    public ResponseEntity<ApiResponse<SnapshotConsistencyDTO>> repair() {
+        return ResponseEntity
+            .status(HttpStatus.ACCEPTED)
+            .body(ApiResponse.success("Snapshot repair scheduled", snapshotService.checkConsistency(true)));
+    }
+}
@@ -1,5 +1,6 @@
 package com.example.attendance.controller;
 
+import com.example.attendance.cache.CacheDependencies;
 import com.example.attendance.dto.ApiResponse;
 import com.example.attendance.dto.CreateStudentRequest;
 import com.example.attendance.dto.StudentDTO;
@@ -38,6 +39,7 @@ public class StudentController {
         List<StudentDTO> students = activeOnly != null && activeOnly 
             ? studentService.getActiveStudents() 
             : studentService.getAllStudents();
+        CacheDependencies.studentList();
         return ResponseEntity.ok(ApiResponse.success(students));
     }
     
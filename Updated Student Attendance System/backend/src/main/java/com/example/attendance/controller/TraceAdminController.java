@@ -0,0 +1,40 @@
+package com.example.attendance.controller;
+
+import com.example.attendance.dto.ApiResponse;
+import com.example.attendance.dto.TraceDTO;
+import com.example.attendance.exception.ResourceNotFoundException;
+import com.example.attendance.tracing.InMemoryTraceExporter;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/admin/traces")
+public class TraceAdminController {
+    
+    private final InMemoryTraceExporter traceExporter;
+    
+    public TraceAdminController(InMemoryTraceExporter traceExporter) {
+        this.traceExporter = traceExporter;
+    }
+    
+    @GetMapping("/slowest")
+    public ResponseEntity<ApiResponse<List<TraceDTO>>> getSlowest(
+        @RequestParam(defaultValue = "10") int limit,
+        @RequestParam(defaultValue = "0") double minDurationMs) {
+        return ResponseEntity.ok(ApiResponse.success(traceExporter.getSlowest(limit, minDurationMs)));
+    }
+    
+    @GetMapping("/recent")
+    public ResponseEntity<ApiResponse<List<TraceDTO>>> getRecent(@RequestParam(defaultValue = "20") int limit) {
+        return ResponseEntity.ok(ApiResponse.success(traceExporter.getRecent(limit)));
+    }
+    
+    @GetMapping("/{traceId}")
+    public ResponseEntity<ApiResponse<TraceDTO>> getTrace(@PathVariable String traceId) {
+        TraceDTO trace = traceExporter.getTrace(traceId)
+            .orElseThrow(() -> new ResourceNotFoundException("Trace", "traceId", traceId));
+        return ResponseEntity.ok(ApiResponse.success(trace));
+    }
+}
@@ -0,0 +1,16 @@
+package com.example.attendance.dto;
+
+import com.example.attendance.model.AcademicCalendar;
+
+import java.time.DayOfWeek;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+public record AcademicCalendarDTO(
+    String department,
+    Set<DayOfWeek> weeklyOffDays,
+    List<AcademicCalendar.Term> terms,
+    List<AcademicCalendar.Holiday> holidays,
+    LocalDateTime updatedAt
+) {}
@@ -0,0 +1,18 @@
+package com.example.attendance.dto;
+
+import com.example.attendance.model.AttendanceAlert;
+
+import java.util.Set;
+
+public record AtRiskStudentDTO(
+    String studentId,
+    String name,
+    String rollNumber,
+    String department,
+    Integer year,
+    long totalDays,
+    long presentDays,
+    double attendancePercentage,
+    int absenceStreak,
+    Set<AttendanceAlert.Rule> alerts
+) {}
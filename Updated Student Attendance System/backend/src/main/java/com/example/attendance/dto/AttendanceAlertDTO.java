@@ -0,0 +1,15 @@
+package com.example.attendance.dto;
+
+import com.example.attendance.model.AttendanceAlert;
+
+import java.time.LocalDateTime;
+
+public record AttendanceAlertDTO(
+    String id,
+    String studentId,
+    AttendanceAlert.Rule rule,
+    boolean active,
+    String detail,
+    LocalDateTime raisedAt,
+    LocalDateTime clearedAt
+) {}
@@ -0,0 +1,22 @@
+package com.example.attendance.dto;
+
+import com.example.attendance.model.Attendance;
+import com.example.attendance.model.AttendanceAudit;
+
+import java.time.Instant;
+import java.time.LocalDate;
+
+public record AttendanceAuditDTO(
+    String id,
+    String attendanceId,
+    String studentId,
+    LocalDate date,
+    Integer period,
+    String sectionId,
+    AttendanceAudit.Action action,
+    Attendance.Status beforeStatus,
+    Attendance.Status afterStatus,
+    String actor,
+    String remoteAddress,
+    Instant timestamp
+) {}
@@ -10,5 +10,8 @@ public record AttendanceDTO(
     String studentName,
     String rollNumber,
     LocalDate date,
-    Attendance.Status status
+    Attendance.Status status,
+    String sectionId,
+    Integer period,
+    Long version
 ) {}
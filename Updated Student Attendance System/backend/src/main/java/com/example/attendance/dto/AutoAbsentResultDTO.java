@@ -0,0 +1,10 @@
+package com.example.attendance.dto;
+
+import java.time.LocalDate;
+
+public record AutoAbsentResultDTO(
+    LocalDate date,
+    int unmarkedStudents,
+    int skippedNonWorkingDay,
+    long insertedRecords
+) {}
@@ -0,0 +1,19 @@
+package com.example.attendance.dto;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Attendance history as consecutive days from {@code startDate}, run-length
+ * encoded as count + status letter: P present, A absent, - nothing recorded.
+ * {@code "3P1A2-1P"} covers seven days. {@code recordIds} is only filled on
+ * request and lists the id of each recorded (non "-") day in order.
+ */
+public record CompactAttendanceHistoryDTO(
+    StudentDTO student,
+    LocalDate startDate,
+    LocalDate endDate,
+    String runs,
+    List<String> recordIds,
+    AttendanceStatsDTO statistics
+) {}
@@ -0,0 +1,21 @@
+package com.example.attendance.dto;
+
+import com.example.attendance.model.Section;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Positive;
+
+import java.util.List;
+
+public record CreateSectionRequest(
+    @NotBlank(message = "Name is required")
+    String name,
+    
+    String department,
+    
+    @Positive(message = "Year must be positive")
+    Integer year,
+    
+    List<Section.Period> periods,
+    
+    List<String> rollNumbers
+) {}
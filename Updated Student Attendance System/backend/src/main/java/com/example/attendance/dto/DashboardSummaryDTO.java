@@ -0,0 +1,12 @@
+package com.example.attendance.dto;
+
+import java.time.LocalDate;
+
+public record DashboardSummaryDTO(
+    LocalDate date,
+    long activeStudents,
+    long presentToday,
+    long absentToday,
+    long markedToday,
+    double attendancePercentage
+) {}
@@ -0,0 +1,16 @@
+package com.example.attendance.dto;
+
+import java.time.Instant;
+
+public record IndexReportDTO(
+    String collection,
+    String name,
+    String keys,
+    boolean declared,
+    boolean present,
+    String buildStatus,
+    String buildError,
+    Long accessCount,
+    Instant accessesSince,
+    boolean unused
+) {}
@@ -0,0 +1,11 @@
+package com.example.attendance.dto;
+
+import java.util.List;
+
+public record LeaderboardDTO(
+    String department,
+    Integer year,
+    String term,
+    int partitionSize,
+    List<RankingEntryDTO> entries
+) {}
@@ -13,5 +13,8 @@ public record MarkAttendanceRequest(
     @NotNull(message = "Status is required")
     Attendance.Status status,
     
-    LocalDate date
+    LocalDate date,
+    
+    // Version the client last read; a stale value is rejected with 409
+    Long version
 ) {}
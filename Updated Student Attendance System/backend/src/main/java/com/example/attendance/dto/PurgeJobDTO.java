@@ -0,0 +1,20 @@
+package com.example.attendance.dto;
+
+import com.example.attendance.model.PurgeJob;
+
+import java.time.LocalDateTime;
+
+public record PurgeJobDTO(
+    String id,
+    String studentId,
+    String rollNumber,
+    PurgeJob.Status status,
+    boolean archive,
+    long totalRecords,
+    long processedRecords,
+    double progressPercentage,
+    String lastError,
+    LocalDateTime createdAt,
+    LocalDateTime updatedAt,
+    LocalDateTime completedAt
+) {}
@@ -0,0 +1,9 @@
+package com.example.attendance.dto;
+
+public record RankingEntryDTO(
+    int rank,
+    String studentId,
+    String name,
+    String rollNumber,
+    double attendancePercentage
+) {}
@@ -0,0 +1,14 @@
+package com.example.attendance.dto;
+
+import java.time.Instant;
+
+public record RecordingDTO(
+    long id,
+    String name,
+    String template,
+    String state,
+    Instant startTime,
+    Instant stopTime,
+    Long durationSeconds,
+    long sizeBytes
+) {}
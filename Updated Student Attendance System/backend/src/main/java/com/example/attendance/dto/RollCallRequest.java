@@ -0,0 +1,24 @@
+package com.example.attendance.dto;
+
+import com.example.attendance.model.Attendance;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Per-period roll call: every student on the roster gets {@code defaultStatus}
+ * (PRESENT when omitted) except the listed roll numbers, which get the other status.
+ */
+public record RollCallRequest(
+    LocalDate date,
+    
+    @NotNull(message = "Period is required")
+    @Positive(message = "Period must be positive")
+    Integer period,
+    
+    Attendance.Status defaultStatus,
+    
+    List<String> exceptions
+) {}
@@ -0,0 +1,14 @@
+package com.example.attendance.dto;
+
+import java.time.LocalDate;
+
+public record RollCallResultDTO(
+    String sectionId,
+    LocalDate date,
+    int period,
+    long presentCount,
+    long absentCount,
+    long inserted,
+    long updated,
+    long unchanged
+) {}
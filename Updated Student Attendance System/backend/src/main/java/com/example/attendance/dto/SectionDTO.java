@@ -0,0 +1,14 @@
+package com.example.attendance.dto;
+
+import com.example.attendance.model.Section;
+
+import java.util.List;
+
+public record SectionDTO(
+    String id,
+    String name,
+    String department,
+    Integer year,
+    List<Section.Period> periods,
+    int rosterSize
+) {}
@@ -0,0 +1,10 @@
+package com.example.attendance.dto;
+
+public record SnapshotConsistencyDTO(
+    long checkedRecords,
+    long missingRecords,
+    long staleRecords,
+    long orphanedRecords,
+    int studentsAffected,
+    boolean repairScheduled
+) {}
@@ -0,0 +1,15 @@
+package com.example.attendance.dto;
+
+import java.util.List;
+import java.util.Map;
+
+public record SpanDTO(
+    String spanId,
+    String name,
+    String kind,
+    double offsetMs,
+    double durationMs,
+    String error,
+    Map<String, String> tags,
+    List<SpanDTO> children
+) {}
@@ -0,0 +1,16 @@
+package com.example.attendance.dto;
+
+import jakarta.validation.constraints.Positive;
+
+public record StartRecordingRequest(
+    String name,
+    
+    // Name of a JFR configuration, "default" (low overhead) or "profile"
+    String template,
+    
+    @Positive(message = "Duration must be positive")
+    Long durationSeconds,
+    
+    @Positive(message = "Max size must be positive")
+    Long maxSizeMb
+) {}
@@ -25,5 +25,7 @@ public record StudentDTO(
     @Positive(message = "Year must be positive")
     Integer year,
     
-    Boolean active
+    Boolean active,
+    
+    Long version
 ) {}
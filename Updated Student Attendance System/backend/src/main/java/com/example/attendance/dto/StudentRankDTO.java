@@ -0,0 +1,12 @@
+package com.example.attendance.dto;
+
+public record StudentRankDTO(
+    String studentId,
+    String rollNumber,
+    String department,
+    Integer year,
+    String term,
+    int rank,
+    int partitionSize,
+    double attendancePercentage
+) {}
@@ -0,0 +1,13 @@
+package com.example.attendance.dto;
+
+import java.time.Instant;
+
+public record TraceDTO(
+    String traceId,
+    String name,
+    Instant startedAt,
+    double durationMs,
+    int spanCount,
+    int droppedSpans,
+    SpanDTO root
+) {}
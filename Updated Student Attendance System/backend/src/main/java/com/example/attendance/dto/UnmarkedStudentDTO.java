@@ -0,0 +1,9 @@
+package com.example.attendance.dto;
+
+public record UnmarkedStudentDTO(
+    String studentId,
+    String name,
+    String rollNumber,
+    String department,
+    Integer year
+) {}
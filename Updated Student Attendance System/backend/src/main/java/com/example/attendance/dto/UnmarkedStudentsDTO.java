@@ -0,0 +1,12 @@
+package com.example.attendance.dto;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public record UnmarkedStudentsDTO(
+    LocalDate date,
+    String department,
+    int activeStudents,
+    int markedStudents,
+    List<UnmarkedStudentDTO> students
+) {}
@@ -0,0 +1,27 @@
+package com.example.attendance.dto;
+
+import com.example.attendance.model.AcademicCalendar;
+import jakarta.validation.constraints.AssertTrue;
+
+import java.time.DayOfWeek;
+import java.util.List;
+import java.util.Set;
+
+public record UpdateCalendarRequest(
+    Set<DayOfWeek> weeklyOffDays,
+    
+    List<AcademicCalendar.Term> terms,
+    
+    List<AcademicCalendar.Holiday> holidays
+) {
+    @AssertTrue(message = "Every term needs a start date on or before its end date")
+    public boolean isTermsValid() {
+        return terms == null || terms.stream().allMatch(term -> term.startDate() != null
+            && term.endDate() != null && !term.startDate().isAfter(term.endDate()));
+    }
+    
+    @AssertTrue(message = "Every holiday needs a date")
+    public boolean isHolidaysValid() {
+        return holidays == null || holidays.stream().allMatch(holiday -> holiday.date() != null);
+    }
+}
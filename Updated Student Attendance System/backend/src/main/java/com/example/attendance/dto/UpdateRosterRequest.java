@@ -0,0 +1,10 @@
+package com.example.attendance.dto;
+
+import jakarta.validation.constraints.NotNull;
+
+import java.util.List;
+
+public record UpdateRosterRequest(
+    @NotNull(message = "Roll numbers are required")
+    List<String> rollNumbers
+) {}
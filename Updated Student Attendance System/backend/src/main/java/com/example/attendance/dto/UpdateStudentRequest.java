@@ -18,5 +18,8 @@ public record UpdateStudentRequest(
     @Positive(message = "Year must be positive")
     Integer year,
     
-    Boolean active
+    Boolean active,
+    
+    // Version the client last read; a stale value is rejected with 409
+    Long version
 ) {}
\ No newline at end of file
@@ -0,0 +1,10 @@
+package com.example.attendance.dto;
+
+import java.time.LocalDate;
+
+public record WorkingDaysDTO(
+    String department,
+    LocalDate startDate,
+    LocalDate endDate,
+    long workingDays
+) {}
@@ -0,0 +1,43 @@
+package com.example.attendance.event;
+
+import com.example.attendance.model.Attendance;
+import com.example.attendance.tenant.TenantContext;
+
+import java.time.LocalDate;
+
+/**
+ * Published after an attendance record is created, updated or deleted, tagged
+ * with the tenant it belongs to. {@code before} is null for a new record and
+ * {@code after} is null for a deleted one. Per-period roll-call records carry
+ * their period; listeners that count whole days skip them.
+ */
+public record AttendanceChangedEvent(
+    String tenantId,
+    String attendanceId,
+    State before,
+    State after
+) {
+    public record State(String studentId, LocalDate date, Attendance.Status status, Integer period, String sectionId) {
+        public static State of(Attendance attendance) {
+            return new State(attendance.getStudentId(), attendance.getDate(), attendance.getStatus(),
+                attendance.getPeriod(), attendance.getSectionId());
+        }
+    }
+    
+    public boolean isPeriod() {
+        State state = after != null ? after : before;
+        return state != null && state.period() != null;
+    }
+    
+    public static AttendanceChangedEvent created(Attendance attendance) {
+        return new AttendanceChangedEvent(TenantContext.current(), attendance.getId(), null, State.of(attendance));
+    }
+    
+    public static AttendanceChangedEvent updated(State before, Attendance attendance) {
+        return new AttendanceChangedEvent(TenantContext.current(), attendance.getId(), before, State.of(attendance));
+    }
+    
+    public static AttendanceChangedEvent deleted(Attendance attendance) {
+        return new AttendanceChangedEvent(TenantContext.current(), attendance.getId(), State.of(attendance), null);
+    }
+}
@@ -0,0 +1,43 @@
+package com.example.attendance.event;
+
+import com.example.attendance.model.Student;
+import com.example.attendance.tenant.TenantContext;
+
+/**
+ * Published after a student is created, updated, deactivated or deleted, tagged
+ * with the tenant it belongs to. {@code before} is null for a new student and
+ * {@code after} is null for a deleted one.
+ */
+public record StudentChangedEvent(
+    String tenantId,
+    String studentId,
+    State before,
+    State after
+) {
+    public record State(String name, String rollNumber, String department, Integer year, boolean active) {
+        public static State of(Student student) {
+            return new State(student.getName(), student.getRollNumber(), student.getDepartment(),
+                student.getYear(), student.isActive());
+        }
+    }
+    
+    public static StudentChangedEvent created(Student student) {
+        return new StudentChangedEvent(TenantContext.current(), student.getId(), null, State.of(student));
+    }
+    
+    public static StudentChangedEvent updated(State before, Student student) {
+        return new StudentChangedEvent(TenantContext.current(), student.getId(), before, State.of(student));
+    }
+    
+    public static StudentChangedEvent deleted(Student student) {
+        return new StudentChangedEvent(TenantContext.current(), student.getId(), State.of(student), null);
+    }
+    
+    public boolean wasActive() {
+        return before != null && before.active();
+    }
+    
+    public boolean isActive() {
+        return after != null && after.active();
+    }
+}
@@ -0,0 +1,7 @@
+package com.example.attendance.exception;
+
+public class ConcurrentUpdateException extends RuntimeException {
+    public ConcurrentUpdateException(String resourceName, String fieldName, Object fieldValue) {
+        super(String.format("%s was modified concurrently (%s: '%s'), reload and try again", resourceName, fieldName, fieldValue));
+    }
+}
@@ -1,6 +1,9 @@
 package com.example.attendance.exception;
 
 import com.example.attendance.dto.ApiResponse;
+import com.mongodb.MongoOperationTimeoutException;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.FieldError;
@@ -28,6 +31,50 @@ public class GlobalExceptionHandler {
             .body(ApiResponse.error(ex.getMessage()));
     }
     
+    @ExceptionHandler(ConcurrentUpdateException.class)
+    public ResponseEntity<ApiResponse<Void>> handleConcurrentUpdate(ConcurrentUpdateException ex) {
+        return ResponseEntity
+            .status(HttpStatus.CONFLICT)
+            .body(ApiResponse.error(ex.getMessage()));
+    }
+    
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<ApiResponse<Void>> handleOptimisticLockingFailure(OptimisticLockingFailureException ex) {
+        return ResponseEntity
+            .status(HttpStatus.CONFLICT)
+            .body(ApiResponse.error("The record was modified concurrently, reload and try again"));
+    }
+    
+    @ExceptionHandler(ProfilingException.class)
+    public ResponseEntity<ApiResponse<Void>> handleProfiling(ProfilingException ex) {
+        return ResponseEntity
+            .status(HttpStatus.CONFLICT)
+            .body(ApiResponse.error(ex.getMessage()));
+    }
+    
+    @ExceptionHandler(QueryBudgetExceededException.class)
+    public ResponseEntity<ApiResponse<Void>> handleQueryBudgetExceeded(QueryBudgetExceededException ex) {
+        return ResponseEntity
+            .status(HttpStatus.INTERNAL_SERVER_ERROR)
+            .body(ApiResponse.error(ex.getMessage()));
+    }
+    
+    @ExceptionHandler(MongoOperationTimeoutException.class)
+    public ResponseEntity<ApiResponse<Void>> handleQueryDeadline(MongoOperationTimeoutException ex) {
+        return ResponseEntity
+            .status(HttpStatus.GATEWAY_TIMEOUT)
+            .body(ApiResponse.error("The query did not finish within its deadline, narrow the request and try again"));
+    }
+    
+    @ExceptionHandler(DataAccessException.class)
+    public ResponseEntity<ApiResponse<Void>> handleDataAccess(DataAccessException ex) {
+        // Repository calls wrap the driver's deadline exception
+        if (ex.getMostSpecificCause() instanceof MongoOperationTimeoutException timeout) {
+            return handleQueryDeadline(timeout);
+        }
+        return handleGenericException(ex);
+    }
+    
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ResponseEntity<ApiResponse<Map<String, String>>> handleValidationExceptions(
         MethodArgumentNotValidException ex) {
@@ -0,0 +1,7 @@
+package com.example.attendance.exception;
+
+public class ProfilingException extends RuntimeException {
+    public ProfilingException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,11 @@
+package com.example.attendance.exception;
+
+import java.util.Collection;
+
+public class QueryBudgetExceededException extends RuntimeException {
+    
+    public QueryBudgetExceededException(String endpoint, int count, int maxQueries, Collection<String> callSites) {
+        super(String.format("%s issued %d database commands, budget is %d; extra commands from %s",
+            endpoint, count, maxQueries, callSites));
+    }
+}
@@ -0,0 +1,254 @@
+package com.example.attendance.generator;
+
+import com.example.attendance.config.GeneratorProperties;
+import com.example.attendance.model.Attendance;
+import com.example.attendance.model.Student;
+import com.example.attendance.service.AcademicCalendarService;
+import com.example.attendance.tenant.TenantContext;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.model.InsertManyOptions;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.stereotype.Component;
+
+import java.nio.ByteBuffer;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Fills the current tenant's database with a reproducible, production-sized
+ * dataset: students spread over departments and years, and daily attendance
+ * on every working day of their academic calendar. Absence follows a
+ * per-student rate, weekday effects and a two-state Markov chain so absences
+ * cluster into streaks. Each student draws from its own seeded random stream,
+ * so the output only depends on the seed, not on how writers interleave.
+ * Indexes are not built here; the application builds them on its next start.
+ */
+@Component
+@Profile("generate")
+public class DatasetGenerator implements ApplicationRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(DatasetGenerator.class);
+
+    private static final String[] FIRST_NAMES = {
+        "Aarav", "Aditi", "Akash", "Ananya", "Arjun", "Bhavya", "Chetan", "Divya", "Gautam", "Harini",
+        "Ishaan", "Jahnavi", "Karthik", "Kavya", "Lakshmi", "Manoj", "Meera", "Nikhil", "Nisha", "Pranav",
+        "Priya", "Rahul", "Revathi", "Rohan", "Sai", "Sneha", "Srinivas", "Tanvi", "Varun", "Yamini"
+    };
+    private static final String[] LAST_NAMES = {
+        "Annavarapu", "Bhat", "Chowdary", "Das", "Gupta", "Iyer", "Joshi", "Kapoor", "Kumar", "Menon",
+        "Mishra", "Nair", "Patel", "Rao", "Reddy", "Shah", "Sharma", "Singh", "Varma", "Yadav"
+    };
+
+    private static final Map<DayOfWeek, Double> WEEKDAY_EFFECT = new EnumMap<>(Map.of(
+        DayOfWeek.MONDAY, 1.25,
+        DayOfWeek.TUESDAY, 0.9,
+        DayOfWeek.WEDNESDAY, 0.85,
+        DayOfWeek.THURSDAY, 0.95,
+        DayOfWeek.FRIDAY, 1.3,
+        DayOfWeek.SATURDAY, 1.15,
+        DayOfWeek.SUNDAY, 1.0
+    ));
+
+    private static final InsertManyOptions UNORDERED = new InsertManyOptions().ordered(false);
+
+    private final MongoTemplate mongoTemplate;
+    private final AcademicCalendarService calendarService;
+    private final GeneratorProperties properties;
+    private final ConfigurableApplicationContext context;
+
+    private final AtomicLong studentsWritten = new AtomicLong();
+    private final AtomicLong recordsWritten = new AtomicLong();
+
+    public DatasetGenerator(MongoTemplate mongoTemplate,
+                            AcademicCalendarService calendarService,
+                            GeneratorProperties properties,
+                            ConfigurableApplicationContext context) {
+        this.mongoTemplate = mongoTemplate;
+        this.calendarService = calendarService;
+        this.properties = properties;
+        this.context = context;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) throws Exception {
+        String tenantId = properties.tenant() != null ? properties.tenant() : TenantContext.current();
+        TenantContext.call(tenantId, () -> {
+            generate(tenantId);
+            return null;
+        });
+        if (properties.exitOnCompletion()) {
+            System.exit(SpringApplication.exit(context, () -> 0));
+        }
+    }
+
+    private void generate(String tenantId) {
+        LocalDate endDate = properties.endDate() != null ? properties.endDate() : LocalDate.now().minusDays(1);
+        LocalDate startDate = endDate.minusYears(properties.years()).plusDays(1);
+        if (properties.dropExisting()) {
+            mongoTemplate.dropCollection(Student.class);
+            mongoTemplate.dropCollection(Attendance.class);
+        }
+
+        Map<String, List<LocalDate>> workingDays = new HashMap<>();
+        for (String department : properties.departments()) {
+            List<LocalDate> days = new ArrayList<>();
+            for (LocalDate date = startDate; !date.isAfter(endDate); date = date.plusDays(1)) {
+                if (calendarService.isWorkingDay(department, date)) {
+                    days.add(date);
+                }
+            }
+            workingDays.put(department, days);
+        }
+
+        int writers = properties.writerThreads() > 0 ? properties.writerThreads() : Runtime.getRuntime().availableProcessors();
+        log.info("Generating {} students with attendance from {} to {} for tenant {} using {} writers (seed {})",
+            properties.students(), startDate, endDate, tenantId, writers, properties.seed());
+
+        long started = System.nanoTime();
+        ExecutorService pool = Executors.newFixedThreadPool(writers, runnable -> {
+            Thread thread = new Thread(runnable, "dataset-writer");
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            List<Future<?>> partitions = new ArrayList<>();
+            for (int partition = 0; partition < writers; partition++) {
+                int first = partition;
+                partitions.add(pool.submit(() -> TenantContext.run(tenantId,
+                    () -> writePartition(first, writers, startDate, workingDays))));
+            }
+            for (Future<?> partition : partitions) {
+                partition.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Dataset generation interrupted", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Dataset generation failed", e.getCause());
+        } finally {
+            pool.shutdownNow();
+        }
+
+        double seconds = (System.nanoTime() - started) / (double) TimeUnit.SECONDS.toNanos(1);
+        log.info("Generated {} students and {} attendance records in {} s ({} records/s)",
+            studentsWritten.get(), recordsWritten.get(), String.format("%.1f", seconds),
+            Math.round(recordsWritten.get() / Math.max(seconds, 0.001)));
+    }
+
+    private void writePartition(int partition, int partitions, LocalDate startDate, Map<String, List<LocalDate>> workingDays) {
+        MongoCollection<Document> students = mongoTemplate.getCollection(mongoTemplate.getCollectionName(Student.class));
+        MongoCollection<Document> attendance = mongoTemplate.getCollection(mongoTemplate.getCollectionName(Attendance.class));
+        List<Document> studentBatch = new ArrayList<>(properties.batchSize());
+        List<Document> attendanceBatch = new ArrayList<>(properties.batchSize());
+        int salt = Long.hashCode(properties.seed() * 0x9E3779B97F4A7C15L);
+        int createdAt = (int) startDate.atStartOfDay().toEpochSecond(ZoneOffset.UTC);
+
+        for (int index = partition; index < properties.students(); index += partitions) {
+            SplittableRandom random = new SplittableRandom(properties.seed() * 0x9E3779B97F4A7C15L + index);
+            Student student = student(index, random, id(createdAt, index, ~salt), startDate);
+            studentBatch.add(toDocument(student));
+            if (studentBatch.size() >= properties.batchSize()) {
+                flush(students, studentBatch, studentsWritten);
+            }
+
+            // Per-student absence rate: mostly regular, some frequent, a few chronic absentees
+            double tier = random.nextDouble();
+            double rate = tier < 0.70 ? 0.02 + random.nextDouble() * 0.06
+                : tier < 0.92 ? 0.08 + random.nextDouble() * 0.10
+                : 0.20 + random.nextDouble() * 0.25;
+            // Two-state chain whose stationary absence rate is the student's rate
+            double stay = Math.min(0.85, 0.35 + 2 * rate);
+            double start = rate * (1 - stay) / (1 - rate);
+            boolean absent = false;
+
+            for (LocalDate date : workingDays.get(student.getDepartment())) {
+                double p = (absent ? stay : start) * WEEKDAY_EFFECT.get(date.getDayOfWeek());
+                absent = random.nextDouble() < p;
+                if (random.nextDouble() < properties.unmarkedRatio()) {
+                    continue;
+                }
+                int day = (int) date.atStartOfDay().toEpochSecond(ZoneOffset.UTC);
+                Attendance record = new Attendance(student.getId(), date,
+                    absent ? Attendance.Status.ABSENT : Attendance.Status.PRESENT);
+                record.setId(id(day, index, salt).toHexString());
+                record.setStudentName(student.getName());
+                record.setRollNumber(student.getRollNumber());
+                record.setVersion(0L);
+                LocalDateTime markedAt = date.atTime(8, 30).plusMinutes(random.nextInt(240));
+                record.setCreatedAt(markedAt);
+                record.setUpdatedAt(markedAt);
+                attendanceBatch.add(toDocument(record));
+                if (attendanceBatch.size() >= properties.batchSize()) {
+                    flush(attendance, attendanceBatch, recordsWritten);
+                }
+            }
+        }
+        flush(students, studentBatch, studentsWritten);
+        flush(attendance, attendanceBatch, recordsWritten);
+    }
+
+    private Student student(int index, SplittableRandom random, ObjectId id, LocalDate startDate) {
+        String first = FIRST_NAMES[random.nextInt(FIRST_NAMES.length)];
+        String last = LAST_NAMES[random.nextInt(LAST_NAMES.length)];
+        Student student = new Student();
+        student.setId(id.toHexString());
+        student.setName(first + " " + last);
+        student.setRollNumber(String.format("%08d", 20_000_000 + index));
+        student.setEmail((first + "." + last + "." + index + "@example.edu").toLowerCase());
+        student.setPhone(String.format("9%09d", random.nextInt(1_000_000_000)));
+        student.setDepartment(properties.departments().get(random.nextInt(properties.departments().size())));
+        student.setYear(1 + random.nextInt(4));
+        student.setActive(random.nextDouble() < properties.activeRatio());
+        student.setVersion(0L);
+        LocalDateTime enrolledAt = startDate.atTime(9, 0);
+        student.setCreatedAt(enrolledAt);
+        student.setUpdatedAt(enrolledAt);
+        return student;
+    }
+
+    private Document toDocument(Object entity) {
+        Document document = new Document();
+        mongoTemplate.getConverter().write(entity, document);
+        return document;
+    }
+
+    private static void flush(MongoCollection<Document> collection, List<Document> batch, AtomicLong written) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        collection.insertMany(batch, UNORDERED);
+        long total = written.addAndGet(batch.size());
+        if (total / 1_000_000 != (total - batch.size()) / 1_000_000) {
+            log.info("{} {} written", total, collection.getNamespace().getCollectionName());
+        }
+        batch.clear();
+    }
+
+    // Deterministic ids: seconds of the record's day, the student's index and a seed-derived salt
+    private static ObjectId id(int seconds, int student, int salt) {
+        return new ObjectId(ByteBuffer.allocate(12).putInt(seconds).putInt(student).putInt(salt).array());
+    }
+}
@@ -0,0 +1,71 @@
+package com.example.attendance.graphql;
+
+import com.example.attendance.dto.AttendanceDTO;
+import com.example.attendance.dto.AttendanceStatsDTO;
+import com.example.attendance.dto.StudentDTO;
+import com.example.attendance.service.AttendanceService;
+import org.springframework.graphql.execution.BatchLoaderRegistry;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Per-request data loaders for the per-student fields of the GraphQL schema.
+ * Keys collected while a level of the query is resolved are deduplicated and
+ * loaded together, with one aggregation per distinct date range (and limit).
+ */
+@Component
+public class AttendanceBatchLoaders {
+
+    static final String STUDENT_STATS = "studentStats";
+    static final String STUDENT_ATTENDANCE = "studentAttendance";
+
+    record StatsKey(StudentDTO student, LocalDate startDate, LocalDate endDate) {}
+
+    record AttendanceKey(String studentId, LocalDate startDate, LocalDate endDate, int limit) {}
+
+    private record Range(LocalDate startDate, LocalDate endDate) {}
+
+    private record LimitedRange(LocalDate startDate, LocalDate endDate, int limit) {}
+
+    private final AttendanceService attendanceService;
+
+    public AttendanceBatchLoaders(AttendanceService attendanceService, BatchLoaderRegistry registry) {
+        this.attendanceService = attendanceService;
+        registry.<StatsKey, AttendanceStatsDTO>forName(STUDENT_STATS)
+            .registerMappedBatchLoader((keys, env) -> Mono.fromCallable(() -> loadStats(keys)));
+        registry.<AttendanceKey, List<AttendanceDTO>>forName(STUDENT_ATTENDANCE)
+            .registerMappedBatchLoader((keys, env) -> Mono.fromCallable(() -> loadAttendance(keys)));
+    }
+
+    private Map<StatsKey, AttendanceStatsDTO> loadStats(Set<StatsKey> keys) {
+        Map<StatsKey, AttendanceStatsDTO> result = new HashMap<>();
+        keys.stream()
+            .collect(Collectors.groupingBy(key -> new Range(key.startDate(), key.endDate())))
+            .forEach((range, rangeKeys) -> {
+                Map<String, AttendanceStatsDTO> stats = attendanceService.getStatisticsForStudents(
+                    rangeKeys.stream().map(StatsKey::student).toList(), range.startDate(), range.endDate());
+                rangeKeys.forEach(key -> result.put(key, stats.get(key.student().id())));
+            });
+        return result;
+    }
+
+    private Map<AttendanceKey, List<AttendanceDTO>> loadAttendance(Set<AttendanceKey> keys) {
+        Map<AttendanceKey, List<AttendanceDTO>> result = new HashMap<>();
+        keys.stream()
+            .collect(Collectors.groupingBy(key -> new LimitedRange(key.startDate(), key.endDate(), key.limit())))
+            .forEach((range, rangeKeys) -> {
+                Map<String, List<AttendanceDTO>> rows = attendanceService.getAttendanceForStudents(
+                    rangeKeys.stream().map(AttendanceKey::studentId).toList(), range.startDate(), range.endDate(),
+                    range.limit());
+                rangeKeys.forEach(key -> result.put(key, rows.getOrDefault(key.studentId(), List.of())));
+            });
+        return result;
+    }
+}
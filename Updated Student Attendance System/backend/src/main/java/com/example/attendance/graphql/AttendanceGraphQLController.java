@@ -0,0 +1,82 @@
+package com.example.attendance.graphql;
+
+import com.example.attendance.config.GraphQLProperties;
+import com.example.attendance.dto.AttendanceDTO;
+import com.example.attendance.dto.DashboardSummaryDTO;
+import com.example.attendance.dto.StudentDTO;
+import com.example.attendance.model.Attendance;
+import com.example.attendance.service.AttendanceService;
+import com.example.attendance.service.DashboardService;
+import com.example.attendance.service.StudentService;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.graphql.data.method.annotation.Argument;
+import org.springframework.graphql.data.method.annotation.BatchMapping;
+import org.springframework.graphql.data.method.annotation.QueryMapping;
+import org.springframework.stereotype.Controller;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+@Controller
+public class AttendanceGraphQLController {
+    
+    private final AttendanceService attendanceService;
+    private final StudentService studentService;
+    private final DashboardService dashboardService;
+    private final GraphQLProperties properties;
+    
+    public AttendanceGraphQLController(AttendanceService attendanceService,
+                                       StudentService studentService,
+                                       DashboardService dashboardService,
+                                       GraphQLProperties properties) {
+        this.attendanceService = attendanceService;
+        this.studentService = studentService;
+        this.dashboardService = dashboardService;
+        this.properties = properties;
+    }
+    
+    @QueryMapping
+    public List<AttendanceDTO> attendance(@Argument LocalDate date, @Argument Attendance.Status status,
+                                          @Argument int limit, @Argument int page) {
+        return attendanceService.getAttendanceByDateRange(date, date, status, page(limit, page));
+    }
+    
+    @QueryMapping
+    public List<AttendanceDTO> attendanceRange(@Argument LocalDate startDate, @Argument LocalDate endDate,
+                                               @Argument Attendance.Status status,
+                                               @Argument int limit, @Argument int page) {
+        return attendanceService.getAttendanceByDateRange(startDate, endDate, status, page(limit, page));
+    }
+    
+    @QueryMapping
+    public DashboardSummaryDTO dashboard() {
+        return dashboardService.getSummary();
+    }
+    
+    // One lookup for the distinct students of all attendance rows in the response
+    @BatchMapping(typeName = "Attendance", field = "student")
+    public Map<AttendanceDTO, StudentDTO> student(List<AttendanceDTO> rows) {
+        Set<String> studentIds = rows.stream().map(AttendanceDTO::studentId).collect(Collectors.toSet());
+        Map<String, StudentDTO> students = studentService.getStudentsByIds(studentIds);
+        Map<AttendanceDTO, StudentDTO> result = new HashMap<>();
+        rows.forEach(row -> {
+            StudentDTO student = students.get(row.studentId());
+            if (student != null) {
+                result.put(row, student);
+            }
+        });
+        return result;
+    }
+    
+    private Pageable page(int limit, int page) {
+        // Stable order, so consecutive pages neither skip nor repeat rows
+        return PageRequest.of(Math.max(0, page), Math.max(1, Math.min(limit, properties.maxLimit())),
+            Sort.by("date", "id"));
+    }
+}
@@ -0,0 +1,25 @@
+package com.example.attendance.graphql;
+
+import com.example.attendance.exception.ResourceNotFoundException;
+import graphql.GraphQLError;
+import graphql.GraphqlErrorBuilder;
+import graphql.schema.DataFetchingEnvironment;
+import org.springframework.graphql.execution.DataFetcherExceptionResolverAdapter;
+import org.springframework.graphql.execution.ErrorType;
+import org.springframework.stereotype.Component;
+
+// Maps service exceptions onto GraphQL error types; anything else surfaces as INTERNAL_ERROR
+@Component
+public class GraphQLExceptionResolver extends DataFetcherExceptionResolverAdapter {
+    
+    @Override
+    protected GraphQLError resolveToSingleError(Throwable ex, DataFetchingEnvironment env) {
+        if (ex instanceof ResourceNotFoundException) {
+            return GraphqlErrorBuilder.newError(env)
+                .errorType(ErrorType.NOT_FOUND)
+                .message(ex.getMessage())
+                .build();
+        }
+        return null;
+    }
+}
@@ -0,0 +1,60 @@
+package com.example.attendance.graphql;
+
+import com.example.attendance.config.GraphQLProperties;
+import com.example.attendance.dto.AttendanceDTO;
+import com.example.attendance.dto.AttendanceStatsDTO;
+import com.example.attendance.dto.StudentDTO;
+import com.example.attendance.service.StudentService;
+import org.dataloader.DataLoader;
+import org.springframework.graphql.data.method.annotation.Argument;
+import org.springframework.graphql.data.method.annotation.QueryMapping;
+import org.springframework.graphql.data.method.annotation.SchemaMapping;
+import org.springframework.stereotype.Controller;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+@Controller
+public class StudentGraphQLController {
+    
+    private final StudentService studentService;
+    private final GraphQLProperties properties;
+    
+    public StudentGraphQLController(StudentService studentService, GraphQLProperties properties) {
+        this.studentService = studentService;
+        this.properties = properties;
+    }
+    
+    @QueryMapping
+    public List<StudentDTO> students(@Argument String department, @Argument String search,
+                                     @Argument boolean activeOnly, @Argument int limit, @Argument int page) {
+        int size = clamp(limit);
+        return studentService.findStudents(department, search, activeOnly, Math.max(0, page) * size, size);
+    }
+    
+    @QueryMapping
+    public StudentDTO student(@Argument String rollNumber) {
+        return studentService.getStudentByRollNumber(rollNumber);
+    }
+    
+    @SchemaMapping(typeName = "Student")
+    public CompletableFuture<AttendanceStatsDTO> stats(StudentDTO student,
+                                                       @Argument LocalDate startDate, @Argument LocalDate endDate,
+                                                       DataLoader<AttendanceBatchLoaders.StatsKey, AttendanceStatsDTO> studentStats) {
+        return studentStats.load(new AttendanceBatchLoaders.StatsKey(student, startDate, endDate));
+    }
+    
+    @SchemaMapping(typeName = "Student")
+    public CompletableFuture<List<AttendanceDTO>> attendance(StudentDTO student,
+                                                             @Argument LocalDate startDate, @Argument LocalDate endDate,
+                                                             @Argument int limit,
+                                                             DataLoader<AttendanceBatchLoaders.AttendanceKey, List<AttendanceDTO>> studentAttendance) {
+        return studentAttendance.load(
+            new AttendanceBatchLoaders.AttendanceKey(student.id(), startDate, endDate, clamp(limit)));
+    }
+    
+    private int clamp(int limit) {
+        return Math.max(1, Math.min(limit, properties.maxLimit()));
+    }
+}
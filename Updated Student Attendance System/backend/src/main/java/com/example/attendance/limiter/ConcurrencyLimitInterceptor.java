@@ -0,0 +1,112 @@
+package com.example.attendance.limiter;
+
+import com.example.attendance.config.ConcurrencyLimitProperties;
+import com.example.attendance.dto.ApiResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+
+import java.io.IOException;
+
+/**
+ * Admits requests against separate adaptive limits for reads and writes and
+ * answers the rest with an immediate 503 and Retry-After, so that a slow
+ * database turns into fast rejections instead of a growing queue of blocked
+ * threads. Runs after CORS handling and the response cache, so cache hits are
+ * never shed and rejected responses still carry CORS headers.
+ */
+@Component
+public class ConcurrencyLimitInterceptor implements AsyncHandlerInterceptor {
+
+    private static final String PERMIT_ATTRIBUTE = ConcurrencyLimitInterceptor.class.getName() + ".permit";
+
+    private final ConcurrencyLimitProperties properties;
+    private final ObjectMapper objectMapper;
+    private final GradientLimiter reads;
+    private final GradientLimiter writes;
+    private final MeterRegistry meterRegistry;
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+
+    public ConcurrencyLimitInterceptor(ConcurrencyLimitProperties properties, ObjectMapper objectMapper,
+                                       MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+        this.reads = limiter("reads", properties.reads());
+        this.writes = limiter("writes", properties.writes());
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler)
+        throws IOException {
+        if (request.getDispatcherType() == DispatcherType.ASYNC && request.getAttribute(PERMIT_ATTRIBUTE) != null) {
+            // Admitted on the initial dispatch; the permit is held until the async response completes
+            return true;
+        }
+        GradientLimiter limiter = isRead(request) ? reads : writes;
+        GradientLimiter.Permit permit = limiter.tryAcquire();
+        if (permit == null) {
+            counter(limiter, "rejected").increment();
+            response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+            response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(properties.retryAfterSeconds()));
+            response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            objectMapper.writeValue(response.getOutputStream(), ApiResponse.error("Server is busy, retry later"));
+            return false;
+        }
+        counter(limiter, "accepted").increment();
+        request.setAttribute(PERMIT_ATTRIBUTE, permit);
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
+                                Exception ex) {
+        if (!(request.getAttribute(PERMIT_ATTRIBUTE) instanceof GradientLimiter.Permit permit)) {
+            return;
+        }
+        request.removeAttribute(PERMIT_ATTRIBUTE);
+        if (ex != null || response.getStatus() >= HttpStatus.INTERNAL_SERVER_ERROR.value()) {
+            permit.onDropped();
+        } else {
+            permit.onSuccess();
+        }
+    }
+
+    private boolean isRead(HttpServletRequest request) {
+        String method = request.getMethod();
+        if (HttpMethod.GET.matches(method) || HttpMethod.HEAD.matches(method) || HttpMethod.OPTIONS.matches(method)) {
+            return true;
+        }
+        String path = request.getRequestURI();
+        return properties.readPaths().stream().anyMatch(pattern -> pathMatcher.match(pattern, path));
+    }
+
+    private GradientLimiter limiter(String name, ConcurrencyLimitProperties.Limit limit) {
+        GradientLimiter limiter = new GradientLimiter(name, limit.initialLimit(), limit.minLimit(), limit.maxLimit(),
+            properties.tolerance(), properties.smoothing());
+        Gauge.builder("attendance.concurrency.limit", limiter, GradientLimiter::limit)
+            .description("Current adaptive concurrency limit")
+            .tag("limiter", name)
+            .register(meterRegistry);
+        Gauge.builder("attendance.concurrency.inflight", limiter, GradientLimiter::inflight)
+            .description("Requests currently admitted")
+            .tag("limiter", name)
+            .register(meterRegistry);
+        return limiter;
+    }
+
+    private Counter counter(GradientLimiter limiter, String result) {
+        return meterRegistry.counter("attendance.concurrency.requests", "limiter", limiter.name(), "result", result);
+    }
+}
@@ -0,0 +1,143 @@
+package com.example.attendance.limiter;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Concurrency limit that follows observed latency. The lowest latency seen in
+ * the last two baseline windows stands in for the no-load latency. Samples are
+ * averaged over short update windows; while that average stays within
+ * {@code tolerance} of the baseline the limit grows by a small queue allowance,
+ * and once requests start queueing somewhere (Mongo, the connection pool) the
+ * ratio pulls the limit down proportionally. Failed requests back off by a
+ * fixed ratio. Requests over the limit are rejected instead of waiting.
+ */
+final class GradientLimiter {
+
+    private static final int BASELINE_WINDOW = 1000;
+    private static final int MIN_WINDOW_SAMPLES = 10;
+    private static final long MIN_WINDOW_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+    private static final double DROP_BACKOFF = 0.9;
+
+    private final String name;
+    private final int minLimit;
+    private final int maxLimit;
+    private final double tolerance;
+    private final double smoothing;
+    private final AtomicInteger inflight = new AtomicInteger();
+
+    private volatile double limit;
+
+    private long windowMinRttNanos = Long.MAX_VALUE;
+    private long previousMinRttNanos = Long.MAX_VALUE;
+    private int baselineSamples;
+
+    private long windowStartNanos = System.nanoTime();
+    private long windowRttSumNanos;
+    private int windowSamples;
+    private int windowMaxInflight;
+    private boolean windowDropped;
+
+    GradientLimiter(String name, int initialLimit, int minLimit, int maxLimit, double tolerance, double smoothing) {
+        this.name = name;
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.tolerance = tolerance;
+        this.smoothing = smoothing;
+        this.limit = Math.max(minLimit, Math.min(initialLimit, maxLimit));
+    }
+
+    /**
+     * A permit for one request, or null when the limit is reached. Every
+     * permit must be completed with exactly one of the methods of the permit.
+     */
+    Permit tryAcquire() {
+        int current;
+        do {
+            current = inflight.get();
+            if (current >= (int) limit) {
+                return null;
+            }
+        } while (!inflight.compareAndSet(current, current + 1));
+        return new Permit(System.nanoTime(), current + 1);
+    }
+
+    String name() {
+        return name;
+    }
+
+    int limit() {
+        return (int) limit;
+    }
+
+    int inflight() {
+        return inflight.get();
+    }
+
+    private synchronized void onSample(long now, long rttNanos, int inflightAtStart, boolean dropped) {
+        if (dropped) {
+            windowDropped = true;
+        } else {
+            rttNanos = Math.max(rttNanos, 1);
+            windowRttSumNanos += rttNanos;
+            windowSamples++;
+            windowMaxInflight = Math.max(windowMaxInflight, inflightAtStart);
+            // Windowed so the baseline can rise again when the work itself gets slower (more data, new queries)
+            windowMinRttNanos = Math.min(windowMinRttNanos, rttNanos);
+            if (++baselineSamples >= BASELINE_WINDOW) {
+                previousMinRttNanos = windowMinRttNanos;
+                windowMinRttNanos = Long.MAX_VALUE;
+                baselineSamples = 0;
+            }
+        }
+
+        // One adjustment per window of at least a few samples and a full round trip, so changes can take effect
+        long averageRttNanos = windowSamples > 0 ? windowRttSumNanos / windowSamples : 0;
+        long elapsed = now - windowStartNanos;
+        if (elapsed < Math.max(MIN_WINDOW_NANOS, averageRttNanos)
+            || (windowSamples < MIN_WINDOW_SAMPLES && !windowDropped)) {
+            return;
+        }
+
+        if (windowDropped) {
+            update(limit * DROP_BACKOFF);
+        } else if (windowMaxInflight >= limit / 2) {
+            // An application that does not use its limit says nothing about whether the limit is too low
+            long noLoadRttNanos = Math.min(windowMinRttNanos, previousMinRttNanos);
+            double gradient = Math.max(0.5, Math.min(1.0, tolerance * noLoadRttNanos / averageRttNanos));
+            update(limit * gradient + Math.sqrt(limit));
+        }
+
+        windowStartNanos = now;
+        windowRttSumNanos = 0;
+        windowSamples = 0;
+        windowMaxInflight = 0;
+        windowDropped = false;
+    }
+
+    private void update(double target) {
+        double next = limit * (1 - smoothing) + target * smoothing;
+        limit = Math.max(minLimit, Math.min(next, maxLimit));
+    }
+
+    final class Permit {
+        private final long startNanos;
+        private final int inflightAtStart;
+
+        private Permit(long startNanos, int inflightAtStart) {
+            this.startNanos = startNanos;
+            this.inflightAtStart = inflightAtStart;
+        }
+
+        void onSuccess() {
+            inflight.decrementAndGet();
+            long now = System.nanoTime();
+            onSample(now, now - startNanos, inflightAtStart, false);
+        }
+
+        void onDropped() {
+            inflight.decrementAndGet();
+            onSample(System.nanoTime(), 0, inflightAtStart, true);
+        }
+    }
+}
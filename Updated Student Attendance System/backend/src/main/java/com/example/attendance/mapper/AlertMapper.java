@@ -0,0 +1,24 @@
+package com.example.attendance.mapper;
+
+import com.example.attendance.dto.AttendanceAlertDTO;
+import com.example.attendance.model.AttendanceAlert;
+import org.springframework.stereotype.Component;
+
+@Component
+public class AlertMapper {
+    
+    public AttendanceAlertDTO toDTO(AttendanceAlert alert) {
+        if (alert == null) {
+            return null;
+        }
+        return new AttendanceAlertDTO(
+            alert.getId(),
+            alert.getStudentId(),
+            alert.getRule(),
+            alert.isActive(),
+            alert.getDetail(),
+            alert.getRaisedAt(),
+            alert.getClearedAt()
+        );
+    }
+}
@@ -8,6 +8,24 @@ import org.springframework.stereotype.Component;
 @Component
 public class AttendanceMapper {
     
+    // Maps from the student snapshot stored on the record
+    public AttendanceDTO toDTO(Attendance attendance) {
+        if (attendance == null) {
+            return null;
+        }
+        return new AttendanceDTO(
+            attendance.getId(),
+            attendance.getStudentId(),
+            attendance.getStudentName(),
+            attendance.getRollNumber(),
+            attendance.getDate(),
+            attendance.getStatus(),
+            attendance.getSectionId(),
+            attendance.getPeriod(),
+            attendance.getVersion()
+        );
+    }
+    
     public AttendanceDTO toDTO(Attendance attendance, Student student) {
         if (attendance == null) {
             return null;
@@ -31,7 +49,10 @@ public class AttendanceMapper {
             studentName,
             rollNumber,
             attendance.getDate(),
-            attendance.getStatus()
+            attendance.getStatus(),
+            attendance.getSectionId(),
+            attendance.getPeriod(),
+            attendance.getVersion()
         );
     }
 }
\ No newline at end of file
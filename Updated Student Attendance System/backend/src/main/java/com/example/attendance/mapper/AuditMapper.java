@@ -0,0 +1,29 @@
+package com.example.attendance.mapper;
+
+import com.example.attendance.dto.AttendanceAuditDTO;
+import com.example.attendance.model.AttendanceAudit;
+import org.springframework.stereotype.Component;
+
+@Component
+public class AuditMapper {
+    
+    public AttendanceAuditDTO toDTO(AttendanceAudit audit) {
+        if (audit == null) {
+            return null;
+        }
+        return new AttendanceAuditDTO(
+            audit.getId(),
+            audit.getAttendanceId(),
+            audit.getStudentId(),
+            audit.getDate(),
+            audit.getPeriod(),
+            audit.getSectionId(),
+            audit.getAction(),
+            audit.getBeforeStatus(),
+            audit.getAfterStatus(),
+            audit.getActor(),
+            audit.getRemoteAddress(),
+            audit.getTimestamp()
+        );
+    }
+}
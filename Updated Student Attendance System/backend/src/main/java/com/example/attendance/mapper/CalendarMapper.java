@@ -0,0 +1,22 @@
+package com.example.attendance.mapper;
+
+import com.example.attendance.dto.AcademicCalendarDTO;
+import com.example.attendance.model.AcademicCalendar;
+import org.springframework.stereotype.Component;
+
+@Component
+public class CalendarMapper {
+    
+    public AcademicCalendarDTO toDTO(AcademicCalendar calendar) {
+        if (calendar == null) {
+            return null;
+        }
+        return new AcademicCalendarDTO(
+            calendar.getId(),
+            calendar.getWeeklyOffDays(),
+            calendar.getTerms(),
+            calendar.getHolidays(),
+            calendar.getUpdatedAt()
+        );
+    }
+}
@@ -0,0 +1,32 @@
+package com.example.attendance.mapper;
+
+import com.example.attendance.dto.PurgeJobDTO;
+import com.example.attendance.model.PurgeJob;
+import org.springframework.stereotype.Component;
+
+@Component
+public class PurgeJobMapper {
+    
+    public PurgeJobDTO toDTO(PurgeJob job) {
+        if (job == null) {
+            return null;
+        }
+        double progress = job.getTotalRecords() > 0
+            ? Math.min(100.0, (job.getProcessedRecords() * 100.0) / job.getTotalRecords())
+            : (job.getStatus() == PurgeJob.Status.COMPLETED ? 100.0 : 0.0);
+        return new PurgeJobDTO(
+            job.getId(),
+            job.getStudentId(),
+            job.getRollNumber(),
+            job.getStatus(),
+            job.isArchive(),
+            job.getTotalRecords(),
+            job.getProcessedRecords(),
+            Math.round(progress * 100.0) / 100.0,
+            job.getLastError(),
+            job.getCreatedAt(),
+            job.getUpdatedAt(),
+            job.getCompletedAt()
+        );
+    }
+}
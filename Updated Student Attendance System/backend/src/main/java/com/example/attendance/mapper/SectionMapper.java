@@ -0,0 +1,23 @@
+package com.example.attendance.mapper;
+
+import com.example.attendance.dto.SectionDTO;
+import com.example.attendance.model.Section;
+import org.springframework.stereotype.Component;
+
+@Component
+public class SectionMapper {
+    
+    public SectionDTO toDTO(Section section) {
+        if (section == null) {
+            return null;
+        }
+        return new SectionDTO(
+            section.getId(),
+            section.getName(),
+            section.getDepartment(),
+            section.getYear(),
+            section.getPeriods(),
+            section.getStudentIds().size()
+        );
+    }
+}
@@ -21,7 +21,8 @@ public class StudentMapper {
             student.getPhone(),
             student.getDepartment(),
             student.getYear(),
-            student.isActive()
+            student.isActive(),
+            student.getVersion()
         );
     }
     
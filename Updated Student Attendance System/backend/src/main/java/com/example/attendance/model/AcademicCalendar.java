@@ -0,0 +1,61 @@
+package com.example.attendance.model;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Working-day rules for one department, or for every department when the id is
+ * {@link #DEFAULT_ID}. A department calendar inherits the default terms and
+ * weekly off-days unless it sets its own, and adds its holidays to the default ones.
+ */
+@Document(collection = "academic_calendars")
+public class AcademicCalendar {
+
+    public static final String DEFAULT_ID = "default";
+
+    public record Term(String name, LocalDate startDate, LocalDate endDate) {
+        public boolean contains(LocalDate date) {
+            return !date.isBefore(startDate) && !date.isAfter(endDate);
+        }
+    }
+
+    public record Holiday(LocalDate date, String name) {}
+
+    @Id
+    private String id;
+
+    private Set<DayOfWeek> weeklyOffDays;
+    private List<Term> terms = new ArrayList<>();
+    private List<Holiday> holidays = new ArrayList<>();
+    private LocalDateTime updatedAt;
+
+    public AcademicCalendar() {
+    }
+
+    public AcademicCalendar(String id) {
+        this.id = id;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    public String getId() { return id; }
+    public void setId(String id) { this.id = id; }
+
+    public Set<DayOfWeek> getWeeklyOffDays() { return weeklyOffDays; }
+    public void setWeeklyOffDays(Set<DayOfWeek> weeklyOffDays) { this.weeklyOffDays = weeklyOffDays; }
+
+    public List<Term> getTerms() { return terms; }
+    public void setTerms(List<Term> terms) { this.terms = terms; }
+
+    public List<Holiday> getHolidays() { return holidays; }
+    public void setHolidays(List<Holiday> holidays) { this.holidays = holidays; }
+
+    public LocalDateTime getUpdatedAt() { return updatedAt; }
+    public void setUpdatedAt(LocalDateTime updatedAt) { this.updatedAt = updatedAt; }
+}
@@ -1,26 +1,34 @@
 package com.example.attendance.model;
 
 import org.springframework.data.annotation.Id;
-import org.springframework.data.mongodb.core.index.CompoundIndex;
-import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.annotation.Version;
 import org.springframework.data.mongodb.core.mapping.Document;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 
 @Document(collection = "attendance")
-@CompoundIndex(name = "student_date_idx", def = "{'studentId': 1, 'date': 1}", unique = true)
 public class Attendance {
     @Id
     private String id;
     
-    @Indexed
     private String studentId;
     
-    @Indexed
     private LocalDate date;
     
     private Status status;
+    
+    // Set for per-period roll-call records; null for whole-day attendance
+    private String sectionId;
+    private Integer period;
+    
+    // Snapshot of the student at write time so reads need no student lookup
+    private String studentName;
+    private String rollNumber;
+    
+    @Version
+    private Long version;
+    
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
 
@@ -60,6 +68,21 @@ public class Attendance {
         this.updatedAt = LocalDateTime.now();
     }
     
+    public String getSectionId() { return sectionId; }
+    public void setSectionId(String sectionId) { this.sectionId = sectionId; }
+    
+    public Integer getPeriod() { return period; }
+    public void setPeriod(Integer period) { this.period = period; }
+    
+    public String getStudentName() { return studentName; }
+    public void setStudentName(String studentName) { this.studentName = studentName; }
+    
+    public String getRollNumber() { return rollNumber; }
+    public void setRollNumber(String rollNumber) { this.rollNumber = rollNumber; }
+    
+    public Long getVersion() { return version; }
+    public void setVersion(Long version) { this.version = version; }
+    
     public LocalDateTime getCreatedAt() { return createdAt; }
     public void setCreatedAt(LocalDateTime createdAt) { this.createdAt = createdAt; }
     
@@ -0,0 +1,54 @@
+package com.example.attendance.model;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.LocalDateTime;
+
+@Document(collection = "attendance_alerts")
+public class AttendanceAlert {
+    @Id
+    private String id;
+    
+    private String studentId;
+    private Rule rule;
+    private boolean active = true;
+    private String detail;
+    
+    private LocalDateTime raisedAt;
+    private LocalDateTime clearedAt;
+
+    public enum Rule { LOW_PERCENTAGE, ABSENCE_STREAK }
+
+    public AttendanceAlert() {
+        this.raisedAt = LocalDateTime.now();
+    }
+
+    public AttendanceAlert(String studentId, Rule rule, String detail) {
+        this.studentId = studentId;
+        this.rule = rule;
+        this.detail = detail;
+        this.raisedAt = LocalDateTime.now();
+    }
+
+    public String getId() { return id; }
+    public void setId(String id) { this.id = id; }
+
+    public String getStudentId() { return studentId; }
+    public void setStudentId(String studentId) { this.studentId = studentId; }
+
+    public Rule getRule() { return rule; }
+    public void setRule(Rule rule) { this.rule = rule; }
+
+    public boolean isActive() { return active; }
+    public void setActive(boolean active) { this.active = active; }
+
+    public String getDetail() { return detail; }
+    public void setDetail(String detail) { this.detail = detail; }
+
+    public LocalDateTime getRaisedAt() { return raisedAt; }
+    public void setRaisedAt(LocalDateTime raisedAt) { this.raisedAt = raisedAt; }
+
+    public LocalDateTime getClearedAt() { return clearedAt; }
+    public void setClearedAt(LocalDateTime clearedAt) { this.clearedAt = clearedAt; }
+}
@@ -0,0 +1,88 @@
+package com.example.attendance.model;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.Instant;
+import java.time.LocalDate;
+
+/**
+ * Append-only record of one change to an attendance record. {@code actor} is
+ * whatever the client sent in the actor header and is not authenticated;
+ * {@code remoteAddress} is the address the request came from.
+ */
+@Document(collection = "attendance_audit")
+public class AttendanceAudit {
+
+    public enum Action { CREATED, UPDATED, DELETED }
+
+    @Id
+    private String id;
+    
+    private String attendanceId;
+    private String studentId;
+    private LocalDate date;
+    private Integer period;
+    private String sectionId;
+    private Action action;
+    private Attendance.Status beforeStatus;
+    private Attendance.Status afterStatus;
+    private String actor;
+    private String remoteAddress;
+    private Instant timestamp;
+
+    public AttendanceAudit() {
+    }
+
+    public AttendanceAudit(String attendanceId, String studentId, LocalDate date, Integer period, String sectionId,
+                           Action action, Attendance.Status beforeStatus, Attendance.Status afterStatus,
+                           String actor, String remoteAddress, Instant timestamp) {
+        this.attendanceId = attendanceId;
+        this.studentId = studentId;
+        this.date = date;
+        this.period = period;
+        this.sectionId = sectionId;
+        this.action = action;
+        this.beforeStatus = beforeStatus;
+        this.afterStatus = afterStatus;
+        this.actor = actor;
+        this.remoteAddress = remoteAddress;
+        this.timestamp = timestamp;
+    }
+
+    public String getId() { return id; }
+    public void setId(String id) { this.id = id; }
+
+    public String getAttendanceId() { return attendanceId; }
+    public void setAttendanceId(String attendanceId) { this.attendanceId = attendanceId; }
+
+    public String getStudentId() { return studentId; }
+    public void setStudentId(String studentId) { this.studentId = studentId; }
+
+    public LocalDate getDate() { return date; }
+    public void setDate(LocalDate date) { this.date = date; }
+
+    public Integer getPeriod() { return period; }
+    public void setPeriod(Integer period) { this.period = period; }
+
+    public String getSectionId() { return sectionId; }
+    public void setSectionId(String sectionId) { this.sectionId = sectionId; }
+
+    public Action getAction() { return action; }
+    public void setAction(Action action) { this.action = action; }
+
+    public Attendance.Status getBeforeStatus() { return beforeStatus; }
+    public void setBeforeStatus(Attendance.Status beforeStatus) { this.beforeStatus = beforeStatus; }
+
+    public Attendance.Status getAfterStatus() { return afterStatus; }
+    public void setAfterStatus(Attendance.Status afterStatus) { this.afterStatus = afterStatus; }
+
+    public String getActor() { return actor; }
+    public void setActor(String actor) { this.actor = actor; }
+
+    public String getRemoteAddress() { return remoteAddress; }
+    public void setRemoteAddress(String remoteAddress) { this.remoteAddress = remoteAddress; }
+
+    public Instant getTimestamp() { return timestamp; }
+    public void setTimestamp(Instant timestamp) { this.timestamp = timestamp; }
+}
@@ -0,0 +1,54 @@
+package com.example.attendance.model;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Running per-student attendance counters, persisted periodically so the
+ * alert engine can restart without rescanning the attendance collection.
+ */
+@Document(collection = "attendance_snapshots")
+public class AttendanceSnapshot {
+    @Id
+    private String studentId;
+    
+    private long totalDays;
+    private long presentDays;
+    private int absenceStreak;
+    private LocalDate lastDate;
+    private LocalDateTime updatedAt;
+
+    public AttendanceSnapshot() {
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    public AttendanceSnapshot(String studentId, long totalDays, long presentDays, int absenceStreak, LocalDate lastDate) {
+        this.studentId = studentId;
+        this.totalDays = totalDays;
+        this.presentDays = presentDays;
+        this.absenceStreak = absenceStreak;
+        this.lastDate = lastDate;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    public String getStudentId() { return studentId; }
+    public void setStudentId(String studentId) { this.studentId = studentId; }
+
+    public long getTotalDays() { return totalDays; }
+    public void setTotalDays(long totalDays) { this.totalDays = totalDays; }
+
+    public long getPresentDays() { return presentDays; }
+    public void setPresentDays(long presentDays) { this.presentDays = presentDays; }
+
+    public int getAbsenceStreak() { return absenceStreak; }
+    public void setAbsenceStreak(int absenceStreak) { this.absenceStreak = absenceStreak; }
+
+    public LocalDate getLastDate() { return lastDate; }
+    public void setLastDate(LocalDate lastDate) { this.lastDate = lastDate; }
+
+    public LocalDateTime getUpdatedAt() { return updatedAt; }
+    public void setUpdatedAt(LocalDateTime updatedAt) { this.updatedAt = updatedAt; }
+}
@@ -0,0 +1,82 @@
+package com.example.attendance.model;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.LocalDateTime;
+
+@Document(collection = "purge_jobs")
+public class PurgeJob {
+    @Id
+    private String id;
+    
+    private String studentId;
+    
+    private String rollNumber;
+    
+    private Status status;
+    
+    private boolean archive;
+    private long totalRecords;
+    private long processedRecords;
+    private String lastError;
+    
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+    private LocalDateTime completedAt;
+
+    public enum Status { PENDING, RUNNING, COMPLETED, FAILED }
+
+    public PurgeJob() {
+        this.createdAt = LocalDateTime.now();
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    public PurgeJob(String studentId, String rollNumber, boolean archive) {
+        this.studentId = studentId;
+        this.rollNumber = rollNumber;
+        this.archive = archive;
+        this.status = Status.PENDING;
+        this.createdAt = LocalDateTime.now();
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    public String getId() { return id; }
+    public void setId(String id) { this.id = id; }
+
+    public String getStudentId() { return studentId; }
+    public void setStudentId(String studentId) { this.studentId = studentId; }
+
+    public String getRollNumber() { return rollNumber; }
+    public void setRollNumber(String rollNumber) { this.rollNumber = rollNumber; }
+
+    public Status getStatus() { return status; }
+    public void setStatus(Status status) { 
+        this.status = status;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    public boolean isArchive() { return archive; }
+    public void setArchive(boolean archive) { this.archive = archive; }
+
+    public long getTotalRecords() { return totalRecords; }
+    public void setTotalRecords(long totalRecords) { this.totalRecords = totalRecords; }
+
+    public long getProcessedRecords() { return processedRecords; }
+    public void setProcessedRecords(long processedRecords) { 
+        this.processedRecords = processedRecords;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    public String getLastError() { return lastError; }
+    public void setLastError(String lastError) { this.lastError = lastError; }
+
+    public LocalDateTime getCreatedAt() { return createdAt; }
+    public void setCreatedAt(LocalDateTime createdAt) { this.createdAt = createdAt; }
+
+    public LocalDateTime getUpdatedAt() { return updatedAt; }
+    public void setUpdatedAt(LocalDateTime updatedAt) { this.updatedAt = updatedAt; }
+
+    public LocalDateTime getCompletedAt() { return completedAt; }
+    public void setCompletedAt(LocalDateTime completedAt) { this.completedAt = completedAt; }
+}
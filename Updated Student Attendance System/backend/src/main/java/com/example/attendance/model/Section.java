@@ -0,0 +1,73 @@
+package com.example.attendance.model;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A named class section with its student roster and daily timetable of periods.
+ */
+@Document(collection = "sections")
+public class Section {
+
+    public record Period(int number, String name, LocalTime startTime, LocalTime endTime) {}
+
+    @Id
+    private String id;
+    
+    private String name;
+    private String department;
+    private Integer year;
+    private List<Period> periods = new ArrayList<>();
+    private List<String> studentIds = new ArrayList<>();
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+
+    public Section() {
+        this.createdAt = LocalDateTime.now();
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    public Section(String name, String department, Integer year) {
+        this.name = name;
+        this.department = department;
+        this.year = year;
+        this.createdAt = LocalDateTime.now();
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    public boolean hasPeriod(int number) {
+        return periods.isEmpty() || periods.stream().anyMatch(period -> period.number() == number);
+    }
+
+    public String getId() { return id; }
+    public void setId(String id) { this.id = id; }
+
+    public String getName() { return name; }
+    public void setName(String name) { this.name = name; }
+
+    public String getDepartment() { return department; }
+    public void setDepartment(String department) { this.department = department; }
+
+    public Integer getYear() { return year; }
+    public void setYear(Integer year) { this.year = year; }
+
+    public List<Period> getPeriods() { return periods; }
+    public void setPeriods(List<Period> periods) { this.periods = periods; }
+
+    public List<String> getStudentIds() { return studentIds; }
+    public void setStudentIds(List<String> studentIds) { 
+        this.studentIds = studentIds;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    public LocalDateTime getCreatedAt() { return createdAt; }
+    public void setCreatedAt(LocalDateTime createdAt) { this.createdAt = createdAt; }
+
+    public LocalDateTime getUpdatedAt() { return updatedAt; }
+    public void setUpdatedAt(LocalDateTime updatedAt) { this.updatedAt = updatedAt; }
+}
@@ -1,7 +1,7 @@
 package com.example.attendance.model;
 
 import org.springframework.data.annotation.Id;
-import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.annotation.Version;
 import org.springframework.data.mongodb.core.mapping.Document;
 
 import java.time.LocalDateTime;
@@ -13,7 +13,6 @@ public class Student {
     
     private String name;
     
-    @Indexed(unique = true)
     private String rollNumber;
     
     private String email;
@@ -22,6 +21,9 @@ public class Student {
     private Integer year;
     private boolean active = true;
     
+    @Version
+    private Long version;
+    
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
 
@@ -75,6 +77,9 @@ public class Student {
         this.updatedAt = LocalDateTime.now();
     }
     
+    public Long getVersion() { return version; }
+    public void setVersion(Long version) { this.version = version; }
+    
     public LocalDateTime getCreatedAt() { return createdAt; }
     public void setCreatedAt(LocalDateTime createdAt) { this.createdAt = createdAt; }
     
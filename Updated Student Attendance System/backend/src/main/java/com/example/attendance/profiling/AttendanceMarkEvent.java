@@ -0,0 +1,51 @@
+package com.example.attendance.profiling;
+
+import com.example.attendance.model.Attendance;
+import com.example.attendance.tenant.TenantContext;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+import java.time.LocalDate;
+
+@Name("com.example.attendance.AttendanceMark")
+@Label("Attendance Mark")
+@Category({"Attendance", "Writes"})
+@Description("Marking or correcting the whole-day attendance of one student, including retries")
+@StackTrace(false)
+public class AttendanceMarkEvent extends Event {
+
+    @Label("Tenant")
+    String tenant;
+
+    @Label("Operation")
+    String operation;
+
+    @Label("Roll Number")
+    String rollNumber;
+
+    @Label("Date")
+    String date;
+
+    @Label("Status")
+    String status;
+
+    public AttendanceMarkEvent(String operation, String rollNumber) {
+        this.operation = operation;
+        this.rollNumber = rollNumber;
+        begin();
+    }
+
+    public void finish(LocalDate date, Attendance.Status status) {
+        end();
+        if (shouldCommit()) {
+            this.tenant = TenantContext.current();
+            this.date = date != null ? date.toString() : null;
+            this.status = status != null ? status.name() : null;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.example.attendance.profiling;
+
+import com.example.attendance.tenant.TenantContext;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+import java.time.LocalDate;
+
+@Name("com.example.attendance.ReportGeneration")
+@Label("Report Generation")
+@Category({"Attendance", "Reads"})
+@Description("Building a multi-row attendance report such as a date range, status or history listing")
+@StackTrace(false)
+public class ReportGenerationEvent extends Event {
+
+    @Label("Tenant")
+    String tenant;
+
+    @Label("Report")
+    String report;
+
+    @Label("Subject")
+    @Description("Roll number or status the report was filtered on")
+    String subject;
+
+    @Label("Start Date")
+    String startDate;
+
+    @Label("End Date")
+    String endDate;
+
+    @Label("Rows")
+    long rows;
+
+    public ReportGenerationEvent(String report, String subject, LocalDate startDate, LocalDate endDate) {
+        this.report = report;
+        this.subject = subject;
+        this.startDate = startDate != null ? startDate.toString() : null;
+        this.endDate = endDate != null ? endDate.toString() : null;
+        begin();
+    }
+
+    public void finish(long rows) {
+        end();
+        if (shouldCommit()) {
+            this.tenant = TenantContext.current();
+            this.rows = rows;
+            commit();
+        }
+    }
+}
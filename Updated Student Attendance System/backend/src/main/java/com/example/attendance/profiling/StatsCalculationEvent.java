@@ -0,0 +1,54 @@
+package com.example.attendance.profiling;
+
+import com.example.attendance.tenant.TenantContext;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+import java.time.LocalDate;
+
+@Name("com.example.attendance.StatsCalculation")
+@Label("Statistics Calculation")
+@Category({"Attendance", "Reads"})
+@Description("Attendance statistics of one student, all time or for a date range")
+@StackTrace(false)
+public class StatsCalculationEvent extends Event {
+
+    @Label("Tenant")
+    String tenant;
+
+    @Label("Roll Number")
+    String rollNumber;
+
+    @Label("Start Date")
+    String startDate;
+
+    @Label("End Date")
+    String endDate;
+
+    @Label("Records Counted")
+    long rows;
+
+    @Label("Working Days")
+    long workingDays;
+
+    public StatsCalculationEvent(String rollNumber, LocalDate startDate, LocalDate endDate) {
+        this.rollNumber = rollNumber;
+        this.startDate = startDate != null ? startDate.toString() : null;
+        this.endDate = endDate != null ? endDate.toString() : null;
+        begin();
+    }
+
+    public void finish(long rows, long workingDays) {
+        end();
+        if (shouldCommit()) {
+            this.tenant = TenantContext.current();
+            this.rows = rows;
+            this.workingDays = workingDays;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.example.attendance.profiling;
+
+import com.example.attendance.tenant.TenantContext;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("com.example.attendance.StudentLookup")
+@Label("Student Lookup")
+@Category({"Attendance", "Reads"})
+@Description("Loading a single student by id or roll number")
+@StackTrace(false)
+public class StudentLookupEvent extends Event {
+
+    @Label("Tenant")
+    String tenant;
+
+    @Label("Field")
+    String field;
+
+    @Label("Value")
+    String value;
+
+    @Label("Found")
+    boolean found;
+
+    public StudentLookupEvent(String field, String value) {
+        this.field = field;
+        this.value = value;
+        begin();
+    }
+
+    public void finish(boolean found) {
+        end();
+        if (shouldCommit()) {
+            this.tenant = TenantContext.current();
+            this.found = found;
+            commit();
+        }
+    }
+}
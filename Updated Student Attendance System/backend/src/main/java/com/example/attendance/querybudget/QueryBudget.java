@@ -0,0 +1,106 @@
+package com.example.attendance.querybudget;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Counts the MongoDB commands issued by the current request. Once the request
+ * goes over the budget of its endpoint, the application frame that issued each
+ * further command is recorded so the overrun can be traced to its call site.
+ * Commands issued outside of a request, or on other threads, are not counted.
+ */
+public final class QueryBudget {
+
+    private static final ThreadLocal<Tracker> CURRENT = new ThreadLocal<>();
+    private static final String APPLICATION_PACKAGE = "com.example.attendance.";
+    private static final String OWN_PACKAGE = QueryBudget.class.getPackageName() + ".";
+    private static final StackWalker WALKER = StackWalker.getInstance();
+
+    private QueryBudget() {
+    }
+
+    static final class Tracker {
+        private int count;
+        private String endpoint;
+        private int maxQueries = -1;
+        private boolean reported;
+        private final Map<String, Integer> commands = new LinkedHashMap<>();
+        private final Map<String, Integer> callSites = new LinkedHashMap<>();
+
+        int count() {
+            return count;
+        }
+
+        String endpoint() {
+            return endpoint;
+        }
+
+        int maxQueries() {
+            return maxQueries;
+        }
+
+        boolean exceeded() {
+            return maxQueries >= 0 && count > maxQueries;
+        }
+
+        Map<String, Integer> commands() {
+            return commands;
+        }
+
+        Map<String, Integer> callSites() {
+            return callSites;
+        }
+
+        // True only for the first caller, so an overrun is logged or rejected once
+        boolean markReported() {
+            boolean first = !reported;
+            reported = true;
+            return first;
+        }
+    }
+
+    static Tracker begin() {
+        Tracker tracker = new Tracker();
+        CURRENT.set(tracker);
+        return tracker;
+    }
+
+    static void end() {
+        CURRENT.remove();
+    }
+
+    static Tracker current() {
+        return CURRENT.get();
+    }
+
+    static void limit(String endpoint, int maxQueries) {
+        Tracker tracker = CURRENT.get();
+        if (tracker != null) {
+            tracker.endpoint = endpoint;
+            tracker.maxQueries = maxQueries;
+        }
+    }
+
+    static void record(String commandName) {
+        Tracker tracker = CURRENT.get();
+        if (tracker == null) {
+            return;
+        }
+        tracker.count++;
+        tracker.commands.merge(commandName, 1, Integer::sum);
+        if (tracker.exceeded()) {
+            tracker.callSites.merge(callSite(), 1, Integer::sum);
+        }
+    }
+
+    private static String callSite() {
+        return WALKER.walk(frames -> frames
+            .filter(frame -> frame.getClassName().startsWith(APPLICATION_PACKAGE)
+                && !frame.getClassName().startsWith(OWN_PACKAGE)
+                && !frame.getClassName().contains("$$"))
+            .findFirst()
+            .map(frame -> frame.getClassName().substring(APPLICATION_PACKAGE.length()) + "." + frame.getMethodName()
+                + ":" + frame.getLineNumber())
+            .orElse("unknown"));
+    }
+}
@@ -0,0 +1,69 @@
+package com.example.attendance.querybudget;
+
+import com.example.attendance.config.QueryBudgetProperties;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * Tracks the MongoDB commands of each request, records them per endpoint and
+ * logs requests that went over their budget together with the call sites of
+ * the extra commands. Runs outside the response cache, so cache hits count zero.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 15)
+public class QueryBudgetFilter extends OncePerRequestFilter {
+
+    private static final Logger log = LoggerFactory.getLogger(QueryBudgetFilter.class);
+
+    private final QueryBudgetProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    public QueryBudgetFilter(QueryBudgetProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !properties.enabled();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+        throws ServletException, IOException {
+        QueryBudget.Tracker tracker = QueryBudget.begin();
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            QueryBudget.end();
+            String uri = QueryBudgetInterceptor.endpointPattern(request);
+            DistributionSummary.builder("attendance.http.mongo.commands")
+                .description("MongoDB commands issued per HTTP request")
+                .baseUnit("commands")
+                .tag("method", request.getMethod())
+                .tag("uri", uri)
+                .register(meterRegistry)
+                .record(tracker.count());
+            if (tracker.exceeded()) {
+                meterRegistry.counter("attendance.http.mongo.budget.exceeded",
+                    "method", request.getMethod(), "uri", uri).increment();
+                if (tracker.markReported()) {
+                    log.warn("Query budget exceeded for {}: {} commands (budget {}), commands {}, extra commands from {}",
+                        tracker.endpoint(), tracker.count(), tracker.maxQueries(), tracker.commands(), tracker.callSites());
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.example.attendance.querybudget;
+
+import com.example.attendance.config.QueryBudgetProperties;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Applies the budget of the matched endpoint before the handler runs, so call
+ * sites are captured from the first command over the budget onwards.
+ */
+@Component
+public class QueryBudgetInterceptor implements HandlerInterceptor {
+
+    private final QueryBudgetProperties properties;
+    private final Map<String, Integer> budgets;
+
+    public QueryBudgetInterceptor(QueryBudgetProperties properties) {
+        this.properties = properties;
+        this.budgets = properties.budgets().stream()
+            .collect(Collectors.toMap(QueryBudgetProperties.Budget::endpoint, QueryBudgetProperties.Budget::maxQueries));
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        String endpoint = request.getMethod() + " " + endpointPattern(request);
+        QueryBudget.limit(endpoint, budgets.getOrDefault(endpoint, properties.defaultMaxQueries()));
+        return true;
+    }
+
+    static String endpointPattern(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return pattern != null ? pattern.toString() : "UNKNOWN";
+    }
+}
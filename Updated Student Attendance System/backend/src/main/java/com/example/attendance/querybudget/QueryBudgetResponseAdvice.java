@@ -0,0 +1,47 @@
+package com.example.attendance.querybudget;
+
+import com.example.attendance.config.QueryBudgetProperties;
+import com.example.attendance.exception.QueryBudgetExceededException;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/**
+ * Adds the query count header just before the body is written, when the
+ * handler has issued all of its commands but the headers are still open.
+ * In enforcing mode an overrun turns the response into an error instead.
+ */
+@ControllerAdvice
+public class QueryBudgetResponseAdvice implements ResponseBodyAdvice<Object> {
+
+    private final QueryBudgetProperties properties;
+
+    public QueryBudgetResponseAdvice(QueryBudgetProperties properties) {
+        this.properties = properties;
+    }
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return properties.enabled();
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        QueryBudget.Tracker tracker = QueryBudget.current();
+        if (tracker == null) {
+            return body;
+        }
+        response.getHeaders().set(properties.header(), String.valueOf(tracker.count()));
+        if (properties.enforce() && tracker.exceeded() && tracker.markReported()) {
+            throw new QueryBudgetExceededException(tracker.endpoint(), tracker.count(), tracker.maxQueries(),
+                tracker.callSites().keySet());
+        }
+        return body;
+    }
+}
@@ -0,0 +1,23 @@
+package com.example.attendance.querybudget;
+
+import com.mongodb.event.CommandListener;
+import com.mongodb.event.CommandStartedEvent;
+
+import java.util.Set;
+
+/**
+ * Feeds {@link QueryBudget}. The synchronous driver notifies listeners on the
+ * calling thread, so the command is attributed to the request being served.
+ * Cursor continuations and session bookkeeping are not counted as queries.
+ */
+public class QueryCountingCommandListener implements CommandListener {
+
+    private static final Set<String> IGNORED = Set.of("getMore", "killCursors", "endSessions", "hello", "isMaster", "ping");
+
+    @Override
+    public void commandStarted(CommandStartedEvent event) {
+        if (!IGNORED.contains(event.getCommandName())) {
+            QueryBudget.record(event.getCommandName());
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package com.example.attendance.repository;
+
+import com.example.attendance.model.AcademicCalendar;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.data.mongodb.repository.Query;
+
+import java.util.List;
+
+public interface AcademicCalendarRepository extends MongoRepository<AcademicCalendar, String> {
+
+    @Query(value = "{}", fields = "{'updatedAt': 1}")
+    List<AcademicCalendar> findAllVersions();
+}
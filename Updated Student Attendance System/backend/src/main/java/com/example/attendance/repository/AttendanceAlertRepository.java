@@ -0,0 +1,17 @@
+package com.example.attendance.repository;
+
+import com.example.attendance.model.AttendanceAlert;
+import org.springframework.data.mongodb.repository.MongoRepository;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface AttendanceAlertRepository extends MongoRepository<AttendanceAlert, String> {
+    List<AttendanceAlert> findByActiveTrue();
+    
+    List<AttendanceAlert> findByStudentIdOrderByRaisedAtDesc(String studentId);
+    
+    Optional<AttendanceAlert> findFirstByStudentIdAndRuleAndActiveTrue(String studentId, AttendanceAlert.Rule rule);
+    
+    void deleteByStudentId(String studentId);
+}
@@ -0,0 +1,18 @@
+package com.example.attendance.repository;
+
+import com.example.attendance.model.AttendanceAudit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.repository.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+// Read-only on purpose: entries are only ever inserted in batches by AttendanceAuditService
+public interface AttendanceAuditRepository extends Repository<AttendanceAudit, String> {
+    Page<AttendanceAudit> findByStudentIdAndDateBetween(String studentId, LocalDate startDate, LocalDate endDate, Pageable pageable);
+    
+    Page<AttendanceAudit> findByStudentId(String studentId, Pageable pageable);
+    
+    List<AttendanceAudit> findByAttendanceIdOrderByTimestampAsc(String attendanceId);
+}
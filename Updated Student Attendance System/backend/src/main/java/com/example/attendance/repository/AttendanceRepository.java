@@ -3,32 +3,95 @@ package com.example.attendance.repository;
 import com.example.attendance.model.Attendance;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.repository.Aggregation;
 import org.springframework.data.mongodb.repository.MongoRepository;
 import org.springframework.data.mongodb.repository.Query;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
+/**
+ * Per-period roll-call records share the collection with whole-day records;
+ * apart from the period, purge and marked-student lookups, every query reads whole-day
+ * records ({@code period: null}) only.
+ */
 public interface AttendanceRepository extends MongoRepository<Attendance, String> {
-    Optional<Attendance> findByStudentIdAndDate(String studentId, LocalDate date);
+    Optional<Attendance> findByStudentIdAndDateAndPeriodIsNull(String studentId, LocalDate date);
     
-    List<Attendance> findByDate(LocalDate date);
+    List<Attendance> findByStudentIdInAndDateAndPeriod(Collection<String> studentIds, LocalDate date, Integer period);
     
-    List<Attendance> findByStudentIdOrderByDateDesc(String studentId);
+    List<Attendance> findBySectionIdAndDateAndPeriod(String sectionId, LocalDate date, Integer period);
     
-    List<Attendance> findByStudentIdAndDateBetween(String studentId, LocalDate startDate, LocalDate endDate);
+    List<Attendance> findByDateAndPeriodIsNull(LocalDate date);
     
-    List<Attendance> findByDateBetween(LocalDate startDate, LocalDate endDate);
+    List<Attendance> findByStudentIdAndPeriodIsNullOrderByDateDesc(String studentId);
     
-    Page<Attendance> findByDate(LocalDate date, Pageable pageable);
+    List<Attendance> findByStudentId(String studentId, Pageable pageable);
     
-    long countByStudentIdAndStatus(String studentId, Attendance.Status status);
+    long countByStudentId(String studentId);
     
-    long countByStudentIdAndDateBetweenAndStatus(String studentId, LocalDate startDate, LocalDate endDate, Attendance.Status status);
+    List<Attendance> findByStudentIdAndDateBetweenAndPeriodIsNull(String studentId, LocalDate startDate, LocalDate endDate);
     
-    @Query("{'date': {$gte: ?0, $lte: ?1}, 'status': ?2}")
+    List<Attendance> findByDateBetweenAndPeriodIsNull(LocalDate startDate, LocalDate endDate);
+    
+    Page<Attendance> findByDateAndPeriodIsNull(LocalDate date, Pageable pageable);
+    
+    long countByStudentIdAndStatusAndPeriodIsNull(String studentId, Attendance.Status status);
+    
+    long countByStudentIdAndStatusAndDateAfterAndPeriodIsNull(String studentId, Attendance.Status status, LocalDate date);
+    
+    Optional<Attendance> findFirstByStudentIdAndPeriodIsNullOrderByDateDesc(String studentId);
+    
+    Optional<Attendance> findFirstByStudentIdAndStatusAndPeriodIsNullOrderByDateDesc(String studentId, Attendance.Status status);
+    
+    long countByStudentIdAndDateBetweenAndStatusAndPeriodIsNull(String studentId, LocalDate startDate, LocalDate endDate, Attendance.Status status);
+    
+    @Query("{'date': {$gte: ?0, $lte: ?1}, 'status': ?2, 'period': null}")
     List<Attendance> findAttendanceByDateRangeAndStatus(LocalDate startDate, LocalDate endDate, Attendance.Status status);
     
-    boolean existsByStudentIdAndDate(String studentId, LocalDate date);
+    boolean existsByStudentIdAndDateAndPeriodIsNull(String studentId, LocalDate date);
+    
+    @Query("{'period': null}")
+    Stream<Attendance> streamWholeDayRecords(Sort sort);
+    
+    // Covered by date_student_idx, so only index keys are read
+    @Query(value = "{'date': ?0}", fields = "{'studentId': 1, '_id': 0}")
+    List<Attendance> findStudentIdsByDate(LocalDate date);
+    
+    @Query(value = "{'studentId': ?0, 'period': null, 'date': {$gte: ?1, $lte: ?2}}", fields = "{'date': 1, 'status': 1}")
+    Stream<Attendance> streamWholeDayHistory(String studentId, LocalDate startDate, LocalDate endDate, Sort sort);
+    
+    @Aggregation(pipeline = {
+        "{$match: {'date': ?0, 'period': null}}",
+        "{$group: {_id: '$status', count: {$sum: 1}}}"
+    })
+    List<StatusCount> countByStatusForDate(LocalDate date);
+    
+    @Aggregation(pipeline = {
+        "{$match: {'studentId': {$in: ?0}, 'date': {$gte: ?1, $lte: ?2}, 'period': null}}",
+        "{$group: {_id: {studentId: '$studentId', status: '$status'}, count: {$sum: 1}}}",
+        "{$project: {_id: 0, studentId: '$_id.studentId', status: '$_id.status', count: 1}}"
+    })
+    List<StudentStatusCount> countByStudentAndStatus(Collection<String> studentIds, LocalDate startDate, LocalDate endDate);
+    
+    @Aggregation(pipeline = {
+        "{$match: {'studentId': {$in: ?0}, 'date': {$gte: ?1, $lte: ?2}, 'period': null}}",
+        "{$setWindowFields: {partitionBy: '$studentId', sortBy: {date: -1}, output: {rank: {$documentNumber: {}}}}}",
+        "{$match: {rank: {$lte: ?3}}}",
+        "{$unset: 'rank'}",
+        "{$sort: {studentId: 1, date: -1}}"
+    })
+    List<Attendance> findLatestByStudentIdsAndDateRange(Collection<String> studentIds, LocalDate startDate,
+                                                        LocalDate endDate, int limitPerStudent);
+    
+    @Query("{'date': {$gte: ?0, $lte: ?1}, 'period': null}")
+    List<Attendance> findByDateRange(LocalDate startDate, LocalDate endDate, Pageable pageable);
+    
+    @Query("{'date': {$gte: ?0, $lte: ?1}, 'status': ?2, 'period': null}")
+    List<Attendance> findByDateRangeAndStatus(LocalDate startDate, LocalDate endDate, Attendance.Status status,
+                                              Pageable pageable);
 }
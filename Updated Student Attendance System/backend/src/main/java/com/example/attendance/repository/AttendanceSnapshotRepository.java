@@ -0,0 +1,7 @@
+package com.example.attendance.repository;
+
+import com.example.attendance.model.AttendanceSnapshot;
+import org.springframework.data.mongodb.repository.MongoRepository;
+
+public interface AttendanceSnapshotRepository extends MongoRepository<AttendanceSnapshot, String> {
+}
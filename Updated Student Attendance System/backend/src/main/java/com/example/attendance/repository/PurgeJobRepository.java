@@ -0,0 +1,13 @@
+package com.example.attendance.repository;
+
+import com.example.attendance.model.PurgeJob;
+import org.springframework.data.mongodb.repository.MongoRepository;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface PurgeJobRepository extends MongoRepository<PurgeJob, String> {
+    List<PurgeJob> findByStatusInOrderByCreatedAtAsc(Collection<PurgeJob.Status> statuses);
+    
+    List<PurgeJob> findAllByOrderByCreatedAtDesc();
+}
@@ -0,0 +1,8 @@
+package com.example.attendance.repository;
+
+import com.example.attendance.model.Section;
+import org.springframework.data.mongodb.repository.MongoRepository;
+
+public interface SectionRepository extends MongoRepository<Section, String> {
+    boolean existsByName(String name);
+}
@@ -0,0 +1,9 @@
+package com.example.attendance.repository;
+
+import com.example.attendance.model.Attendance;
+import org.springframework.data.annotation.Id;
+
+public record StatusCount(
+    @Id Attendance.Status status,
+    long count
+) {}
@@ -6,6 +6,7 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.mongodb.repository.MongoRepository;
 import org.springframework.data.mongodb.repository.Query;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -14,8 +15,11 @@ public interface StudentRepository extends MongoRepository<Student, String> {
     
     boolean existsByRollNumber(String rollNumber);
     
+    List<Student> findByRollNumberIn(Collection<String> rollNumbers);
+    
     List<Student> findByActiveTrue();
     
+    @Query(value = "{'department': ?0}", collation = "{'locale': 'en', 'strength': 2}")
     List<Student> findByDepartment(String department);
     
     Page<Student> findByActiveTrue(Pageable pageable);
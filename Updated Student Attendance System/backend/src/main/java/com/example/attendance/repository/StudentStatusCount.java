@@ -0,0 +1,9 @@
+package com.example.attendance.repository;
+
+import com.example.attendance.model.Attendance;
+
+public record StudentStatusCount(
+    String studentId,
+    Attendance.Status status,
+    long count
+) {}
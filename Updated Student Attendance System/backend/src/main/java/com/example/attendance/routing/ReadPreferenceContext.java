@@ -0,0 +1,35 @@
+package com.example.attendance.routing;
+
+import com.mongodb.ReadPreference;
+
+import java.util.function.Supplier;
+
+/**
+ * Read preference for the Mongo operations of the current thread. Nothing bound
+ * means the client default, which is the primary.
+ */
+public final class ReadPreferenceContext {
+
+    private static final ThreadLocal<ReadPreference> CURRENT = new ThreadLocal<>();
+
+    private ReadPreferenceContext() {
+    }
+
+    public static ReadPreference current() {
+        return CURRENT.get();
+    }
+
+    public static <T> T call(ReadPreference readPreference, Supplier<T> task) {
+        ReadPreference previous = CURRENT.get();
+        CURRENT.set(readPreference);
+        try {
+            return task.get();
+        } finally {
+            if (previous != null) {
+                CURRENT.set(previous);
+            } else {
+                CURRENT.remove();
+            }
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.example.attendance.routing;
+
+import com.example.attendance.config.ReadRoutingProperties;
+import com.mongodb.ReadPreference;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Runs report queries against secondaries (falling back to the primary when
+ * none is fresh enough), while marking and read-your-writes flows stay on the primary.
+ */
+@Component
+public class ReadRouting {
+
+    private static final Logger log = LoggerFactory.getLogger(ReadRouting.class);
+
+    public static final String ATTENDANCE_RANGE = "range";
+    public static final String ATTENDANCE_STATUS = "status";
+    public static final String STUDENT_HISTORY = "history";
+    public static final String STUDENT_STATS = "stats";
+    public static final String STUDENT_DIRECTORY = "students";
+
+    // Lowest max staleness the driver accepts
+    private static final long MIN_MAX_STALENESS_SECONDS = 90;
+
+    private final ReadRoutingProperties properties;
+    private final ReadPreference secondary;
+
+    public ReadRouting(ReadRoutingProperties properties) {
+        this.properties = properties;
+        long maxStaleness = properties.maxStalenessSeconds();
+        if (maxStaleness < MIN_MAX_STALENESS_SECONDS) {
+            log.warn("attendance.read-routing.max-staleness-seconds={} is below the minimum, using {}",
+                maxStaleness, MIN_MAX_STALENESS_SECONDS);
+            maxStaleness = MIN_MAX_STALENESS_SECONDS;
+        }
+        this.secondary = ReadPreference.secondaryPreferred(maxStaleness, TimeUnit.SECONDS);
+    }
+
+    public boolean isSecondary(String endpoint) {
+        return properties.enabled() && properties.endpoints().getOrDefault(endpoint, true);
+    }
+
+    public <T> T report(String endpoint, Supplier<T> query) {
+        if (!isSecondary(endpoint)) {
+            return query.get();
+        }
+        return ReadPreferenceContext.call(secondary, query);
+    }
+}
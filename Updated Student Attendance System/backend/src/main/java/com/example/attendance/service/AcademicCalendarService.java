@@ -0,0 +1,172 @@
+package com.example.attendance.service;
+
+import com.example.attendance.config.CalendarProperties;
+import com.example.attendance.dto.AcademicCalendarDTO;
+import com.example.attendance.dto.UpdateCalendarRequest;
+import com.example.attendance.dto.WorkingDaysDTO;
+import com.example.attendance.exception.ResourceNotFoundException;
+import com.example.attendance.mapper.CalendarMapper;
+import com.example.attendance.model.AcademicCalendar;
+import com.example.attendance.repository.AcademicCalendarRepository;
+import com.example.attendance.tenant.TenantContext;
+import org.springframework.stereotype.Service;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Stores academic calendars and compiles each department's effective calendar
+ * into a {@link WorkingDayIndex} on first use, so working-day counts for any
+ * range are O(1). Departments without a calendar of their own share the
+ * default index, so there is at most one index per stored calendar. Indexes are
+ * dropped whenever a calendar changes here, and when a periodic check of the
+ * stored {@code updatedAt} values shows a change made by another instance.
+ */
+@Service
+public class AcademicCalendarService {
+
+    private final AcademicCalendarRepository calendarRepository;
+    private final CalendarMapper calendarMapper;
+    private final CalendarProperties properties;
+
+    private final Map<String, Compiled> compiled = new ConcurrentHashMap<>();
+
+    public AcademicCalendarService(AcademicCalendarRepository calendarRepository,
+                                   CalendarMapper calendarMapper,
+                                   CalendarProperties properties) {
+        this.calendarRepository = calendarRepository;
+        this.calendarMapper = calendarMapper;
+        this.properties = properties;
+    }
+
+    public List<AcademicCalendarDTO> getCalendars() {
+        return calendarRepository.findAll().stream()
+            .map(calendarMapper::toDTO)
+            .collect(Collectors.toList());
+    }
+
+    public AcademicCalendarDTO getCalendar(String department) {
+        String id = calendarId(department);
+        return calendarRepository.findById(id)
+            .map(calendarMapper::toDTO)
+            .orElseThrow(() -> new ResourceNotFoundException("Calendar", "department", department));
+    }
+
+    public AcademicCalendarDTO updateCalendar(String department, UpdateCalendarRequest request) {
+        String id = calendarId(department);
+        AcademicCalendar calendar = calendarRepository.findById(id).orElseGet(() -> new AcademicCalendar(id));
+        calendar.setWeeklyOffDays(request.weeklyOffDays());
+        calendar.setTerms(request.terms() != null ? request.terms() : new ArrayList<>());
+        calendar.setHolidays(request.holidays() != null ? request.holidays() : new ArrayList<>());
+        calendar.setUpdatedAt(LocalDateTime.now());
+        AcademicCalendar saved = calendarRepository.save(calendar);
+        invalidate();
+        return calendarMapper.toDTO(saved);
+    }
+
+    public void deleteCalendar(String department) {
+        String id = calendarId(department);
+        if (!calendarRepository.existsById(id)) {
+            throw new ResourceNotFoundException("Calendar", "department", department);
+        }
+        calendarRepository.deleteById(id);
+        invalidate();
+    }
+
+    public WorkingDaysDTO getWorkingDays(String department, LocalDate startDate, LocalDate endDate) {
+        return new WorkingDaysDTO(department, startDate, endDate, countWorkingDays(department, startDate, endDate));
+    }
+
+    public long countWorkingDays(String department, LocalDate startDate, LocalDate endDate) {
+        return index(department).count(startDate, endDate);
+    }
+
+    public boolean isWorkingDay(String department, LocalDate date) {
+        return index(department).isWorkingDay(date);
+    }
+
+    private WorkingDayIndex index(String department) {
+        Compiled tenant = compiled(TenantContext.current());
+        String id = calendarId(department);
+        String key = tenant.versions.containsKey(id) ? id : AcademicCalendar.DEFAULT_ID;
+        return tenant.indexes.computeIfAbsent(key, this::compile);
+    }
+
+    private Compiled compiled(String tenantId) {
+        Compiled current = compiled.get(tenantId);
+        long now = System.nanoTime();
+        if (current != null && now - current.checkedAt < TimeUnit.MILLISECONDS.toNanos(properties.refreshIntervalMs())) {
+            return current;
+        }
+        Map<String, LocalDateTime> versions = new HashMap<>();
+        calendarRepository.findAllVersions().forEach(calendar -> versions.put(calendar.getId(), calendar.getUpdatedAt()));
+        // Keep the compiled indexes while no calendar changed
+        Compiled refreshed = current != null && current.versions.equals(versions)
+            ? new Compiled(versions, current.indexes, now)
+            : new Compiled(versions, new ConcurrentHashMap<>(), now);
+        compiled.put(tenantId, refreshed);
+        return refreshed;
+    }
+
+    private void invalidate() {
+        compiled.remove(TenantContext.current());
+    }
+
+    private WorkingDayIndex compile(String id) {
+        AcademicCalendar defaults = calendarRepository.findById(AcademicCalendar.DEFAULT_ID).orElse(null);
+        AcademicCalendar own = AcademicCalendar.DEFAULT_ID.equals(id) ? null : calendarRepository.findById(id).orElse(null);
+
+        Set<DayOfWeek> offDays = EnumSet.noneOf(DayOfWeek.class);
+        if (own != null && own.getWeeklyOffDays() != null) {
+            offDays.addAll(own.getWeeklyOffDays());
+        } else if (defaults != null && defaults.getWeeklyOffDays() != null) {
+            offDays.addAll(defaults.getWeeklyOffDays());
+        } else {
+            offDays.addAll(properties.weeklyOffDays());
+        }
+
+        List<AcademicCalendar.Term> terms = own != null && !own.getTerms().isEmpty()
+            ? own.getTerms()
+            : defaults != null ? defaults.getTerms() : List.of();
+
+        Set<LocalDate> holidays = new HashSet<>();
+        for (AcademicCalendar calendar : new AcademicCalendar[] {defaults, own}) {
+            if (calendar != null) {
+                calendar.getHolidays().forEach(holiday -> holidays.add(holiday.date()));
+            }
+        }
+
+        int year = LocalDate.now().getYear();
+        LocalDate start = LocalDate.of(year - properties.yearsBack(), 1, 1);
+        LocalDate end = LocalDate.of(year + properties.yearsAhead(), 12, 31);
+        for (AcademicCalendar.Term term : terms) {
+            start = term.startDate().isBefore(start) ? term.startDate() : start;
+            end = term.endDate().isAfter(end) ? term.endDate() : end;
+        }
+
+        // Without terms every non-off day counts; with terms only days inside a term do
+        return new WorkingDayIndex(start, end, date -> !offDays.contains(date.getDayOfWeek())
+            && !holidays.contains(date)
+            && (terms.isEmpty() || terms.stream().anyMatch(term -> term.contains(date))));
+    }
+
+    private record Compiled(Map<String, LocalDateTime> versions, Map<String, WorkingDayIndex> indexes, long checkedAt) {}
+
+    private static String calendarId(String department) {
+        return department == null || department.isBlank()
+            ? AcademicCalendar.DEFAULT_ID
+            : department.trim().toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,425 @@
+package com.example.attendance.service;
+
+import com.example.attendance.config.AlertProperties;
+import com.example.attendance.dto.AtRiskStudentDTO;
+import com.example.attendance.dto.AttendanceAlertDTO;
+import com.example.attendance.event.AttendanceChangedEvent;
+import com.example.attendance.event.StudentChangedEvent;
+import com.example.attendance.mapper.AlertMapper;
+import com.example.attendance.model.Attendance;
+import com.example.attendance.model.AttendanceAlert;
+import com.example.attendance.model.AttendanceSnapshot;
+import com.example.attendance.model.Student;
+import com.example.attendance.repository.AttendanceAlertRepository;
+import com.example.attendance.repository.AttendanceRepository;
+import com.example.attendance.repository.AttendanceSnapshotRepository;
+import com.example.attendance.repository.StudentRepository;
+import com.example.attendance.tenant.TenantContext;
+import com.example.attendance.tenant.TenantRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Sort;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Evaluates attendance alert rules incrementally on every attendance write.
+ * Running counts and the current absence streak are kept per student in memory
+ * and snapshotted to Mongo, so the at-risk list never needs a history scan.
+ * Each tenant has its own engine state, loaded from and flushed to its own database.
+ * Engines are loaded in the background once the application is ready; students
+ * written to while an engine is loading are reloaded from their records afterwards.
+ */
+@Service
+public class AlertService {
+
+    private static final Logger log = LoggerFactory.getLogger(AlertService.class);
+
+    private final AttendanceRepository attendanceRepository;
+    private final StudentRepository studentRepository;
+    private final AttendanceAlertRepository alertRepository;
+    private final AttendanceSnapshotRepository snapshotRepository;
+    private final AlertMapper alertMapper;
+    private final AlertProperties properties;
+    private final TenantRegistry tenantRegistry;
+    private final TenantWarmup tenantWarmup;
+
+    private final Map<String, Engine> engines = new ConcurrentHashMap<>();
+
+    public AlertService(AttendanceRepository attendanceRepository,
+                        StudentRepository studentRepository,
+                        AttendanceAlertRepository alertRepository,
+                        AttendanceSnapshotRepository snapshotRepository,
+                        AlertMapper alertMapper,
+                        AlertProperties properties,
+                        TenantRegistry tenantRegistry,
+                        TenantWarmup tenantWarmup) {
+        this.attendanceRepository = attendanceRepository;
+        this.studentRepository = studentRepository;
+        this.alertRepository = alertRepository;
+        this.snapshotRepository = snapshotRepository;
+        this.alertMapper = alertMapper;
+        this.properties = properties;
+        this.tenantRegistry = tenantRegistry;
+        this.tenantWarmup = tenantWarmup;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        tenantWarmup.submit("Alert engine initialization", tenantId -> initialize(engine(tenantId)));
+    }
+
+    private void initialize(Engine engine) {
+        List<AttendanceSnapshot> snapshots = snapshotRepository.findAll();
+        if (snapshots.isEmpty()) {
+            rebuild(engine);
+            return;
+        }
+        synchronized (engine) {
+            // Start over from whatever a failed attempt left behind
+            engine.states.clear();
+            snapshots.forEach(snapshot -> engine.states.put(snapshot.getStudentId(), StudentState.of(snapshot)));
+            loadActiveAlerts(engine);
+            engine.ready = true;
+            catchUp(engine);
+            log.info("Alert engine restored {} student snapshots for tenant {}", snapshots.size(), engine.tenantId);
+        }
+    }
+
+    public void rebuild() {
+        Engine engine = engine(TenantContext.current());
+        try {
+            rebuild(engine);
+        } catch (RuntimeException e) {
+            // The engine stopped applying events, so keep trying in the background
+            tenantWarmup.submit("Alert engine rebuild", engine.tenantId, tenantId -> rebuild(engine));
+            throw e;
+        }
+    }
+
+    private void rebuild(Engine engine) {
+        synchronized (engine) {
+            engine.ready = false;
+            engine.states.clear();
+
+            // Single pass over attendance sorted by student and date
+            try (Stream<Attendance> records = attendanceRepository.streamWholeDayRecords(Sort.by("studentId", "date"))) {
+                records.forEach(att -> engine.states
+                    .computeIfAbsent(att.getStudentId(), id -> new StudentState())
+                    .append(att.getDate(), att.getStatus()));
+            }
+            loadActiveAlerts(engine);
+            engine.states.forEach(this::evaluate);
+            engine.dirty.addAll(engine.states.keySet());
+            engine.ready = true;
+            catchUp(engine);
+            flushSnapshots(engine);
+            log.info("Alert engine rebuilt state for {} students of tenant {}", engine.states.size(), engine.tenantId);
+        }
+    }
+
+    @EventListener
+    public void onAttendanceChanged(AttendanceChangedEvent event) {
+        // Streaks and percentages count whole days, so per-period records are ignored
+        if (event.isPeriod()) {
+            return;
+        }
+        Engine engine = engine(event.tenantId());
+        AttendanceChangedEvent.State before = event.before();
+        AttendanceChangedEvent.State after = event.after();
+        if (!engine.ready) {
+            if (before != null) {
+                engine.missed.add(before.studentId());
+            }
+            if (after != null) {
+                engine.missed.add(after.studentId());
+            }
+            return;
+        }
+
+        TenantContext.run(event.tenantId(), () -> {
+            if (before != null && after != null && before.studentId().equals(after.studentId())) {
+                apply(engine, after.studentId(), before, after);
+                return;
+            }
+            if (before != null) {
+                apply(engine, before.studentId(), before, null);
+            }
+            if (after != null) {
+                apply(engine, after.studentId(), null, after);
+            }
+        });
+    }
+
+    @EventListener
+    public void onStudentChanged(StudentChangedEvent event) {
+        if (event.after() == null) {
+            Engine engine = engine(event.tenantId());
+            engine.states.remove(event.studentId());
+            engine.dirty.remove(event.studentId());
+            TenantContext.run(event.tenantId(), () -> {
+                snapshotRepository.deleteById(event.studentId());
+                alertRepository.deleteByStudentId(event.studentId());
+            });
+        }
+    }
+
+    public List<AtRiskStudentDTO> getAtRiskStudents(String department) {
+        Map<String, StudentState> atRisk = new HashMap<>();
+        engine(TenantContext.current()).states.forEach((studentId, state) -> {
+            synchronized (state) {
+                if (!state.alerts.isEmpty()) {
+                    atRisk.put(studentId, state);
+                }
+            }
+        });
+
+        List<AtRiskStudentDTO> result = new ArrayList<>();
+        for (Student student : studentRepository.findAllById(atRisk.keySet())) {
+            if (!student.isActive() || (department != null && !department.equalsIgnoreCase(student.getDepartment()))) {
+                continue;
+            }
+            StudentState state = atRisk.get(student.getId());
+            synchronized (state) {
+                result.add(new AtRiskStudentDTO(
+                    student.getId(),
+                    student.getName(),
+                    student.getRollNumber(),
+                    student.getDepartment(),
+                    student.getYear(),
+                    state.totalDays,
+                    state.presentDays,
+                    Math.round(state.percentage() * 100.0) / 100.0,
+                    state.absenceStreak,
+                    EnumSet.copyOf(state.alerts)
+                ));
+            }
+        }
+        result.sort(Comparator.comparingDouble(AtRiskStudentDTO::attendancePercentage)
+            .thenComparing(AtRiskStudentDTO::absenceStreak, Comparator.reverseOrder()));
+        return result;
+    }
+
+    public List<AttendanceAlertDTO> getAlertsForStudent(String studentId) {
+        return alertRepository.findByStudentIdOrderByRaisedAtDesc(studentId).stream()
+            .map(alertMapper::toDTO)
+            .collect(Collectors.toList());
+    }
+
+    @Scheduled(fixedDelayString = "${attendance.alerts.snapshot-interval-ms:30000}")
+    public void flushSnapshots() {
+        tenantRegistry.forEachTenant(tenantId -> {
+            Engine engine = engine(tenantId);
+            if (engine.ready) {
+                flushSnapshots(engine);
+            }
+        });
+    }
+
+    private void flushSnapshots(Engine engine) {
+        List<AttendanceSnapshot> snapshots = new ArrayList<>();
+        for (String studentId : List.copyOf(engine.dirty)) {
+            engine.dirty.remove(studentId);
+            StudentState state = engine.states.get(studentId);
+            if (state != null) {
+                synchronized (state) {
+                    snapshots.add(state.toSnapshot(studentId));
+                }
+            }
+        }
+        if (!snapshots.isEmpty()) {
+            snapshotRepository.saveAll(snapshots);
+            log.debug("Persisted {} attendance snapshots for tenant {}", snapshots.size(), engine.tenantId);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        tenantRegistry.forEachTenant(tenantId -> {
+            Engine engine = engine(tenantId);
+            if (engine.ready) {
+                flushSnapshots(engine);
+            }
+        });
+    }
+
+    private Engine engine(String tenantId) {
+        return engines.computeIfAbsent(tenantId, Engine::new);
+    }
+
+    private void apply(Engine engine, String studentId,
+                       AttendanceChangedEvent.State before, AttendanceChangedEvent.State after) {
+        StudentState state = after != null
+            ? engine.states.computeIfAbsent(studentId, id -> new StudentState())
+            : engine.states.get(studentId);
+        if (state == null) {
+            // Records purged after their student was deleted
+            return;
+        }
+        synchronized (state) {
+            boolean newLatestRecord = before == null
+                && (state.lastDate == null || after.date().isAfter(state.lastDate));
+
+            if (before != null) {
+                state.totalDays--;
+                if (before.status() == Attendance.Status.PRESENT) {
+                    state.presentDays--;
+                }
+            }
+            if (newLatestRecord) {
+                state.append(after.date(), after.status());
+            } else {
+                if (after != null) {
+                    state.totalDays++;
+                    if (after.status() == Attendance.Status.PRESENT) {
+                        state.presentDays++;
+                    }
+                }
+                // Back-dated, corrected or deleted records can break the streak anywhere
+                recomputeStreak(studentId, state);
+            }
+            evaluate(studentId, state);
+        }
+        engine.dirty.add(studentId);
+    }
+
+    /**
+     * Reloads the students whose attendance changed while the engine was
+     * loading, since those events were not applied.
+     */
+    private void catchUp(Engine engine) {
+        for (String studentId : List.copyOf(engine.missed)) {
+            engine.missed.remove(studentId);
+            List<Attendance> records = attendanceRepository.findByStudentIdAndPeriodIsNullOrderByDateDesc(studentId);
+            StudentState state = engine.states.computeIfAbsent(studentId, id -> new StudentState());
+            synchronized (state) {
+                state.reset();
+                for (int i = records.size() - 1; i >= 0; i--) {
+                    state.append(records.get(i).getDate(), records.get(i).getStatus());
+                }
+                evaluate(studentId, state);
+            }
+            engine.dirty.add(studentId);
+        }
+    }
+
+    private void recomputeStreak(String studentId, StudentState state) {
+        state.lastDate = attendanceRepository.findFirstByStudentIdAndPeriodIsNullOrderByDateDesc(studentId)
+            .map(Attendance::getDate)
+            .orElse(null);
+        long streak = attendanceRepository
+            .findFirstByStudentIdAndStatusAndPeriodIsNullOrderByDateDesc(studentId, Attendance.Status.PRESENT)
+            .map(lastPresent -> attendanceRepository.countByStudentIdAndStatusAndDateAfterAndPeriodIsNull(
+                studentId, Attendance.Status.ABSENT, lastPresent.getDate()))
+            .orElseGet(() -> attendanceRepository.countByStudentIdAndStatusAndPeriodIsNull(studentId, Attendance.Status.ABSENT));
+        state.absenceStreak = (int) streak;
+    }
+
+    private void evaluate(String studentId, StudentState state) {
+        boolean lowPercentage = properties.lowPercentageEnabled()
+            && state.totalDays >= properties.minDays()
+            && state.percentage() < properties.minPercentage();
+        boolean absenceStreak = properties.absenceStreakEnabled()
+            && state.absenceStreak >= properties.absenceStreak();
+
+        transition(studentId, state, AttendanceAlert.Rule.LOW_PERCENTAGE, lowPercentage,
+            () -> String.format("Attendance %.2f%% is below %.2f%%", state.percentage(), properties.minPercentage()));
+        transition(studentId, state, AttendanceAlert.Rule.ABSENCE_STREAK, absenceStreak,
+            () -> String.format("Absent for %d consecutive days", state.absenceStreak));
+    }
+
+    private void transition(String studentId, StudentState state, AttendanceAlert.Rule rule,
+                            boolean triggered, Supplier<String> detailSupplier) {
+        // Only touch the alert collection when the rule crosses its threshold
+        if (triggered && state.alerts.add(rule)) {
+            String detail = detailSupplier.get();
+            alertRepository.save(new AttendanceAlert(studentId, rule, detail));
+            log.info("Raised {} alert for student {}: {}", rule, studentId, detail);
+        } else if (!triggered && state.alerts.remove(rule)) {
+            alertRepository.findFirstByStudentIdAndRuleAndActiveTrue(studentId, rule).ifPresent(alert -> {
+                alert.setActive(false);
+                alert.setClearedAt(LocalDateTime.now());
+                alertRepository.save(alert);
+            });
+            log.info("Cleared {} alert for student {}", rule, studentId);
+        }
+    }
+
+    private void loadActiveAlerts(Engine engine) {
+        for (AttendanceAlert alert : alertRepository.findByActiveTrue()) {
+            engine.states.computeIfAbsent(alert.getStudentId(), id -> new StudentState()).alerts.add(alert.getRule());
+        }
+    }
+
+    private static final class Engine {
+        private final String tenantId;
+        private final Map<String, StudentState> states = new ConcurrentHashMap<>();
+        private final Set<String> dirty = ConcurrentHashMap.newKeySet();
+        private final Set<String> missed = ConcurrentHashMap.newKeySet();
+        private volatile boolean ready;
+
+        private Engine(String tenantId) {
+            this.tenantId = tenantId;
+        }
+    }
+
+    private static final class StudentState {
+        private long totalDays;
+        private long presentDays;
+        private int absenceStreak;
+        private LocalDate lastDate;
+        private final Set<AttendanceAlert.Rule> alerts = EnumSet.noneOf(AttendanceAlert.Rule.class);
+
+        private static StudentState of(AttendanceSnapshot snapshot) {
+            StudentState state = new StudentState();
+            state.totalDays = snapshot.getTotalDays();
+            state.presentDays = snapshot.getPresentDays();
+            state.absenceStreak = snapshot.getAbsenceStreak();
+            state.lastDate = snapshot.getLastDate();
+            return state;
+        }
+
+        private void reset() {
+            totalDays = 0;
+            presentDays = 0;
+            absenceStreak = 0;
+            lastDate = null;
+        }
+
+        private void append(LocalDate date, Attendance.Status status) {
+            totalDays++;
+            if (status == Attendance.Status.PRESENT) {
+                presentDays++;
+                absenceStreak = 0;
+            } else {
+                absenceStreak++;
+            }
+            lastDate = date;
+        }
+
+        private double percentage() {
+            return totalDays > 0 ? (presentDays * 100.0) / totalDays : 0.0;
+        }
+
+        private AttendanceSnapshot toSnapshot(String studentId) {
+            return new AttendanceSnapshot(studentId, totalDays, presentDays, absenceStreak, lastDate);
+        }
+    }
+}
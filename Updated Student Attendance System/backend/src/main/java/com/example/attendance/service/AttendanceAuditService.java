@@ -0,0 +1,215 @@
+package com.example.attendance.service;
+
+import com.example.attendance.config.AuditProperties;
+import com.example.attendance.dto.AttendanceAuditDTO;
+import com.example.attendance.event.AttendanceChangedEvent;
+import com.example.attendance.mapper.AuditMapper;
+import com.example.attendance.model.AttendanceAudit;
+import com.example.attendance.model.Student;
+import com.example.attendance.repository.AttendanceAuditRepository;
+import com.example.attendance.tenant.TenantContext;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.servlet.http.HttpServletRequest;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.stream.Collectors;
+
+/**
+ * Records every attendance change in the append-only audit collection without
+ * adding a write to the request: entries go into a lock-free ring buffer on the
+ * request thread and a single background writer batch-inserts them.
+ */
+@Service
+public class AttendanceAuditService {
+
+    private static final Logger log = LoggerFactory.getLogger(AttendanceAuditService.class);
+
+    private record Pending(String tenantId, AttendanceAudit audit) {}
+
+    private final AttendanceAuditRepository auditRepository;
+    private final MongoTemplate mongoTemplate;
+    private final AuditMapper auditMapper;
+    private final AuditProperties properties;
+
+    private final AuditRingBuffer<Pending> buffer;
+    private final Counter written;
+    private final Counter dropped;
+    private final Counter callerRuns;
+    private volatile boolean running;
+    private Thread writer;
+
+    public AttendanceAuditService(AttendanceAuditRepository auditRepository,
+                                  MongoTemplate mongoTemplate,
+                                  AuditMapper auditMapper,
+                                  AuditProperties properties,
+                                  MeterRegistry meterRegistry) {
+        this.auditRepository = auditRepository;
+        this.mongoTemplate = mongoTemplate;
+        this.auditMapper = auditMapper;
+        this.properties = properties;
+        this.buffer = new AuditRingBuffer<>(properties.capacity());
+        this.written = meterRegistry.counter("attendance.audit.entries", "result", "written");
+        this.dropped = meterRegistry.counter("attendance.audit.entries", "result", "dropped");
+        this.callerRuns = meterRegistry.counter("attendance.audit.entries", "result", "caller_runs");
+        Gauge.builder("attendance.audit.buffer.size", buffer, AuditRingBuffer::size).register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        if (!properties.enabled()) {
+            return;
+        }
+        running = true;
+        writer = new Thread(this::writeLoop, "audit-writer");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (writer == null) {
+            return;
+        }
+        running = false;
+        LockSupport.unpark(writer);
+        try {
+            writer.join(TimeUnit.SECONDS.toMillis(10));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (buffer.size() > 0) {
+            log.warn("Audit writer stopped with {} entries still buffered", buffer.size());
+        }
+    }
+
+    @EventListener
+    public void onAttendanceChanged(AttendanceChangedEvent event) {
+        if (!running) {
+            return;
+        }
+        AttendanceChangedEvent.State reference = event.after() != null ? event.after() : event.before();
+        AttendanceAudit.Action action = event.before() == null ? AttendanceAudit.Action.CREATED
+            : event.after() == null ? AttendanceAudit.Action.DELETED
+            : AttendanceAudit.Action.UPDATED;
+        HttpServletRequest request = currentRequest();
+        AttendanceAudit audit = new AttendanceAudit(
+            event.attendanceId(),
+            reference.studentId(),
+            reference.date(),
+            reference.period(),
+            reference.sectionId(),
+            action,
+            event.before() != null ? event.before().status() : null,
+            event.after() != null ? event.after().status() : null,
+            actor(request),
+            request != null ? request.getRemoteAddr() : null,
+            Instant.now()
+        );
+        publish(new Pending(event.tenantId(), audit));
+    }
+
+    public Page<AttendanceAuditDTO> getStudentAudit(Student student, LocalDate startDate, LocalDate endDate, Pageable pageable) {
+        Page<AttendanceAudit> page = startDate != null && endDate != null
+            ? auditRepository.findByStudentIdAndDateBetween(student.getId(), startDate, endDate, pageable)
+            : auditRepository.findByStudentId(student.getId(), pageable);
+        return page.map(auditMapper::toDTO);
+    }
+
+    public List<AttendanceAuditDTO> getAttendanceAudit(String attendanceId) {
+        return auditRepository.findByAttendanceIdOrderByTimestampAsc(attendanceId).stream()
+            .map(auditMapper::toDTO)
+            .collect(Collectors.toList());
+    }
+
+    private void publish(Pending pending) {
+        if (buffer.offer(pending)) {
+            return;
+        }
+        switch (properties.overflowPolicy()) {
+            case CALLER_RUNS -> {
+                callerRuns.increment();
+                insert(List.of(pending));
+            }
+            case BLOCK -> {
+                long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(properties.blockTimeoutMs());
+                while (!buffer.offer(pending)) {
+                    if (System.nanoTime() > deadline) {
+                        dropped.increment();
+                        log.warn("Audit buffer full, dropped entry for attendance {}", pending.audit().getAttendanceId());
+                        return;
+                    }
+                    LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(1));
+                }
+            }
+            case DROP -> dropped.increment();
+        }
+    }
+
+    private void writeLoop() {
+        List<Pending> batch = new ArrayList<>(properties.batchSize());
+        while (running) {
+            if (buffer.drainTo(batch, properties.batchSize()) == 0) {
+                LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(properties.idleWaitMs()));
+                continue;
+            }
+            insert(batch);
+            batch.clear();
+        }
+        // Flush whatever was published before shutdown
+        while (buffer.drainTo(batch, properties.batchSize()) > 0) {
+            insert(batch);
+            batch.clear();
+        }
+    }
+
+    private void insert(List<Pending> batch) {
+        Map<String, List<AttendanceAudit>> byTenant = new LinkedHashMap<>();
+        for (Pending pending : batch) {
+            byTenant.computeIfAbsent(pending.tenantId(), id -> new ArrayList<>()).add(pending.audit());
+        }
+        byTenant.forEach((tenantId, audits) -> {
+            try {
+                TenantContext.run(tenantId, () -> mongoTemplate.insert(audits, AttendanceAudit.class));
+                written.increment(audits.size());
+            } catch (RuntimeException e) {
+                dropped.increment(audits.size());
+                log.error("Failed to write {} audit entries for tenant {}: {}", audits.size(), tenantId, e.getMessage());
+            }
+        });
+    }
+
+    private String actor(HttpServletRequest request) {
+        if (request == null) {
+            return "system";
+        }
+        // Client-supplied and unauthenticated; the remote address is stored alongside it
+        String actor = request.getHeader(properties.actorHeader());
+        return actor != null && !actor.isBlank() ? actor : request.getRemoteAddr();
+    }
+
+    private static HttpServletRequest currentRequest() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        return attributes instanceof ServletRequestAttributes servletAttributes ? servletAttributes.getRequest() : null;
+    }
+}
@@ -0,0 +1,193 @@
+package com.example.attendance.service;
+
+import com.example.attendance.config.PurgeProperties;
+import com.example.attendance.dto.PurgeJobDTO;
+import com.example.attendance.event.AttendanceChangedEvent;
+import com.example.attendance.event.StudentChangedEvent;
+import com.example.attendance.exception.ResourceNotFoundException;
+import com.example.attendance.mapper.PurgeJobMapper;
+import com.example.attendance.model.Attendance;
+import com.example.attendance.model.PurgeJob;
+import com.example.attendance.repository.AttendanceRepository;
+import com.example.attendance.repository.PurgeJobRepository;
+import com.example.attendance.tenant.TenantContext;
+import com.example.attendance.tenant.TenantRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.FindAndReplaceOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+import static org.springframework.data.mongodb.core.query.Query.query;
+
+/**
+ * Removes (or archives) the attendance of deleted students in throttled
+ * batches on a background thread. Progress is persisted after every batch,
+ * so unfinished jobs resume where they stopped after a restart. Every removed
+ * record is published as a deletion, so cached reports are invalidated and the
+ * audit trail records the purge.
+ */
+@Service
+public class AttendancePurgeService {
+
+    private static final Logger log = LoggerFactory.getLogger(AttendancePurgeService.class);
+
+    static final String ARCHIVE_COLLECTION = "attendance_archive";
+
+    private final AttendanceRepository attendanceRepository;
+    private final PurgeJobRepository purgeJobRepository;
+    private final PurgeJobMapper purgeJobMapper;
+    private final MongoTemplate mongoTemplate;
+    private final PurgeProperties properties;
+    private final TenantRegistry tenantRegistry;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "attendance-purge");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public AttendancePurgeService(AttendanceRepository attendanceRepository,
+                                  PurgeJobRepository purgeJobRepository,
+                                  PurgeJobMapper purgeJobMapper,
+                                  MongoTemplate mongoTemplate,
+                                  PurgeProperties properties,
+                                  TenantRegistry tenantRegistry,
+                                  ApplicationEventPublisher eventPublisher) {
+        this.attendanceRepository = attendanceRepository;
+        this.purgeJobRepository = purgeJobRepository;
+        this.purgeJobMapper = purgeJobMapper;
+        this.mongoTemplate = mongoTemplate;
+        this.properties = properties;
+        this.tenantRegistry = tenantRegistry;
+        this.eventPublisher = eventPublisher;
+    }
+
+    @EventListener
+    public void onStudentChanged(StudentChangedEvent event) {
+        if (event.after() != null) {
+            return;
+        }
+        PurgeJob job = TenantContext.call(event.tenantId(), () -> purgeJobRepository.save(
+            new PurgeJob(event.studentId(), event.before().rollNumber(), properties.archive())));
+        log.info("Scheduled attendance purge job {} for deleted student {}", job.getId(), event.studentId());
+        submit(event.tenantId(), job.getId());
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void resumeJobs() {
+        tenantRegistry.forEachTenant(tenantId -> {
+            List<PurgeJob> unfinished = purgeJobRepository.findByStatusInOrderByCreatedAtAsc(
+                EnumSet.of(PurgeJob.Status.PENDING, PurgeJob.Status.RUNNING));
+            unfinished.forEach(job -> submit(tenantId, job.getId()));
+            if (!unfinished.isEmpty()) {
+                log.info("Resuming {} unfinished attendance purge jobs for tenant {}", unfinished.size(), tenantId);
+            }
+        });
+    }
+
+    public List<PurgeJobDTO> getJobs() {
+        return purgeJobRepository.findAllByOrderByCreatedAtDesc().stream()
+            .map(purgeJobMapper::toDTO)
+            .collect(Collectors.toList());
+    }
+
+    public PurgeJobDTO getJob(String id) {
+        return purgeJobRepository.findById(id)
+            .map(purgeJobMapper::toDTO)
+            .orElseThrow(() -> new ResourceNotFoundException("Purge job", "id", id));
+    }
+
+    public PurgeJobDTO retryJob(String id) {
+        PurgeJob job = purgeJobRepository.findById(id)
+            .orElseThrow(() -> new ResourceNotFoundException("Purge job", "id", id));
+        if (job.getStatus() == PurgeJob.Status.FAILED) {
+            job.setStatus(PurgeJob.Status.PENDING);
+            job.setLastError(null);
+            job = purgeJobRepository.save(job);
+            submit(TenantContext.current(), job.getId());
+        }
+        return purgeJobMapper.toDTO(job);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        // Interrupted jobs stay RUNNING and are resumed on the next start
+        executor.shutdownNow();
+    }
+
+    private void submit(String tenantId, String jobId) {
+        // Jobs run against the database of the tenant that owned the student
+        executor.submit(() -> TenantContext.run(tenantId, () -> run(jobId)));
+    }
+
+    private void run(String jobId) {
+        PurgeJob job = purgeJobRepository.findById(jobId).orElse(null);
+        if (job == null || job.getStatus() == PurgeJob.Status.COMPLETED) {
+            return;
+        }
+        try {
+            if (job.getStatus() == PurgeJob.Status.PENDING) {
+                job.setTotalRecords(attendanceRepository.countByStudentId(job.getStudentId()));
+            }
+            job.setStatus(PurgeJob.Status.RUNNING);
+            job = purgeJobRepository.save(job);
+
+            List<Attendance> batch;
+            while (!(batch = attendanceRepository.findByStudentId(
+                    job.getStudentId(), PageRequest.of(0, properties.batchSize()))).isEmpty()) {
+                if (job.isArchive()) {
+                    archive(batch);
+                }
+                attendanceRepository.deleteAllById(batch.stream().map(Attendance::getId).toList());
+                batch.forEach(attendance -> eventPublisher.publishEvent(AttendanceChangedEvent.deleted(attendance)));
+                job.setProcessedRecords(job.getProcessedRecords() + batch.size());
+                job = purgeJobRepository.save(job);
+
+                if (batch.size() < properties.batchSize()) {
+                    break;
+                }
+                Thread.sleep(properties.batchDelayMs());
+            }
+
+            job.setStatus(PurgeJob.Status.COMPLETED);
+            job.setCompletedAt(LocalDateTime.now());
+            purgeJobRepository.save(job);
+            log.info("Purge job {} completed: {} attendance records removed for student {}",
+                jobId, job.getProcessedRecords(), job.getStudentId());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.info("Purge job {} interrupted after {} records, will resume on restart",
+                jobId, job.getProcessedRecords());
+        } catch (RuntimeException e) {
+            log.error("Purge job {} failed", jobId, e);
+            job.setStatus(PurgeJob.Status.FAILED);
+            job.setLastError(e.getMessage());
+            purgeJobRepository.save(job);
+        }
+    }
+
+    private void archive(List<Attendance> batch) {
+        // Upsert by id so a batch replayed after a crash does not duplicate archived rows
+        BulkOperations ops = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Attendance.class, ARCHIVE_COLLECTION);
+        for (Attendance attendance : batch) {
+            ops.replaceOne(query(where("_id").is(attendance.getId())), attendance, FindAndReplaceOptions.options().upsert());
+        }
+        ops.execute();
+    }
+}
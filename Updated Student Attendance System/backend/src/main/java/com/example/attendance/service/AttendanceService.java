@@ -1,213 +1,415 @@
 package com.example.attendance.service;
 
 import com.example.attendance.dto.*;
+import com.example.attendance.event.AttendanceChangedEvent;
+import com.example.attendance.exception.ConcurrentUpdateException;
 import com.example.attendance.exception.DuplicateResourceException;
 import com.example.attendance.exception.ResourceNotFoundException;
 import com.example.attendance.mapper.AttendanceMapper;
 import com.example.attendance.mapper.StudentMapper;
 import com.example.attendance.model.Attendance;
 import com.example.attendance.model.Student;
+import com.example.attendance.profiling.AttendanceMarkEvent;
+import com.example.attendance.profiling.ReportGenerationEvent;
+import com.example.attendance.profiling.StatsCalculationEvent;
 import com.example.attendance.repository.AttendanceRepository;
+import com.example.attendance.repository.StudentStatusCount;
+import com.example.attendance.routing.ReadRouting;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
-import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 @Transactional
 public class AttendanceService {
     
+    // Open range bounds that still convert to BSON dates (LocalDate.MIN/MAX overflow)
+    private static final LocalDate EARLIEST_DATE = LocalDate.of(1900, 1, 1);
+    private static final LocalDate LATEST_DATE = LocalDate.of(9999, 12, 31);
+    
     private final AttendanceRepository attendanceRepository;
     private final StudentService studentService;
     private final AttendanceMapper attendanceMapper;
     private final StudentMapper studentMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ReadRouting readRouting;
+    private final AcademicCalendarService calendarService;
+    private final OptimisticRetry optimisticRetry;
     
     public AttendanceService(AttendanceRepository attendanceRepository,
                            StudentService studentService,
                            AttendanceMapper attendanceMapper,
-                           StudentMapper studentMapper) {
+                           StudentMapper studentMapper,
+                           ApplicationEventPublisher eventPublisher,
+                           ReadRouting readRouting,
+                           AcademicCalendarService calendarService,
+                           OptimisticRetry optimisticRetry) {
         this.attendanceRepository = attendanceRepository;
         this.studentService = studentService;
         this.attendanceMapper = attendanceMapper;
         this.studentMapper = studentMapper;
+        this.eventPublisher = eventPublisher;
+        this.readRouting = readRouting;
+        this.calendarService = calendarService;
+        this.optimisticRetry = optimisticRetry;
     }
     
     public AttendanceDTO markAttendance(MarkAttendanceRequest request) {
-        Student student = studentService.getStudentEntityByRollNumber(request.rollNumber());
+        AttendanceMarkEvent event = new AttendanceMarkEvent("mark", request.rollNumber());
         LocalDate date = request.date() != null ? request.date() : LocalDate.now();
         
-        // Check if attendance already exists for this student on this date
-        if (attendanceRepository.existsByStudentIdAndDate(student.getId(), date)) {
-            // Update existing attendance
-            Attendance existing = attendanceRepository.findByStudentIdAndDate(student.getId(), date).get();
-            existing.setStatus(request.status());
-            Attendance saved = attendanceRepository.save(existing);
-            return attendanceMapper.toDTO(saved, student);
-        }
-        
-        // Create new attendance record
-        Attendance attendance = new Attendance(student.getId(), date, request.status());
-        Attendance savedAttendance = attendanceRepository.save(attendance);
-        return attendanceMapper.toDTO(savedAttendance, student);
+        AttendanceDTO marked = optimisticRetry.execute("Attendance", "rollNumber", request.rollNumber(), () -> {
+            // Loaded on every attempt, so a retry after a concurrent rename saves the new snapshot
+            Student student = studentService.getStudentEntityByRollNumber(request.rollNumber());
+            // Check if whole-day attendance already exists for this student on this date
+            Optional<Attendance> current = attendanceRepository.findByStudentIdAndDateAndPeriodIsNull(student.getId(), date);
+            if (current.isPresent()) {
+                // Update existing attendance
+                Attendance existing = current.get();
+                checkVersion(existing, request.version());
+                AttendanceChangedEvent.State before = AttendanceChangedEvent.State.of(existing);
+                existing.setStatus(request.status());
+                existing.setStudentName(student.getName());
+                existing.setRollNumber(student.getRollNumber());
+                Attendance saved = attendanceRepository.save(existing);
+                eventPublisher.publishEvent(AttendanceChangedEvent.updated(before, saved));
+                return attendanceMapper.toDTO(saved, student);
+            }
+            
+            // Create new attendance record
+            Attendance attendance = new Attendance(student.getId(), date, request.status());
+            attendance.setStudentName(student.getName());
+            attendance.setRollNumber(student.getRollNumber());
+            Attendance savedAttendance = attendanceRepository.save(attendance);
+            eventPublisher.publishEvent(AttendanceChangedEvent.created(savedAttendance));
+            return attendanceMapper.toDTO(savedAttendance, student);
+        });
+        event.finish(date, request.status());
+        return marked;
     }
     
     public AttendanceDTO updateAttendance(String id, MarkAttendanceRequest request) {
-        Attendance attendance = attendanceRepository.findById(id)
-            .orElseThrow(() -> new ResourceNotFoundException("Attendance", "id", id));
-        
-        Student student = studentService.getStudentEntityByRollNumber(request.rollNumber());
-        attendance.setStudentId(student.getId());
-        attendance.setStatus(request.status());
-        
-        if (request.date() != null) {
-            attendance.setDate(request.date());
-        }
+        AttendanceMarkEvent event = new AttendanceMarkEvent("update", request.rollNumber());
         
-        Attendance updatedAttendance = attendanceRepository.save(attendance);
-        return attendanceMapper.toDTO(updatedAttendance, student);
+        AttendanceDTO updated = optimisticRetry.execute("Attendance", "id", id, () -> {
+            Student student = studentService.getStudentEntityByRollNumber(request.rollNumber());
+            Attendance attendance = attendanceRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Attendance", "id", id));
+            checkVersion(attendance, request.version());
+            AttendanceChangedEvent.State before = AttendanceChangedEvent.State.of(attendance);
+            
+            attendance.setStudentId(student.getId());
+            attendance.setStatus(request.status());
+            attendance.setStudentName(student.getName());
+            attendance.setRollNumber(student.getRollNumber());
+            
+            if (request.date() != null) {
+                attendance.setDate(request.date());
+            }
+            
+            Attendance updatedAttendance = attendanceRepository.save(attendance);
+            eventPublisher.publishEvent(AttendanceChangedEvent.updated(before, updatedAttendance));
+            return attendanceMapper.toDTO(updatedAttendance, student);
+        });
+        event.finish(updated.date(), request.status());
+        return updated;
     }
     
     public void deleteAttendance(String id) {
-        if (!attendanceRepository.existsById(id)) {
-            throw new ResourceNotFoundException("Attendance", "id", id);
+        optimisticRetry.run("Attendance", "id", id, () -> {
+            Attendance attendance = attendanceRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Attendance", "id", id));
+            attendanceRepository.delete(attendance);
+            eventPublisher.publishEvent(AttendanceChangedEvent.deleted(attendance));
+        });
+    }
+    
+    private static void checkVersion(Attendance attendance, Long expectedVersion) {
+        // A client-supplied version means the edit was based on that snapshot, so it is not retried
+        if (expectedVersion != null && !expectedVersion.equals(attendance.getVersion())) {
+            throw new ConcurrentUpdateException("Attendance", "id", attendance.getId());
         }
-        attendanceRepository.deleteById(id);
     }
     
     public List<AttendanceDTO> getAttendanceForDate(LocalDate date) {
         LocalDate targetDate = date != null ? date : LocalDate.now();
-        return attendanceRepository.findByDate(targetDate).stream()
-            .map(att -> {
-                try {
-                    Student student = studentService.getStudentEntityById(att.getStudentId());
-                    return attendanceMapper.toDTO(att, student);
-                } catch (ResourceNotFoundException e) {
-                    // Handle case where student no longer exists
-                    return attendanceMapper.toDTO(att, null);
-                }
-            })
+        return attendanceRepository.findByDateAndPeriodIsNull(targetDate).stream()
+            .map(this::toDTO)
             .collect(Collectors.toList());
     }
     
     public Page<AttendanceDTO> getAttendanceForDate(LocalDate date, Pageable pageable) {
         LocalDate targetDate = date != null ? date : LocalDate.now();
-        return attendanceRepository.findByDate(targetDate, pageable)
-            .map(att -> {
-                try {
-                    Student student = studentService.getStudentEntityById(att.getStudentId());
-                    return attendanceMapper.toDTO(att, student);
-                } catch (ResourceNotFoundException e) {
-                    // Handle case where student no longer exists
-                    return attendanceMapper.toDTO(att, null);
-                }
-            });
+        return attendanceRepository.findByDateAndPeriodIsNull(targetDate, pageable)
+            .map(this::toDTO);
     }
     
     public List<AttendanceDTO> getAttendanceByDateRange(LocalDate startDate, LocalDate endDate) {
-        return attendanceRepository.findByDateBetween(startDate, endDate).stream()
-            .map(att -> {
-                try {
-                    Student student = studentService.getStudentEntityById(att.getStudentId());
-                    return attendanceMapper.toDTO(att, student);
-                } catch (ResourceNotFoundException e) {
-                    // Handle case where student no longer exists
-                    return attendanceMapper.toDTO(att, null);
+        return readRouting.report(ReadRouting.ATTENDANCE_RANGE, () -> {
+            ReportGenerationEvent event = new ReportGenerationEvent("attendance-range", null, startDate, endDate);
+            List<AttendanceDTO> rows = attendanceRepository.findByDateBetweenAndPeriodIsNull(startDate, endDate).stream()
+                .map(this::toDTO)
+                .collect(Collectors.toList());
+            event.finish(rows.size());
+            return rows;
+        });
+    }
+    
+    /**
+     * One page of attendance in a date range, optionally for a single status.
+     * Records without a student snapshot are resolved with one lookup per page.
+     */
+    public List<AttendanceDTO> getAttendanceByDateRange(LocalDate startDate, LocalDate endDate,
+                                                        Attendance.Status status, Pageable pageable) {
+        return readRouting.report(ReadRouting.ATTENDANCE_RANGE, () -> {
+            ReportGenerationEvent event = new ReportGenerationEvent("attendance-range",
+                status != null ? status.name() : null, startDate, endDate);
+            List<Attendance> records = status != null
+                ? attendanceRepository.findByDateRangeAndStatus(startDate, endDate, status, pageable)
+                : attendanceRepository.findByDateRange(startDate, endDate, pageable);
+            List<AttendanceDTO> rows = toDTOs(records);
+            event.finish(rows.size());
+            return rows;
+        });
+    }
+    
+    /**
+     * Attendance of several students in one query, newest first per student.
+     * Open range bounds cover all records.
+     */
+    public Map<String, List<AttendanceDTO>> getAttendanceForStudents(Collection<String> studentIds,
+                                                                     LocalDate startDate, LocalDate endDate,
+                                                                     int limitPerStudent) {
+        return readRouting.report(ReadRouting.STUDENT_HISTORY, () -> {
+            Map<String, List<AttendanceDTO>> rows = new HashMap<>();
+            attendanceRepository.findLatestByStudentIdsAndDateRange(studentIds,
+                    startDate != null ? startDate : EARLIEST_DATE, endDate != null ? endDate : LATEST_DATE,
+                    limitPerStudent)
+                .forEach(att -> rows.computeIfAbsent(att.getStudentId(), id -> new ArrayList<>())
+                    .add(attendanceMapper.toDTO(att)));
+            return rows;
+        });
+    }
+    
+    /**
+     * Statistics of several students from one aggregation, with the same
+     * semantics as the per-student statistics endpoints.
+     */
+    public Map<String, AttendanceStatsDTO> getStatisticsForStudents(Collection<StudentDTO> students,
+                                                                    LocalDate startDate, LocalDate endDate) {
+        return readRouting.report(ReadRouting.STUDENT_STATS, () -> {
+            boolean range = startDate != null && endDate != null;
+            Map<String, long[]> counts = new HashMap<>();
+            attendanceRepository.countByStudentAndStatus(students.stream().map(StudentDTO::id).toList(),
+                    range ? startDate : EARLIEST_DATE, range ? endDate : LATEST_DATE)
+                .forEach(count -> counts.computeIfAbsent(count.studentId(), id -> new long[2])
+                    [count.status() == Attendance.Status.PRESENT ? 0 : 1] += count.count());
+            
+            LocalDate today = LocalDate.now();
+            Map<String, AttendanceStatsDTO> stats = new LinkedHashMap<>();
+            for (StudentDTO student : students) {
+                long[] studentCounts = counts.getOrDefault(student.id(), new long[2]);
+                long presentDays = studentCounts[0];
+                long absentDays = studentCounts[1];
+                long totalDays = presentDays + absentDays;
+                long totalPossibleDays = totalDays;
+                if (range) {
+                    long workingDays = calendarService.countWorkingDays(student.department(), startDate,
+                        endDate.isAfter(today) ? today : endDate);
+                    totalPossibleDays = Math.max(workingDays, totalDays);
                 }
-            })
+                double attendancePercentage = totalPossibleDays > 0 ? (presentDays * 100.0) / totalPossibleDays : 0.0;
+                stats.put(student.id(), new AttendanceStatsDTO(totalDays, presentDays, absentDays,
+                    Math.round(attendancePercentage * 100.0) / 100.0));
+            }
+            return stats;
+        });
+    }
+    
+    private List<AttendanceDTO> toDTOs(List<Attendance> records) {
+        Set<String> missing = records.stream()
+            .filter(att -> att.getRollNumber() == null)
+            .map(Attendance::getStudentId)
+            .collect(Collectors.toSet());
+        Map<String, Student> students = missing.isEmpty() ? Map.of() : studentService.getStudentEntitiesByIds(missing);
+        return records.stream()
+            .map(att -> att.getRollNumber() != null
+                ? attendanceMapper.toDTO(att)
+                : attendanceMapper.toDTO(att, students.get(att.getStudentId())))
             .collect(Collectors.toList());
     }
     
+    private AttendanceDTO toDTO(Attendance att) {
+        if (att.getRollNumber() != null) {
+            return attendanceMapper.toDTO(att);
+        }
+        // Records not yet backfilled with a student snapshot fall back to a lookup
+        try {
+            Student student = studentService.getStudentEntityById(att.getStudentId());
+            return attendanceMapper.toDTO(att, student);
+        } catch (ResourceNotFoundException e) {
+            // Handle case where student no longer exists
+            return attendanceMapper.toDTO(att, null);
+        }
+    }
+    
     public StudentAttendanceHistoryDTO getStudentAttendanceHistory(String rollNumber) {
-        Student student = studentService.getStudentEntityByRollNumber(rollNumber);
-        List<Attendance> attendanceRecords = attendanceRepository.findByStudentIdOrderByDateDesc(student.getId());
-        
-        List<AttendanceDTO> attendanceDTOs = attendanceRecords.stream()
-            .map(att -> attendanceMapper.toDTO(att, student))
-            .collect(Collectors.toList());
-        
-        AttendanceStatsDTO stats = calculateStatistics(student.getId(), null, null);
-        
-        return new StudentAttendanceHistoryDTO(
-            studentMapper.toDTO(student),
-            attendanceDTOs,
-            stats
-        );
+        return readRouting.report(ReadRouting.STUDENT_HISTORY, () -> {
+            ReportGenerationEvent event = new ReportGenerationEvent("student-history", rollNumber, null, null);
+            Student student = studentService.getStudentEntityByRollNumber(rollNumber);
+            List<Attendance> attendanceRecords = attendanceRepository.findByStudentIdAndPeriodIsNullOrderByDateDesc(student.getId());
+            
+            List<AttendanceDTO> attendanceDTOs = attendanceRecords.stream()
+                .map(att -> attendanceMapper.toDTO(att, student))
+                .collect(Collectors.toList());
+            
+            AttendanceStatsDTO stats = calculateStatistics(student, null, null);
+            event.finish(attendanceDTOs.size());
+            
+            return new StudentAttendanceHistoryDTO(
+                studentMapper.toDTO(student),
+                attendanceDTOs,
+                stats
+            );
+        });
     }
     
     public StudentAttendanceHistoryDTO getStudentAttendanceHistoryByDateRange(
         String rollNumber, LocalDate startDate, LocalDate endDate) {
-        Student student = studentService.getStudentEntityByRollNumber(rollNumber);
-        List<Attendance> attendanceRecords = attendanceRepository
-            .findByStudentIdAndDateBetween(student.getId(), startDate, endDate);
-        
-        List<AttendanceDTO> attendanceDTOs = attendanceRecords.stream()
-            .map(att -> attendanceMapper.toDTO(att, student))
-            .collect(Collectors.toList());
-        
-        AttendanceStatsDTO stats = calculateStatistics(student.getId(), startDate, endDate);
-        
-        return new StudentAttendanceHistoryDTO(
-            studentMapper.toDTO(student),
-            attendanceDTOs,
-            stats
-        );
+        return readRouting.report(ReadRouting.STUDENT_HISTORY, () -> {
+            ReportGenerationEvent event = new ReportGenerationEvent("student-history", rollNumber, startDate, endDate);
+            Student student = studentService.getStudentEntityByRollNumber(rollNumber);
+            List<Attendance> attendanceRecords = attendanceRepository
+                .findByStudentIdAndDateBetweenAndPeriodIsNull(student.getId(), startDate, endDate);
+            
+            List<AttendanceDTO> attendanceDTOs = attendanceRecords.stream()
+                .map(att -> attendanceMapper.toDTO(att, student))
+                .collect(Collectors.toList());
+            
+            AttendanceStatsDTO stats = calculateStatistics(student, startDate, endDate);
+            event.finish(attendanceDTOs.size());
+            
+            return new StudentAttendanceHistoryDTO(
+                studentMapper.toDTO(student),
+                attendanceDTOs,
+                stats
+            );
+        });
+    }
+    
+    /**
+     * Whole-day history of a student as a run-length encoded status string,
+     * built in one pass over a date-sorted cursor that only reads date and status.
+     */
+    public CompactAttendanceHistoryDTO getCompactStudentHistory(
+        String rollNumber, LocalDate startDate, LocalDate endDate, boolean includeIds) {
+        return readRouting.report(ReadRouting.STUDENT_HISTORY, () -> {
+            ReportGenerationEvent event = new ReportGenerationEvent("compact-history", rollNumber, startDate, endDate);
+            Student student = studentService.getStudentEntityByRollNumber(rollNumber);
+            RunLengthHistory history = new RunLengthHistory(startDate, includeIds);
+            try (Stream<Attendance> records = attendanceRepository.streamWholeDayHistory(student.getId(),
+                    startDate != null ? startDate : EARLIEST_DATE, endDate != null ? endDate : LATEST_DATE,
+                    Sort.by("date"))) {
+                records.forEach(att -> history.add(att.getId(), att.getDate(), att.getStatus()));
+            }
+            
+            AttendanceStatsDTO stats = statistics(history.presentDays(), history.absentDays(),
+                workingDaysSoFar(student, startDate, endDate));
+            event.finish(stats.totalDays());
+            
+            return new CompactAttendanceHistoryDTO(
+                studentMapper.toDTO(student),
+                history.startDate(),
+                history.endDate(),
+                history.runs(),
+                history.recordIds(),
+                stats
+            );
+        });
     }
     
     public AttendanceStatsDTO getStudentStatistics(String rollNumber) {
-        Student student = studentService.getStudentEntityByRollNumber(rollNumber);
-        return calculateStatistics(student.getId(), null, null);
+        return readRouting.report(ReadRouting.STUDENT_STATS, () -> {
+            Student student = studentService.getStudentEntityByRollNumber(rollNumber);
+            return calculateStatistics(student, null, null);
+        });
     }
     
     public AttendanceStatsDTO getStudentStatisticsByDateRange(
         String rollNumber, LocalDate startDate, LocalDate endDate) {
-        Student student = studentService.getStudentEntityByRollNumber(rollNumber);
-        return calculateStatistics(student.getId(), startDate, endDate);
+        return readRouting.report(ReadRouting.STUDENT_STATS, () -> {
+            Student student = studentService.getStudentEntityByRollNumber(rollNumber);
+            return calculateStatistics(student, startDate, endDate);
+        });
     }
     
-    private AttendanceStatsDTO calculateStatistics(String studentId, LocalDate startDate, LocalDate endDate) {
+    private AttendanceStatsDTO calculateStatistics(Student student, LocalDate startDate, LocalDate endDate) {
+        StatsCalculationEvent event = new StatsCalculationEvent(student.getRollNumber(), startDate, endDate);
+        String studentId = student.getId();
         if (startDate != null && endDate != null) {
-            // For date range, calculate based on all days in the range for more accurate percentage
-            long totalPossibleDays = ChronoUnit.DAYS.between(startDate, endDate) + 1;
-            long presentDays = attendanceRepository.countByStudentIdAndDateBetweenAndStatus(
+            long workingDays = workingDaysSoFar(student, startDate, endDate);
+            long presentDays = attendanceRepository.countByStudentIdAndDateBetweenAndStatusAndPeriodIsNull(
                 studentId, startDate, endDate, Attendance.Status.PRESENT);
-            long absentDays = attendanceRepository.countByStudentIdAndDateBetweenAndStatus(
+            long absentDays = attendanceRepository.countByStudentIdAndDateBetweenAndStatusAndPeriodIsNull(
                 studentId, startDate, endDate, Attendance.Status.ABSENT);
-            
-            // Total attendance records (present + absent)
-            long totalAttendanceRecords = presentDays + absentDays;
-            
-            // More accurate percentage based on all days in the range
-            double attendancePercentage = totalPossibleDays > 0 ? (presentDays * 100.0) / totalPossibleDays : 0.0;
-            
-            return new AttendanceStatsDTO(totalAttendanceRecords, presentDays, absentDays, 
-                Math.round(attendancePercentage * 100.0) / 100.0);
+            event.finish(presentDays + absentDays, workingDays);
+            return statistics(presentDays, absentDays, workingDays);
         } else {
             // For all time, we calculate based on actual attendance records
-            List<Attendance> allRecords = attendanceRepository.findByStudentIdOrderByDateDesc(studentId);
-            long totalDays = allRecords.size();
+            List<Attendance> allRecords = attendanceRepository.findByStudentIdAndPeriodIsNullOrderByDateDesc(studentId);
             long presentDays = allRecords.stream()
                 .filter(att -> att.getStatus() == Attendance.Status.PRESENT)
                 .count();
-            
-            long absentDays = totalDays - presentDays;
-            double attendancePercentage = totalDays > 0 ? (presentDays * 100.0) / totalDays : 0.0;
-            
-            return new AttendanceStatsDTO(totalDays, presentDays, absentDays, 
-                Math.round(attendancePercentage * 100.0) / 100.0);
+            event.finish(allRecords.size(), 0);
+            return statistics(presentDays, allRecords.size() - presentDays, 0);
+        }
+    }
+    
+    /**
+     * Working days of the student's academic calendar from {@code startDate} up to
+     * today or {@code endDate}, whichever is earlier; 0 unless both bounds are given.
+     */
+    private long workingDaysSoFar(Student student, LocalDate startDate, LocalDate endDate) {
+        if (startDate == null || endDate == null) {
+            return 0;
         }
+        LocalDate today = LocalDate.now();
+        return calendarService.countWorkingDays(student.getDepartment(), startDate, endDate.isAfter(today) ? today : endDate);
+    }
+    
+    private static AttendanceStatsDTO statistics(long presentDays, long absentDays, long workingDays) {
+        long totalAttendanceRecords = presentDays + absentDays;
+        // Records marked on non-working days still count as possible days
+        long totalPossibleDays = Math.max(workingDays, totalAttendanceRecords);
+        double attendancePercentage = totalPossibleDays > 0 ? (presentDays * 100.0) / totalPossibleDays : 0.0;
+        return new AttendanceStatsDTO(totalAttendanceRecords, presentDays, absentDays,
+            Math.round(attendancePercentage * 100.0) / 100.0);
     }
     
     public List<AttendanceDTO> getAttendanceByStatus(LocalDate startDate, LocalDate endDate, Attendance.Status status) {
-        return attendanceRepository.findAttendanceByDateRangeAndStatus(startDate, endDate, status).stream()
-            .map(att -> {
-                Student student = studentService.getStudentEntityById(att.getStudentId());
-                return attendanceMapper.toDTO(att, student);
-            })
-            .collect(Collectors.toList());
+        return readRouting.report(ReadRouting.ATTENDANCE_STATUS, () -> {
+            ReportGenerationEvent event = new ReportGenerationEvent("attendance-status", status.name(), startDate, endDate);
+            List<AttendanceDTO> rows = attendanceRepository.findAttendanceByDateRangeAndStatus(startDate, endDate, status)
+                .stream()
+                .map(this::toDTO)
+                .collect(Collectors.toList());
+            event.finish(rows.size());
+            return rows;
+        });
     }
 }
\ No newline at end of file
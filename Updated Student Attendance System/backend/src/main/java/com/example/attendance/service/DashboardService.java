@@ -0,0 +1,135 @@
+package com.example.attendance.service;
+
+import com.example.attendance.dto.DashboardSummaryDTO;
+import com.example.attendance.event.AttendanceChangedEvent;
+import com.example.attendance.event.StudentChangedEvent;
+import com.example.attendance.model.Attendance;
+import com.example.attendance.repository.AttendanceRepository;
+import com.example.attendance.repository.StatusCount;
+import com.example.attendance.repository.StudentRepository;
+import com.example.attendance.tenant.TenantContext;
+import com.example.attendance.tenant.TenantRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+@Service
+public class DashboardService {
+
+    private static final Logger log = LoggerFactory.getLogger(DashboardService.class);
+
+    private final StudentRepository studentRepository;
+    private final AttendanceRepository attendanceRepository;
+    private final TenantRegistry tenantRegistry;
+
+    private final Map<String, TenantCounters> tenants = new ConcurrentHashMap<>();
+
+    public DashboardService(StudentRepository studentRepository,
+                            AttendanceRepository attendanceRepository,
+                            TenantRegistry tenantRegistry) {
+        this.studentRepository = studentRepository;
+        this.attendanceRepository = attendanceRepository;
+        this.tenantRegistry = tenantRegistry;
+    }
+
+    public DashboardSummaryDTO getSummary() {
+        TenantCounters tenant = tenant(TenantContext.current());
+        DayCounters counters = tenant.currentDay();
+        long present = Math.max(0, counters.present.get());
+        long absent = Math.max(0, counters.absent.get());
+        long marked = present + absent;
+        double attendancePercentage = marked > 0 ? (present * 100.0) / marked : 0.0;
+
+        return new DashboardSummaryDTO(
+            counters.date,
+            Math.max(0, tenant.activeStudents.get()),
+            present,
+            absent,
+            marked,
+            Math.round(attendancePercentage * 100.0) / 100.0
+        );
+    }
+
+    @Scheduled(fixedDelayString = "${attendance.dashboard.reconcile-interval-ms:60000}")
+    public void reconcile() {
+        tenantRegistry.forEachTenant(this::reconcile);
+    }
+
+    private void reconcile(String tenantId) {
+        TenantCounters tenant = tenant(tenantId);
+        LocalDate date = LocalDate.now();
+        DayCounters fresh = new DayCounters(date);
+        for (StatusCount count : attendanceRepository.countByStatusForDate(date)) {
+            fresh.counter(count.status()).set(count.count());
+        }
+        tenant.activeStudents.set(studentRepository.countByActiveTrue());
+        tenant.today.set(fresh);
+        log.debug("Dashboard counters reconciled for tenant {} on {}: active={}, present={}, absent={}",
+            tenantId, date, tenant.activeStudents.get(), fresh.present.get(), fresh.absent.get());
+    }
+
+    @EventListener
+    public void onAttendanceChanged(AttendanceChangedEvent event) {
+        // Per-period roll call does not change the day's whole-day counters
+        if (event.isPeriod()) {
+            return;
+        }
+        DayCounters counters = tenant(event.tenantId()).currentDay();
+        if (event.before() != null && counters.date.equals(event.before().date())) {
+            counters.counter(event.before().status()).decrementAndGet();
+        }
+        if (event.after() != null && counters.date.equals(event.after().date())) {
+            counters.counter(event.after().status()).incrementAndGet();
+        }
+    }
+
+    @EventListener
+    public void onStudentChanged(StudentChangedEvent event) {
+        long delta = (event.isActive() ? 1 : 0) - (event.wasActive() ? 1 : 0);
+        if (delta != 0) {
+            tenant(event.tenantId()).activeStudents.addAndGet(delta);
+        }
+    }
+
+    private TenantCounters tenant(String tenantId) {
+        return tenants.computeIfAbsent(tenantId, id -> new TenantCounters());
+    }
+
+    private static final class TenantCounters {
+        private final AtomicLong activeStudents = new AtomicLong();
+        private final AtomicReference<DayCounters> today = new AtomicReference<>(new DayCounters(LocalDate.now()));
+
+        private DayCounters currentDay() {
+            DayCounters counters = today.get();
+            LocalDate date = LocalDate.now();
+            if (!counters.date.equals(date)) {
+                // Day rolled over: start from zero, the next reconciliation picks up any back-dated marks
+                today.compareAndSet(counters, new DayCounters(date));
+                counters = today.get();
+            }
+            return counters;
+        }
+    }
+
+    private static final class DayCounters {
+        private final LocalDate date;
+        private final AtomicLong present = new AtomicLong();
+        private final AtomicLong absent = new AtomicLong();
+
+        private DayCounters(LocalDate date) {
+            this.date = date;
+        }
+
+        private AtomicLong counter(Attendance.Status status) {
+            return status == Attendance.Status.PRESENT ? present : absent;
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package com.example.attendance.service;
+
+import com.example.attendance.event.StudentChangedEvent;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Assigns every student of a tenant a dense slot so that sets of students
+ * (active, per department, marked on a date) are plain bitsets and set
+ * algebra over tens of thousands of students is a few word operations.
+ * Slots of deleted students are reused.
+ */
+final class DenseStudentIndex {
+
+    record Slot(String studentId, StudentChangedEvent.State state) {}
+
+    private final Map<String, Integer> slots = new HashMap<>();
+    private final List<Slot> students = new ArrayList<>();
+    private final Deque<Integer> free = new ArrayDeque<>();
+    private final BitSet active = new BitSet();
+    private final Map<String, BitSet> departments = new HashMap<>();
+
+    synchronized void put(String studentId, StudentChangedEvent.State state) {
+        Integer slot = slots.get(studentId);
+        if (slot == null) {
+            slot = free.isEmpty() ? students.size() : free.pop();
+            slots.put(studentId, slot);
+            if (slot == students.size()) {
+                students.add(null);
+            }
+        } else {
+            clearBits(slot);
+        }
+        students.set(slot, new Slot(studentId, state));
+        active.set(slot, state.active());
+        department(state.department()).set(slot);
+    }
+
+    synchronized void remove(String studentId) {
+        Integer slot = slots.remove(studentId);
+        if (slot != null) {
+            clearBits(slot);
+            students.set(slot, null);
+            free.push(slot);
+        }
+    }
+
+    synchronized int size() {
+        return slots.size();
+    }
+
+    /** Active students, optionally restricted to a department; the caller owns the copy. */
+    synchronized BitSet active(String department) {
+        BitSet result = (BitSet) active.clone();
+        if (department != null) {
+            BitSet members = departments.get(key(department));
+            if (members == null) {
+                return new BitSet();
+            }
+            result.and(members);
+        }
+        return result;
+    }
+
+    /** Marks the slots of the given students; unknown ids are ignored. */
+    synchronized BitSet slotsOf(Iterable<String> studentIds) {
+        BitSet result = new BitSet(students.size());
+        for (String studentId : studentIds) {
+            Integer slot = slots.get(studentId);
+            if (slot != null) {
+                result.set(slot);
+            }
+        }
+        return result;
+    }
+
+    synchronized List<Slot> resolve(BitSet selection) {
+        List<Slot> result = new ArrayList<>(selection.cardinality());
+        for (int slot = selection.nextSetBit(0); slot >= 0; slot = selection.nextSetBit(slot + 1)) {
+            Slot student = slot < students.size() ? students.get(slot) : null;
+            if (student != null) {
+                result.add(student);
+            }
+        }
+        return result;
+    }
+
+    private void clearBits(int slot) {
+        active.clear(slot);
+        Slot previous = students.get(slot);
+        if (previous != null) {
+            BitSet members = departments.get(key(previous.state().department()));
+            if (members != null) {
+                members.clear(slot);
+            }
+        }
+    }
+
+    private BitSet department(String department) {
+        return departments.computeIfAbsent(key(department), k -> new BitSet());
+    }
+
+    private static String key(String department) {
+        return department != null ? department.trim().toLowerCase(Locale.ROOT) : "";
+    }
+}
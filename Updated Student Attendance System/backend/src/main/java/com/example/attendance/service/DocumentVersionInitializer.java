@@ -0,0 +1,62 @@
+package com.example.attendance.service;
+
+import com.example.attendance.model.Attendance;
+import com.example.attendance.model.Student;
+import org.bson.Document;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+
+import java.util.Date;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+import static org.springframework.data.mongodb.core.query.Query.query;
+
+/**
+ * Stamps an initial version on students and attendance written before the
+ * entities were versioned. Spring Data treats a document with a null version
+ * as new, so saving one of those would attempt an insert of an existing id.
+ * The stamp is a collection scan, so it runs once per tenant in the background
+ * and is recorded in schema_migrations; later starts only check that record.
+ */
+@Component
+public class DocumentVersionInitializer {
+
+    private static final Logger log = LoggerFactory.getLogger(DocumentVersionInitializer.class);
+
+    private static final String MIGRATIONS = "schema_migrations";
+    private static final String MIGRATION_ID = "document-version";
+
+    private final MongoTemplate mongoTemplate;
+    private final TenantWarmup tenantWarmup;
+
+    public DocumentVersionInitializer(MongoTemplate mongoTemplate, TenantWarmup tenantWarmup) {
+        this.mongoTemplate = mongoTemplate;
+        this.tenantWarmup = tenantWarmup;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        tenantWarmup.submit("Document version initialization", this::initialize);
+    }
+
+    private void initialize(String tenantId) {
+        if (mongoTemplate.exists(query(where("_id").is(MIGRATION_ID)), MIGRATIONS)) {
+            return;
+        }
+        long students = stamp(Student.class);
+        long attendance = stamp(Attendance.class);
+        mongoTemplate.save(new Document("_id", MIGRATION_ID).append("completedAt", new Date()), MIGRATIONS);
+        log.info("Initialized version on {} students and {} attendance records for tenant {}",
+            students, attendance, tenantId);
+    }
+
+    private long stamp(Class<?> entityClass) {
+        return mongoTemplate.updateMulti(query(where("version").exists(false)),
+            new Update().set("version", 0L), entityClass).getModifiedCount();
+    }
+}
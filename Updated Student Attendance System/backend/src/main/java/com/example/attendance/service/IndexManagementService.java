@@ -0,0 +1,254 @@
+package com.example.attendance.service;
+
+import com.example.attendance.config.IndexCatalog;
+import com.example.attendance.dto.IndexReportDTO;
+import com.example.attendance.tenant.TenantContext;
+import com.example.attendance.tenant.TenantRegistry;
+import org.bson.Document;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Builds the indexes declared in {@link IndexCatalog} and reports index usage
+ * via $indexStats. Unique indexes are built before the web server accepts
+ * requests, since a write racing a background build could create the very
+ * duplicates that make it fail; the rest are built on a background thread
+ * once the application is ready. Every tenant database is built and reported
+ * on separately.
+ */
+@Service
+public class IndexManagementService implements SmartInitializingSingleton {
+
+    private static final Logger log = LoggerFactory.getLogger(IndexManagementService.class);
+
+    public enum BuildStatus { PENDING, BUILDING, READY, FAILED }
+
+    private final MongoTemplate mongoTemplate;
+    private final IndexCatalog indexCatalog;
+    private final TenantRegistry tenantRegistry;
+
+    private final Map<String, BuildStatus> buildStatus = new ConcurrentHashMap<>();
+    private final Map<String, String> buildErrors = new ConcurrentHashMap<>();
+
+    public IndexManagementService(MongoTemplate mongoTemplate, IndexCatalog indexCatalog, TenantRegistry tenantRegistry) {
+        this.mongoTemplate = mongoTemplate;
+        this.indexCatalog = indexCatalog;
+        this.tenantRegistry = tenantRegistry;
+        tenantRegistry.forEachTenant(tenantId -> indexCatalog.getIndexes().forEach(
+            index -> buildStatus.put(key(tenantId, index.collection(), index.name()), BuildStatus.PENDING)));
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        // On an empty or already indexed database this takes milliseconds
+        tenantRegistry.forEachTenant(tenantId -> build(true));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void scheduleBuild() {
+        Thread builder = new Thread(() -> tenantRegistry.forEachTenant(tenantId -> buildMissingIndexes()), "index-builder");
+        builder.setDaemon(true);
+        builder.start();
+    }
+
+    public void buildMissingIndexes() {
+        build(false);
+    }
+
+    private synchronized void build(boolean uniqueOnly) {
+        String tenantId = TenantContext.current();
+        for (IndexCatalog.RequiredIndex index : indexCatalog.getIndexes()) {
+            if (uniqueOnly && !index.unique()) {
+                continue;
+            }
+            String key = key(tenantId, index.collection(), index.name());
+            try {
+                if (findMatching(index) != null) {
+                    buildStatus.put(key, BuildStatus.READY);
+                    continue;
+                }
+                buildStatus.put(key, BuildStatus.BUILDING);
+                long start = System.currentTimeMillis();
+                mongoTemplate.indexOps(index.collection()).ensureIndex(index.definition());
+                buildStatus.put(key, BuildStatus.READY);
+                buildErrors.remove(key);
+                log.info("Built index {}.{} for tenant {} in {} ms",
+                    index.collection(), index.name(), tenantId, System.currentTimeMillis() - start);
+            } catch (RuntimeException e) {
+                buildStatus.put(key, BuildStatus.FAILED);
+                buildErrors.put(key, e.getMessage());
+                log.error("Failed to build index {}.{} for tenant {}: {}",
+                    index.collection(), index.name(), tenantId, e.getMessage());
+            }
+        }
+        dropObsoleteIndexes(tenantId);
+    }
+
+    private void dropObsoleteIndexes(String tenantId) {
+        for (IndexCatalog.ObsoleteIndex index : indexCatalog.getObsoleteIndexes()) {
+            if (buildStatus.get(key(tenantId, index.collection(), index.replacedBy())) != BuildStatus.READY) {
+                continue;
+            }
+            try {
+                if (!mongoTemplate.collectionExists(index.collection())) {
+                    continue;
+                }
+                for (Document existing : mongoTemplate.getCollection(index.collection()).listIndexes()) {
+                    if (index.name().equals(existing.getString("name"))) {
+                        mongoTemplate.indexOps(index.collection()).dropIndex(index.name());
+                        log.info("Dropped obsolete index {}.{} for tenant {}", index.collection(), index.name(), tenantId);
+                        break;
+                    }
+                }
+            } catch (RuntimeException e) {
+                log.error("Failed to drop obsolete index {}.{} for tenant {}: {}",
+                    index.collection(), index.name(), tenantId, e.getMessage());
+            }
+        }
+    }
+
+    public List<IndexReportDTO> getIndexReport() {
+        String tenantId = TenantContext.current();
+        Set<String> collections = new LinkedHashSet<>();
+        indexCatalog.getIndexes().forEach(index -> collections.add(index.collection()));
+
+        List<IndexReportDTO> report = new ArrayList<>();
+        for (String collection : collections) {
+            Map<String, Document> stats = indexStats(collection);
+            Set<String> reported = new LinkedHashSet<>();
+
+            for (IndexCatalog.RequiredIndex index : indexCatalog.getIndexes()) {
+                if (!index.collection().equals(collection)) {
+                    continue;
+                }
+                Document existing = findMatching(index);
+                String actualName = existing != null ? existing.getString("name") : index.name();
+                reported.add(actualName);
+                report.add(toReport(collection, actualName, index.definition().getIndexKeys(), true,
+                    existing != null, buildStatus.get(key(tenantId, collection, index.name())),
+                    buildErrors.get(key(tenantId, collection, index.name())), stats.get(actualName)));
+            }
+
+            // Indexes present in the database but not declared in the catalog
+            for (Map.Entry<String, Document> entry : stats.entrySet()) {
+                if (!reported.contains(entry.getKey())) {
+                    Document keys = entry.getValue().get("key", Document.class);
+                    report.add(toReport(collection, entry.getKey(), keys, false, true, null, null, entry.getValue()));
+                }
+            }
+        }
+        return report;
+    }
+
+    private IndexReportDTO toReport(String collection, String name, Document keys, boolean declared, boolean present,
+                                    BuildStatus status, String error, Document stats) {
+        Long ops = null;
+        Date since = null;
+        if (stats != null) {
+            Document accesses = stats.get("accesses", Document.class);
+            if (accesses != null) {
+                Object value = accesses.get("ops");
+                ops = value instanceof Number number ? number.longValue() : null;
+                since = accesses.getDate("since");
+            }
+        }
+        boolean unused = present && ops != null && ops == 0 && !"_id_".equals(name);
+        return new IndexReportDTO(
+            collection,
+            name,
+            keys != null ? keys.toJson() : null,
+            declared,
+            present,
+            status != null ? status.name() : null,
+            error,
+            ops,
+            since != null ? since.toInstant() : null,
+            unused
+        );
+    }
+
+    private Map<String, Document> indexStats(String collection) {
+        Map<String, Document> stats = new LinkedHashMap<>();
+        if (!mongoTemplate.collectionExists(collection)) {
+            return stats;
+        }
+        mongoTemplate.getCollection(collection)
+            .aggregate(List.of(new Document("$indexStats", new Document())))
+            .forEach(doc -> stats.put(doc.getString("name"), doc));
+        return stats;
+    }
+
+    private Document findMatching(IndexCatalog.RequiredIndex index) {
+        if (!mongoTemplate.collectionExists(index.collection())) {
+            return null;
+        }
+        // Match on key pattern and options, so indexes created earlier under another name are recognised
+        // but a non-unique, unfiltered or differently collated index on the same keys is not
+        List<Map.Entry<String, Object>> wanted = new ArrayList<>(index.definition().getIndexKeys().entrySet());
+        Document options = index.definition().getIndexOptions();
+        for (Document existing : mongoTemplate.getCollection(index.collection()).listIndexes()) {
+            Document keys = existing.get("key", Document.class);
+            if (keys != null && sameKeys(wanted, new ArrayList<>(keys.entrySet())) && sameOptions(options, existing)) {
+                return existing;
+            }
+        }
+        return null;
+    }
+
+    private static boolean sameOptions(Document wanted, Document existing) {
+        if (Boolean.TRUE.equals(wanted.get("unique")) != Boolean.TRUE.equals(existing.get("unique"))) {
+            return false;
+        }
+        if (!Objects.equals(wanted.get("partialFilterExpression"), existing.get("partialFilterExpression"))) {
+            return false;
+        }
+        // The server reports every collation field, so only the requested ones are compared
+        Document wantedCollation = wanted.get("collation", Document.class);
+        Document actualCollation = existing.get("collation", Document.class);
+        if (wantedCollation == null || actualCollation == null) {
+            return wantedCollation == null && actualCollation == null;
+        }
+        return wantedCollation.entrySet().stream()
+            .allMatch(entry -> sameValue(entry.getValue(), actualCollation.get(entry.getKey())));
+    }
+
+    private static boolean sameKeys(List<Map.Entry<String, Object>> wanted, List<Map.Entry<String, Object>> actual) {
+        if (wanted.size() != actual.size()) {
+            return false;
+        }
+        for (int i = 0; i < wanted.size(); i++) {
+            Map.Entry<String, Object> w = wanted.get(i);
+            Map.Entry<String, Object> a = actual.get(i);
+            if (!w.getKey().equals(a.getKey()) || !sameValue(w.getValue(), a.getValue())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean sameValue(Object wanted, Object actual) {
+        if (wanted instanceof Number w && actual instanceof Number a) {
+            return w.intValue() == a.intValue();
+        }
+        return Objects.equals(wanted, actual);
+    }
+
+    private static String key(String tenantId, String collection, String name) {
+        return tenantId + ":" + collection + "." + name;
+    }
+}
@@ -0,0 +1,111 @@
+package com.example.attendance.service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+/**
+ * Order-statistic view of one ranking partition. Scores are attendance
+ * percentages in basis points (0..10000); a Fenwick tree over the score
+ * domain gives O(log n) ranks and a sorted set gives top/bottom-K walks.
+ * Equal scores share a rank (1 + number of strictly higher scores).
+ */
+final class Leaderboard {
+
+    static final int MAX_SCORE = 10_000;
+
+    record Entry(String studentId, int score, int rank) {}
+
+    private record Key(int score, String studentId) {}
+
+    private static final Comparator<Key> ORDER = Comparator
+        .comparingInt(Key::score).reversed()
+        .thenComparing(Key::studentId);
+
+    private final TreeSet<Key> ordered = new TreeSet<>(ORDER);
+    private final Map<String, Integer> scores = new HashMap<>();
+    private final int[] tree = new int[MAX_SCORE + 2];
+
+    synchronized void put(String studentId, int score) {
+        Integer previous = scores.put(studentId, score);
+        if (previous != null) {
+            if (previous == score) {
+                return;
+            }
+            ordered.remove(new Key(previous, studentId));
+            add(previous, -1);
+        }
+        ordered.add(new Key(score, studentId));
+        add(score, 1);
+    }
+
+    synchronized void remove(String studentId) {
+        Integer previous = scores.remove(studentId);
+        if (previous != null) {
+            ordered.remove(new Key(previous, studentId));
+            add(previous, -1);
+        }
+    }
+
+    synchronized int size() {
+        return scores.size();
+    }
+
+    synchronized Integer score(String studentId) {
+        return scores.get(studentId);
+    }
+
+    synchronized int rank(String studentId) {
+        Integer score = scores.get(studentId);
+        return score == null ? -1 : countAbove(score) + 1;
+    }
+
+    synchronized List<Entry> top(int k) {
+        List<Entry> result = new ArrayList<>(Math.min(k, ordered.size()));
+        int position = 0;
+        int rank = 0;
+        int previousScore = -1;
+        for (Iterator<Key> it = ordered.iterator(); it.hasNext() && result.size() < k; ) {
+            Key key = it.next();
+            position++;
+            if (key.score() != previousScore) {
+                rank = position;
+                previousScore = key.score();
+            }
+            result.add(new Entry(key.studentId(), key.score(), rank));
+        }
+        return result;
+    }
+
+    synchronized List<Entry> bottom(int k) {
+        List<Entry> result = new ArrayList<>(Math.min(k, ordered.size()));
+        for (Iterator<Key> it = ordered.descendingIterator(); it.hasNext() && result.size() < k; ) {
+            Key key = it.next();
+            result.add(new Entry(key.studentId(), key.score(), countAbove(key.score()) + 1));
+        }
+        return result;
+    }
+
+    private int countAbove(int score) {
+        return scores.size() - prefix(score);
+    }
+
+    // Fenwick tree over score + 1 so that score 0 maps to index 1
+    private void add(int score, int delta) {
+        for (int i = score + 1; i < tree.length; i += i & -i) {
+            tree[i] += delta;
+        }
+    }
+
+    private int prefix(int score) {
+        int sum = 0;
+        for (int i = score + 1; i > 0; i -= i & -i) {
+            sum += tree[i];
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,67 @@
+package com.example.attendance.service;
+
+import com.example.attendance.config.ConcurrencyProperties;
+import com.example.attendance.exception.ConcurrentUpdateException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Supplier;
+
+/**
+ * Bounded retry for idempotent read-modify-write updates of versioned
+ * documents. Each attempt must re-read the document, so a retry applies the
+ * same change on top of whatever the concurrent writer saved.
+ */
+@Component
+public class OptimisticRetry {
+
+    private final ConcurrencyProperties properties;
+    private final Counter retries;
+    private final Counter conflicts;
+
+    public OptimisticRetry(ConcurrencyProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.retries = meterRegistry.counter("attendance.optimistic.retries");
+        this.conflicts = meterRegistry.counter("attendance.optimistic.conflicts");
+    }
+
+    public <T> T execute(String resourceName, String fieldName, Object fieldValue, Supplier<T> attempt) {
+        int attempts = Math.max(1, properties.maxAttempts());
+        for (int i = 1; ; i++) {
+            try {
+                return attempt.get();
+            } catch (OptimisticLockingFailureException | DuplicateKeyException e) {
+                // A concurrent insert of the same natural key shows up as a duplicate key;
+                // the refreshed attempt then finds the record and updates it instead
+                if (i >= attempts) {
+                    conflicts.increment();
+                    throw new ConcurrentUpdateException(resourceName, fieldName, fieldValue);
+                }
+                retries.increment();
+                backoff(i);
+            }
+        }
+    }
+
+    public void run(String resourceName, String fieldName, Object fieldValue, Runnable attempt) {
+        execute(resourceName, fieldName, fieldValue, () -> {
+            attempt.run();
+            return null;
+        });
+    }
+
+    private void backoff(int attempt) {
+        if (properties.backoffMs() <= 0) {
+            return;
+        }
+        // Jittered linear backoff so colliding writers do not retry in lockstep
+        long ceiling = TimeUnit.MILLISECONDS.toNanos(properties.backoffMs() * attempt);
+        LockSupport.parkNanos(ThreadLocalRandom.current().nextLong(ceiling / 2, ceiling + 1));
+    }
+}
@@ -0,0 +1,245 @@
+package com.example.attendance.service;
+
+import com.example.attendance.config.ProfilingProperties;
+import com.example.attendance.dto.RecordingDTO;
+import com.example.attendance.dto.StartRecordingRequest;
+import com.example.attendance.exception.ProfilingException;
+import com.example.attendance.exception.ResourceNotFoundException;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.InputStreamResource;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.text.ParseException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Starts and stops Java Flight Recorder recordings on demand. Recordings are
+ * written to disk under the configured directory, bounded in duration and
+ * size, and the oldest finished ones are removed once too many are kept.
+ * The attendance events in com.example.attendance.profiling are enabled by
+ * default, so every template records them alongside CPU and allocation data;
+ * events that capture the process environment are always disabled.
+ */
+@Service
+public class ProfilingService {
+
+    private static final Logger log = LoggerFactory.getLogger(ProfilingService.class);
+
+    private static final String DEFAULT_TEMPLATE = "default";
+    private static final DateTimeFormatter FILE_TIMESTAMP = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+
+    // Environment, system properties and JVM arguments can carry credentials such as the Mongo URI
+    private static final List<String> SENSITIVE_EVENTS = List.of(
+        "jdk.InitialEnvironmentVariable", "jdk.InitialSystemProperty", "jdk.JVMInformation");
+
+    private record Entry(Recording recording, String template, Path file) {}
+
+    private final ProfilingProperties properties;
+    private final Path directory;
+    private final Map<Long, Entry> recordings = new ConcurrentHashMap<>();
+
+    public ProfilingService(ProfilingProperties properties) {
+        this.properties = properties;
+        this.directory = properties.directory() != null && !properties.directory().isBlank()
+            ? Path.of(properties.directory())
+            : Path.of(System.getProperty("java.io.tmpdir"), "attendance-jfr");
+    }
+
+    public List<String> getTemplates() {
+        return Configuration.getConfigurations().stream().map(Configuration::getName).toList();
+    }
+
+    public synchronized RecordingDTO start(StartRecordingRequest request) {
+        long active = recordings.values().stream().filter(entry -> isActive(entry.recording())).count();
+        if (active >= properties.maxActive()) {
+            throw new ProfilingException("Already " + active + " recordings in progress, stop one first");
+        }
+        String template = request.template() != null ? request.template() : DEFAULT_TEMPLATE;
+        Configuration configuration = configuration(template);
+        long durationSeconds = Math.min(
+            request.durationSeconds() != null ? request.durationSeconds() : properties.maxDurationSeconds(),
+            properties.maxDurationSeconds());
+        long maxSizeMb = Math.min(request.maxSizeMb() != null ? request.maxSizeMb() : properties.maxSizeMb(),
+            properties.maxSizeMb());
+        String name = request.name() != null && !request.name().isBlank() ? request.name() : "attendance";
+
+        Recording recording = new Recording(configuration);
+        SENSITIVE_EVENTS.forEach(recording::disable);
+        try {
+            Files.createDirectories(directory);
+            Path file = directory.resolve(name.replaceAll("[^A-Za-z0-9_-]", "_") + "-"
+                + LocalDateTime.now().format(FILE_TIMESTAMP) + "-" + recording.getId() + ".jfr");
+            recording.setName(name);
+            recording.setToDisk(true);
+            recording.setDuration(Duration.ofSeconds(durationSeconds));
+            recording.setMaxSize(maxSizeMb * 1024 * 1024);
+            recording.setDestination(file);
+            recording.start();
+
+            Entry entry = new Entry(recording, template, file);
+            recordings.put(recording.getId(), entry);
+            evictFinished();
+            log.info("Started JFR recording {} ({}, template {}, {} s) writing to {}",
+                recording.getId(), name, template, durationSeconds, file);
+            return toDTO(entry);
+        } catch (IOException e) {
+            recording.close();
+            throw new UncheckedIOException("Could not create recording file in " + directory, e);
+        } catch (RuntimeException e) {
+            recording.close();
+            throw e;
+        }
+    }
+
+    public List<RecordingDTO> getRecordings() {
+        return recordings.values().stream()
+            .sorted(Comparator.comparingLong((Entry entry) -> entry.recording().getId()).reversed())
+            .map(this::toDTO)
+            .toList();
+    }
+
+    public RecordingDTO getRecording(long id) {
+        return toDTO(entry(id));
+    }
+
+    public RecordingDTO stop(long id) {
+        Entry entry = entry(id);
+        if (isActive(entry.recording())) {
+            entry.recording().stop();
+            log.info("Stopped JFR recording {} after {}", id, entry.recording().getDuration());
+        }
+        return toDTO(entry);
+    }
+
+    /**
+     * Contents of the recording file. A running recording is dumped to a
+     * separate snapshot file first, so it can be downloaded without stopping
+     * it; the snapshot is deleted as soon as the stream is closed.
+     */
+    public Resource getFile(long id) {
+        Entry entry = entry(id);
+        if (!isActive(entry.recording())) {
+            if (!Files.exists(entry.file())) {
+                throw new ResourceNotFoundException("Recording file", "id", id);
+            }
+            return new FileSystemResource(entry.file());
+        }
+        Path snapshot = null;
+        try {
+            snapshot = Files.createTempFile(directory, "snapshot-" + id + "-", ".jfr");
+            entry.recording().dump(snapshot);
+            return new InputStreamResource(Files.newInputStream(snapshot, StandardOpenOption.DELETE_ON_CLOSE));
+        } catch (IOException e) {
+            deleteQuietly(snapshot);
+            throw new UncheckedIOException("Could not read recording " + id, e);
+        }
+    }
+
+    public void delete(long id) {
+        Entry entry = entry(id);
+        recordings.remove(id);
+        discard(entry);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        // Running recordings are stopped so their files are complete on disk
+        recordings.values().forEach(entry -> {
+            if (isActive(entry.recording())) {
+                entry.recording().stop();
+            }
+            entry.recording().close();
+        });
+    }
+
+    private Entry entry(long id) {
+        Entry entry = recordings.get(id);
+        if (entry == null) {
+            throw new ResourceNotFoundException("Recording", "id", id);
+        }
+        return entry;
+    }
+
+    private Configuration configuration(String template) {
+        try {
+            return Configuration.getConfiguration(template);
+        } catch (IOException | ParseException e) {
+            throw new ResourceNotFoundException("Recording template", "name", template);
+        }
+    }
+
+    private void evictFinished() {
+        List<Entry> finished = recordings.values().stream()
+            .filter(entry -> !isActive(entry.recording()))
+            .sorted(Comparator.comparingLong(entry -> entry.recording().getId()))
+            .toList();
+        for (int i = 0; i < finished.size() - properties.retained(); i++) {
+            Entry entry = finished.get(i);
+            recordings.remove(entry.recording().getId());
+            discard(entry);
+        }
+    }
+
+    private void discard(Entry entry) {
+        entry.recording().close();
+        deleteQuietly(entry.file());
+    }
+
+    private static void deleteQuietly(Path file) {
+        if (file == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.warn("Could not delete recording file {}: {}", file, e.getMessage());
+        }
+    }
+
+    private static boolean isActive(Recording recording) {
+        return recording.getState() == RecordingState.NEW
+            || recording.getState() == RecordingState.DELAYED
+            || recording.getState() == RecordingState.RUNNING;
+    }
+
+    private RecordingDTO toDTO(Entry entry) {
+        Recording recording = entry.recording();
+        long size = recording.getSize();
+        if (!isActive(recording)) {
+            try {
+                size = Files.exists(entry.file()) ? Files.size(entry.file()) : size;
+            } catch (IOException e) {
+                // Keep the in-memory size
+            }
+        }
+        Duration duration = recording.getDuration();
+        return new RecordingDTO(
+            recording.getId(),
+            recording.getName(),
+            entry.template(),
+            recording.getState().name(),
+            recording.getStartTime(),
+            recording.getStopTime(),
+            duration != null ? duration.toSeconds() : null,
+            size
+        );
+    }
+}
@@ -0,0 +1,360 @@
+package com.example.attendance.service;
+
+import com.example.attendance.config.RankingProperties;
+import com.example.attendance.dto.LeaderboardDTO;
+import com.example.attendance.dto.RankingEntryDTO;
+import com.example.attendance.dto.StudentRankDTO;
+import com.example.attendance.event.AttendanceChangedEvent;
+import com.example.attendance.event.StudentChangedEvent;
+import com.example.attendance.exception.ResourceNotFoundException;
+import com.example.attendance.model.Attendance;
+import com.example.attendance.model.Student;
+import com.example.attendance.repository.AttendanceRepository;
+import com.example.attendance.repository.StudentRepository;
+import com.example.attendance.tenant.TenantContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Maintains attendance leaderboards per department/year partition for the
+ * all-time window and every configured term, updated on each attendance write.
+ * Boards are kept separately for every tenant and built in the background once
+ * the application is ready; students written to while a tenant's boards are
+ * being built are recounted from the database when the build completes.
+ */
+@Service
+public class RankingService {
+
+    private static final Logger log = LoggerFactory.getLogger(RankingService.class);
+
+    private static final String ALL_TIME = "all";
+    private static final LocalDate EARLIEST_DATE = LocalDate.of(1900, 1, 1);
+    private static final LocalDate LATEST_DATE = LocalDate.of(9999, 12, 31);
+
+    private final AttendanceRepository attendanceRepository;
+    private final StudentRepository studentRepository;
+    private final RankingProperties properties;
+    private final TenantWarmup tenantWarmup;
+
+    private final List<Window> windows = new ArrayList<>();
+    private final Map<String, Rankings> rankingsByTenant = new ConcurrentHashMap<>();
+
+    public RankingService(AttendanceRepository attendanceRepository,
+                          StudentRepository studentRepository,
+                          RankingProperties properties,
+                          TenantWarmup tenantWarmup) {
+        this.attendanceRepository = attendanceRepository;
+        this.studentRepository = studentRepository;
+        this.properties = properties;
+        this.tenantWarmup = tenantWarmup;
+
+        windows.add(new Window(ALL_TIME, null, null));
+        for (RankingProperties.Term term : properties.terms()) {
+            windows.add(new Window(term.name(), term.startDate(), term.endDate()));
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        tenantWarmup.submit("Ranking initialization", this::initialize);
+    }
+
+    private void initialize(String tenantId) {
+        Rankings rankings = rankings(tenantId);
+        // Start over from whatever a failed attempt left behind
+        rankings.clear();
+        for (Student student : studentRepository.findAll()) {
+            rankings.directory.put(student.getId(), StudentChangedEvent.State.of(student));
+        }
+        try (Stream<Attendance> records = attendanceRepository.streamWholeDayRecords(Sort.unsorted())) {
+            records.forEach(att -> {
+                for (Window window : windows) {
+                    if (window.contains(att.getDate())) {
+                        rankings.counts(window, att.getStudentId()).add(att.getStatus(), 1);
+                    }
+                }
+            });
+        }
+        for (Window window : windows) {
+            rankings.countsByWindow.get(window.name()).keySet()
+                .forEach(studentId -> refresh(rankings, window, studentId));
+        }
+        rankings.ready = true;
+        catchUp(rankings);
+        log.info("Ranking initialized for {} students of tenant {} across {} windows",
+            rankings.directory.size(), tenantId, windows.size());
+    }
+
+    /**
+     * Recounts the students whose attendance or details changed while the
+     * boards were being built, since those events were not applied.
+     */
+    private void catchUp(Rankings rankings) {
+        Set<String> studentIds = new HashSet<>(rankings.missed);
+        rankings.missed.removeAll(studentIds);
+        if (studentIds.isEmpty()) {
+            return;
+        }
+        Map<String, StudentChangedEvent.State> students = new HashMap<>();
+        studentRepository.findAllById(studentIds)
+            .forEach(student -> students.put(student.getId(), StudentChangedEvent.State.of(student)));
+        for (String studentId : studentIds) {
+            // The student may have moved partition while the boards were built
+            rankings.boards.values().forEach(board -> board.remove(studentId));
+            StudentChangedEvent.State student = students.get(studentId);
+            if (student != null) {
+                rankings.directory.put(studentId, student);
+            } else {
+                rankings.directory.remove(studentId);
+                rankings.countsByWindow.values().forEach(counts -> counts.remove(studentId));
+            }
+        }
+        for (Window window : windows) {
+            Map<String, Counts> recounted = new HashMap<>();
+            attendanceRepository.countByStudentAndStatus(students.keySet(),
+                    window.startDate() != null ? window.startDate() : EARLIEST_DATE,
+                    window.endDate() != null ? window.endDate() : LATEST_DATE)
+                .forEach(count -> recounted.computeIfAbsent(count.studentId(), id -> new Counts())
+                    .add(count.status(), Math.toIntExact(count.count())));
+            for (String studentId : students.keySet()) {
+                Counts counts = rankings.counts(window, studentId);
+                synchronized (counts) {
+                    counts.set(recounted.getOrDefault(studentId, new Counts()));
+                    refresh(rankings, window, studentId);
+                }
+            }
+        }
+    }
+
+    @EventListener
+    public void onAttendanceChanged(AttendanceChangedEvent event) {
+        // Rankings are built from whole-day attendance only
+        if (event.isPeriod()) {
+            return;
+        }
+        Rankings rankings = rankings(event.tenantId());
+        if (!rankings.ready) {
+            if (event.before() != null) {
+                rankings.missed.add(event.before().studentId());
+            }
+            if (event.after() != null) {
+                rankings.missed.add(event.after().studentId());
+            }
+            return;
+        }
+        if (event.before() != null) {
+            apply(rankings, event.before(), -1);
+        }
+        if (event.after() != null) {
+            apply(rankings, event.after(), 1);
+        }
+    }
+
+    @EventListener
+    public void onStudentChanged(StudentChangedEvent event) {
+        Rankings rankings = rankings(event.tenantId());
+        if (!rankings.ready) {
+            rankings.missed.add(event.studentId());
+            return;
+        }
+        if (event.before() != null) {
+            for (Window window : windows) {
+                rankings.boardFor(window, event.before()).remove(event.studentId());
+            }
+        }
+        if (event.after() == null) {
+            rankings.directory.remove(event.studentId());
+            rankings.countsByWindow.values().forEach(counts -> counts.remove(event.studentId()));
+            return;
+        }
+        rankings.directory.put(event.studentId(), event.after());
+        for (Window window : windows) {
+            refresh(rankings, window, event.studentId());
+        }
+    }
+
+    public LeaderboardDTO getTop(String department, Integer year, String term, Integer limit) {
+        Window window = window(term);
+        Rankings rankings = rankings(TenantContext.current());
+        Leaderboard board = rankings.board(new PartitionKey(window.name(), department, year));
+        return toLeaderboardDTO(rankings, department, year, window, board, board.top(limit(limit)));
+    }
+
+    public LeaderboardDTO getBottom(String department, Integer year, String term, Integer limit) {
+        Window window = window(term);
+        Rankings rankings = rankings(TenantContext.current());
+        Leaderboard board = rankings.board(new PartitionKey(window.name(), department, year));
+        return toLeaderboardDTO(rankings, department, year, window, board, board.bottom(limit(limit)));
+    }
+
+    public StudentRankDTO getStudentRank(Student student, String term) {
+        Window window = window(term);
+        Rankings rankings = rankings(TenantContext.current());
+        StudentChangedEvent.State state = rankings.directory.get(student.getId());
+        Leaderboard board = state != null ? rankings.boards.get(partitionKey(window, state)) : null;
+        Integer score = board != null ? board.score(student.getId()) : null;
+        if (score == null) {
+            throw new ResourceNotFoundException("Ranking", "rollNumber", student.getRollNumber());
+        }
+        return new StudentRankDTO(
+            student.getId(),
+            student.getRollNumber(),
+            student.getDepartment(),
+            student.getYear(),
+            window.name(),
+            board.rank(student.getId()),
+            board.size(),
+            score / 100.0
+        );
+    }
+
+    private void apply(Rankings rankings, AttendanceChangedEvent.State state, int delta) {
+        if (delta < 0 && !rankings.directory.containsKey(state.studentId())) {
+            // Records purged after their student was deleted
+            return;
+        }
+        for (Window window : windows) {
+            if (window.contains(state.date())) {
+                Counts counts = rankings.counts(window, state.studentId());
+                // Serialize count change and board update per student so the board never sees a stale score
+                synchronized (counts) {
+                    counts.add(state.status(), delta);
+                    refresh(rankings, window, state.studentId());
+                }
+            }
+        }
+    }
+
+    private void refresh(Rankings rankings, Window window, String studentId) {
+        StudentChangedEvent.State student = rankings.directory.get(studentId);
+        if (student == null) {
+            return;
+        }
+        Leaderboard board = rankings.boardFor(window, student);
+        Counts counts = rankings.countsByWindow.get(window.name()).get(studentId);
+        int score = counts != null ? counts.score() : -1;
+        if (!student.active() || score < 0) {
+            board.remove(studentId);
+        } else {
+            board.put(studentId, score);
+        }
+    }
+
+    private Rankings rankings(String tenantId) {
+        return rankingsByTenant.computeIfAbsent(tenantId, id -> new Rankings(windows));
+    }
+
+    private static PartitionKey partitionKey(Window window, StudentChangedEvent.State student) {
+        return new PartitionKey(window.name(), student.department(), student.year());
+    }
+
+    private Window window(String term) {
+        String name = term != null ? term : ALL_TIME;
+        return windows.stream()
+            .filter(window -> window.name().equalsIgnoreCase(name))
+            .findFirst()
+            .orElseThrow(() -> new ResourceNotFoundException("Term", "name", term));
+    }
+
+    private int limit(Integer limit) {
+        int requested = limit != null ? limit : properties.defaultLimit();
+        return Math.max(1, Math.min(requested, properties.maxLimit()));
+    }
+
+    private LeaderboardDTO toLeaderboardDTO(Rankings rankings, String department, Integer year, Window window,
+                                            Leaderboard board, List<Leaderboard.Entry> entries) {
+        List<RankingEntryDTO> rows = entries.stream()
+            .map(entry -> {
+                StudentChangedEvent.State student = rankings.directory.get(entry.studentId());
+                return new RankingEntryDTO(
+                    entry.rank(),
+                    entry.studentId(),
+                    student != null ? student.name() : null,
+                    student != null ? student.rollNumber() : null,
+                    entry.score() / 100.0
+                );
+            })
+            .collect(Collectors.toList());
+        return new LeaderboardDTO(department, year, window.name(), board.size(), rows);
+    }
+
+    private record Window(String name, LocalDate startDate, LocalDate endDate) {
+        boolean contains(LocalDate date) {
+            return (startDate == null || !date.isBefore(startDate))
+                && (endDate == null || !date.isAfter(endDate));
+        }
+    }
+
+    private record PartitionKey(String window, String department, Integer year) {}
+
+    private static final class Rankings {
+        private static final Leaderboard EMPTY_BOARD = new Leaderboard();
+
+        private final Map<String, StudentChangedEvent.State> directory = new ConcurrentHashMap<>();
+        private final Map<String, Map<String, Counts>> countsByWindow = new ConcurrentHashMap<>();
+        private final Map<PartitionKey, Leaderboard> boards = new ConcurrentHashMap<>();
+        private final Set<String> missed = ConcurrentHashMap.newKeySet();
+        private volatile boolean ready;
+
+        private Rankings(List<Window> windows) {
+            windows.forEach(window -> countsByWindow.put(window.name(), new ConcurrentHashMap<>()));
+        }
+
+        private void clear() {
+            directory.clear();
+            countsByWindow.values().forEach(Map::clear);
+            boards.clear();
+        }
+
+        private Counts counts(Window window, String studentId) {
+            return countsByWindow.get(window.name()).computeIfAbsent(studentId, id -> new Counts());
+        }
+
+        private Leaderboard boardFor(Window window, StudentChangedEvent.State student) {
+            return boards.computeIfAbsent(partitionKey(window, student), key -> new Leaderboard());
+        }
+
+        private Leaderboard board(PartitionKey key) {
+            return boards.getOrDefault(key, EMPTY_BOARD);
+        }
+    }
+
+    private static final class Counts {
+        private long totalDays;
+        private long presentDays;
+
+        private synchronized void add(Attendance.Status status, int delta) {
+            totalDays += delta;
+            if (status == Attendance.Status.PRESENT) {
+                presentDays += delta;
+            }
+        }
+
+        private synchronized void set(Counts other) {
+            totalDays = other.totalDays;
+            presentDays = other.presentDays;
+        }
+
+        private synchronized int score() {
+            if (totalDays <= 0) {
+                return -1;
+            }
+            return (int) Math.round(presentDays * (double) Leaderboard.MAX_SCORE / totalDays);
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package com.example.attendance.service;
+
+import com.example.attendance.model.Attendance;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Builds the run-length encoded day string of a compact history in one pass
+ * over records sorted by date; see {@code CompactAttendanceHistoryDTO}. The
+ * string starts at the requested start date, or at the first record without one.
+ */
+final class RunLengthHistory {
+
+    static final char PRESENT = 'P';
+    static final char ABSENT = 'A';
+    static final char GAP = '-';
+
+    private final StringBuilder runs = new StringBuilder();
+    private final List<String> recordIds;
+
+    private LocalDate startDate;
+    private LocalDate lastDate;
+    private char runSymbol;
+    private long runLength;
+    private long presentDays;
+    private long absentDays;
+
+    RunLengthHistory(LocalDate from, boolean includeIds) {
+        this.startDate = from;
+        this.recordIds = includeIds ? new ArrayList<>() : null;
+    }
+
+    void add(String id, LocalDate date, Attendance.Status status) {
+        if (lastDate != null && !date.isAfter(lastDate)) {
+            return;
+        }
+        if (startDate == null) {
+            startDate = date;
+        }
+        LocalDate previous = lastDate != null ? lastDate : startDate.minusDays(1);
+        append(GAP, date.toEpochDay() - previous.toEpochDay() - 1);
+        if (status == Attendance.Status.PRESENT) {
+            presentDays++;
+            append(PRESENT, 1);
+        } else {
+            absentDays++;
+            append(ABSENT, 1);
+        }
+        if (recordIds != null) {
+            recordIds.add(id);
+        }
+        lastDate = date;
+    }
+
+    String runs() {
+        flush();
+        return runs.toString();
+    }
+
+    List<String> recordIds() {
+        return recordIds;
+    }
+
+    LocalDate startDate() {
+        return startDate;
+    }
+
+    LocalDate endDate() {
+        return lastDate;
+    }
+
+    long presentDays() {
+        return presentDays;
+    }
+
+    long absentDays() {
+        return absentDays;
+    }
+
+    private void append(char symbol, long length) {
+        if (length <= 0) {
+            return;
+        }
+        if (symbol != runSymbol) {
+            flush();
+            runSymbol = symbol;
+        }
+        runLength += length;
+    }
+
+    private void flush() {
+        if (runLength > 0) {
+            runs.append(runLength).append(runSymbol);
+            runLength = 0;
+        }
+    }
+}
@@ -0,0 +1,266 @@
+package com.example.attendance.service;
+
+import com.example.attendance.dto.AttendanceDTO;
+import com.example.attendance.dto.CreateSectionRequest;
+import com.example.attendance.dto.RollCallRequest;
+import com.example.attendance.dto.RollCallResultDTO;
+import com.example.attendance.dto.SectionDTO;
+import com.example.attendance.dto.StudentDTO;
+import com.example.attendance.dto.UpdateRosterRequest;
+import com.example.attendance.event.AttendanceChangedEvent;
+import com.example.attendance.event.StudentChangedEvent;
+import com.example.attendance.exception.DuplicateResourceException;
+import com.example.attendance.exception.ResourceNotFoundException;
+import com.example.attendance.mapper.AttendanceMapper;
+import com.example.attendance.mapper.SectionMapper;
+import com.example.attendance.mapper.StudentMapper;
+import com.example.attendance.model.Attendance;
+import com.example.attendance.model.Section;
+import com.example.attendance.model.Student;
+import com.example.attendance.repository.AttendanceRepository;
+import com.example.attendance.repository.SectionRepository;
+import com.example.attendance.repository.StudentRepository;
+import com.example.attendance.tenant.TenantContext;
+import org.bson.types.ObjectId;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+import static org.springframework.data.mongodb.core.query.Query.query;
+
+@Service
+public class SectionService {
+    
+    private final SectionRepository sectionRepository;
+    private final StudentRepository studentRepository;
+    private final AttendanceRepository attendanceRepository;
+    private final MongoTemplate mongoTemplate;
+    private final SectionMapper sectionMapper;
+    private final StudentMapper studentMapper;
+    private final AttendanceMapper attendanceMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    
+    public SectionService(SectionRepository sectionRepository,
+                          StudentRepository studentRepository,
+                          AttendanceRepository attendanceRepository,
+                          MongoTemplate mongoTemplate,
+                          SectionMapper sectionMapper,
+                          StudentMapper studentMapper,
+                          AttendanceMapper attendanceMapper,
+                          ApplicationEventPublisher eventPublisher) {
+        this.sectionRepository = sectionRepository;
+        this.studentRepository = studentRepository;
+        this.attendanceRepository = attendanceRepository;
+        this.mongoTemplate = mongoTemplate;
+        this.sectionMapper = sectionMapper;
+        this.studentMapper = studentMapper;
+        this.attendanceMapper = attendanceMapper;
+        this.eventPublisher = eventPublisher;
+    }
+    
+    public SectionDTO createSection(CreateSectionRequest request) {
+        if (sectionRepository.existsByName(request.name())) {
+            throw new DuplicateResourceException("Section " + request.name() + " already exists");
+        }
+        Section section = new Section(request.name(), request.department(), request.year());
+        if (request.periods() != null) {
+            section.setPeriods(request.periods());
+        }
+        if (request.rollNumbers() != null) {
+            section.setStudentIds(resolveStudentIds(request.rollNumbers()));
+        }
+        return sectionMapper.toDTO(sectionRepository.save(section));
+    }
+    
+    public List<SectionDTO> getSections() {
+        return sectionRepository.findAll().stream()
+            .map(sectionMapper::toDTO)
+            .collect(Collectors.toList());
+    }
+    
+    public SectionDTO getSection(String id) {
+        return sectionMapper.toDTO(getSectionEntity(id));
+    }
+    
+    public List<StudentDTO> getRoster(String id) {
+        Section section = getSectionEntity(id);
+        return studentRepository.findAllById(section.getStudentIds()).stream()
+            .map(studentMapper::toDTO)
+            .collect(Collectors.toList());
+    }
+    
+    public SectionDTO updateRoster(String id, UpdateRosterRequest request) {
+        Section section = getSectionEntity(id);
+        section.setStudentIds(resolveStudentIds(request.rollNumbers()));
+        return sectionMapper.toDTO(sectionRepository.save(section));
+    }
+    
+    public void deleteSection(String id) {
+        Section section = getSectionEntity(id);
+        sectionRepository.delete(section);
+    }
+    
+    /**
+     * Expands an exception-only roll call to one record per roster student and
+     * writes the inserts and changed statuses in a single unordered bulk write.
+     */
+    public RollCallResultDTO rollCall(String id, RollCallRequest request) {
+        Section section = getSectionEntity(id);
+        int period = request.period();
+        if (!section.hasPeriod(period)) {
+            throw new ResourceNotFoundException("Period", "number", period);
+        }
+        LocalDate date = request.date() != null ? request.date() : LocalDate.now();
+        Attendance.Status defaultStatus = request.defaultStatus() != null ? request.defaultStatus() : Attendance.Status.PRESENT;
+        Attendance.Status exceptionStatus = defaultStatus == Attendance.Status.PRESENT
+            ? Attendance.Status.ABSENT
+            : Attendance.Status.PRESENT;
+        
+        Map<String, Student> roster = studentRepository.findAllById(section.getStudentIds()).stream()
+            .filter(Student::isActive)
+            .collect(Collectors.toMap(Student::getRollNumber, Function.identity()));
+        Set<String> exceptionIds = new HashSet<>();
+        if (request.exceptions() != null) {
+            for (String rollNumber : request.exceptions()) {
+                Student student = roster.get(rollNumber.toUpperCase());
+                if (student == null) {
+                    throw new ResourceNotFoundException("Student in section " + section.getName(), "rollNumber", rollNumber);
+                }
+                exceptionIds.add(student.getId());
+            }
+        }
+        
+        Map<String, Student> studentsById = roster.values().stream()
+            .collect(Collectors.toMap(Student::getId, Function.identity()));
+        Set<String> studentIds = studentsById.keySet();
+        Map<String, Attendance> existing = new HashMap<>();
+        for (Attendance attendance : attendanceRepository.findByStudentIdInAndDateAndPeriod(studentIds, date, period)) {
+            existing.put(attendance.getStudentId(), attendance);
+        }
+        
+        BulkOperations ops = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Attendance.class);
+        List<AttendanceChangedEvent> events = new ArrayList<>();
+        long inserted = 0;
+        long updated = 0;
+        long unchanged = 0;
+        long present = 0;
+        LocalDateTime now = LocalDateTime.now();
+        
+        for (String studentId : studentIds) {
+            Attendance.Status status = exceptionIds.contains(studentId) ? exceptionStatus : defaultStatus;
+            if (status == Attendance.Status.PRESENT) {
+                present++;
+            }
+            Attendance current = existing.get(studentId);
+            if (current != null && current.getStatus() == status && Objects.equals(current.getSectionId(), section.getId())) {
+                unchanged++;
+                continue;
+            }
+            
+            Attendance record;
+            AttendanceChangedEvent.State before = null;
+            if (current != null) {
+                before = AttendanceChangedEvent.State.of(current);
+                record = current;
+                updated++;
+            } else {
+                record = new Attendance(studentId, date, status);
+                record.setId(new ObjectId().toHexString());
+                record.setPeriod(period);
+                inserted++;
+            }
+            Student student = studentsById.get(studentId);
+            record.setStatus(status);
+            record.setSectionId(section.getId());
+            record.setStudentName(student.getName());
+            record.setRollNumber(student.getRollNumber());
+            
+            // Upsert on the unique (student, date, period) key so a concurrent roll call cannot duplicate records
+            Update update = new Update()
+                .set("status", status)
+                .set("sectionId", section.getId())
+                .set("studentName", student.getName())
+                .set("rollNumber", student.getRollNumber())
+                .set("updatedAt", now)
+                .inc("version", 1L)
+                .setOnInsert("_id", new ObjectId(record.getId()))
+                .setOnInsert("createdAt", now);
+            ops.upsert(query(where("studentId").is(studentId).and("date").is(date).and("period").is(period)), update);
+            events.add(before != null
+                ? AttendanceChangedEvent.updated(before, record)
+                : AttendanceChangedEvent.created(record));
+        }
+        
+        if (!events.isEmpty()) {
+            ops.execute();
+            events.forEach(eventPublisher::publishEvent);
+        }
+        return new RollCallResultDTO(section.getId(), date, period, present, studentIds.size() - present,
+            inserted, updated, unchanged);
+    }
+    
+    public List<AttendanceDTO> getPeriodAttendance(String id, LocalDate date, int period) {
+        Section section = getSectionEntity(id);
+        List<Attendance> records = attendanceRepository.findBySectionIdAndDateAndPeriod(section.getId(), date, period);
+        // Only records written before student snapshots existed need a student lookup
+        Set<String> unsnapshotted = records.stream()
+            .filter(att -> att.getRollNumber() == null)
+            .map(Attendance::getStudentId)
+            .collect(Collectors.toSet());
+        Map<String, Student> students = unsnapshotted.isEmpty() ? Map.of() : studentRepository
+            .findAllById(unsnapshotted).stream()
+            .collect(Collectors.toMap(Student::getId, Function.identity()));
+        return records.stream()
+            .map(att -> att.getRollNumber() != null
+                ? attendanceMapper.toDTO(att)
+                : attendanceMapper.toDTO(att, students.get(att.getStudentId())))
+            .collect(Collectors.toList());
+    }
+    
+    @EventListener
+    public void onStudentChanged(StudentChangedEvent event) {
+        if (event.after() == null) {
+            TenantContext.run(event.tenantId(), () -> mongoTemplate.updateMulti(
+                query(where("studentIds").is(event.studentId())),
+                new Update().pull("studentIds", event.studentId()),
+                Section.class));
+        }
+    }
+    
+    private Section getSectionEntity(String id) {
+        return sectionRepository.findById(id)
+            .orElseThrow(() -> new ResourceNotFoundException("Section", "id", id));
+    }
+    
+    private List<String> resolveStudentIds(List<String> rollNumbers) {
+        Set<String> wanted = rollNumbers.stream().map(String::toUpperCase).collect(Collectors.toCollection(LinkedHashSet::new));
+        Map<String, String> idsByRollNumber = studentRepository.findByRollNumberIn(wanted).stream()
+            .collect(Collectors.toMap(Student::getRollNumber, Student::getId));
+        List<String> studentIds = new ArrayList<>(wanted.size());
+        for (String rollNumber : wanted) {
+            String studentId = idsByRollNumber.get(rollNumber);
+            if (studentId == null) {
+                throw new ResourceNotFoundException("Student", "rollNumber", rollNumber);
+            }
+            studentIds.add(studentId);
+        }
+        return studentIds;
+    }
+}
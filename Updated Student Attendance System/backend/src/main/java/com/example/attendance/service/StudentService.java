@@ -3,17 +3,32 @@ package com.example.attendance.service;
 import com.example.attendance.dto.CreateStudentRequest;
 import com.example.attendance.dto.StudentDTO;
 import com.example.attendance.dto.UpdateStudentRequest;
+import com.example.attendance.event.StudentChangedEvent;
+import com.example.attendance.exception.ConcurrentUpdateException;
 import com.example.attendance.exception.DuplicateResourceException;
 import com.example.attendance.exception.ResourceNotFoundException;
 import com.example.attendance.mapper.StudentMapper;
 import com.example.attendance.model.Student;
+import com.example.attendance.profiling.StudentLookupEvent;
 import com.example.attendance.repository.StudentRepository;
+import com.example.attendance.routing.ReadRouting;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Collation;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
 @Service
@@ -22,10 +37,23 @@ public class StudentService {
     
     private final StudentRepository studentRepository;
     private final StudentMapper studentMapper;
-    
-    public StudentService(StudentRepository studentRepository, StudentMapper studentMapper) {
+    private final ApplicationEventPublisher eventPublisher;
+    private final ReadRouting readRouting;
+    private final OptimisticRetry optimisticRetry;
+    private final MongoTemplate mongoTemplate;
+    
+    public StudentService(StudentRepository studentRepository,
+                          StudentMapper studentMapper,
+                          ApplicationEventPublisher eventPublisher,
+                          ReadRouting readRouting,
+                          OptimisticRetry optimisticRetry,
+                          MongoTemplate mongoTemplate) {
         this.studentRepository = studentRepository;
         this.studentMapper = studentMapper;
+        this.eventPublisher = eventPublisher;
+        this.readRouting = readRouting;
+        this.optimisticRetry = optimisticRetry;
+        this.mongoTemplate = mongoTemplate;
     }
     
     public StudentDTO createStudent(CreateStudentRequest request) {
@@ -36,25 +64,22 @@ public class StudentService {
         
         Student student = studentMapper.toEntity(request);
         Student savedStudent = studentRepository.save(student);
+        eventPublisher.publishEvent(StudentChangedEvent.created(savedStudent));
         return studentMapper.toDTO(savedStudent);
     }
     
     public StudentDTO getStudentById(String id) {
-        Student student = studentRepository.findById(id)
-            .orElseThrow(() -> new ResourceNotFoundException("Student", "id", id));
-        return studentMapper.toDTO(student);
+        return studentMapper.toDTO(getStudentEntityById(id));
     }
     
     public StudentDTO getStudentByRollNumber(String rollNumber) {
-        Student student = studentRepository.findByRollNumber(rollNumber.toUpperCase())
-            .orElseThrow(() -> new ResourceNotFoundException("Student", "rollNumber", rollNumber));
-        return studentMapper.toDTO(student);
+        return studentMapper.toDTO(getStudentEntityByRollNumber(rollNumber));
     }
     
     public List<StudentDTO> getAllStudents() {
-        return studentRepository.findAll().stream()
+        return readRouting.report(ReadRouting.STUDENT_DIRECTORY, () -> studentRepository.findAll().stream()
             .map(studentMapper::toDTO)
-            .collect(Collectors.toList());
+            .collect(Collectors.toList()));
     }
     
     public List<StudentDTO> getActiveStudents() {
@@ -69,38 +94,85 @@ public class StudentService {
     }
     
     public List<StudentDTO> searchStudentsByName(String name) {
-        return studentRepository.searchByName(name).stream()
+        return readRouting.report(ReadRouting.STUDENT_DIRECTORY, () -> studentRepository.searchByName(name).stream()
             .map(studentMapper::toDTO)
-            .collect(Collectors.toList());
+            .collect(Collectors.toList()));
     }
     
     public List<StudentDTO> getStudentsByDepartment(String department) {
-        return studentRepository.findByDepartment(department).stream()
+        return readRouting.report(ReadRouting.STUDENT_DIRECTORY, () -> studentRepository.findByDepartment(department).stream()
             .map(studentMapper::toDTO)
-            .collect(Collectors.toList());
+            .collect(Collectors.toList()));
+    }
+    
+    /**
+     * One page of the directory sorted by roll number. Department matching is
+     * case-insensitive like {@link #getStudentsByDepartment}, and the name
+     * search is a literal substring match.
+     */
+    public List<StudentDTO> findStudents(String department, String nameSearch, boolean activeOnly,
+                                         int offset, int limit) {
+        Query query = new Query();
+        if (department != null) {
+            query.addCriteria(Criteria.where("department").is(department));
+            query.collation(Collation.of("en").strength(Collation.ComparisonLevel.secondary()));
+        }
+        if (nameSearch != null && !nameSearch.isBlank()) {
+            query.addCriteria(Criteria.where("name").regex(Pattern.quote(nameSearch.trim()), "i"));
+        }
+        if (activeOnly) {
+            query.addCriteria(Criteria.where("active").is(true));
+        }
+        query.with(Sort.by("rollNumber")).skip(offset).limit(limit);
+        return readRouting.report(ReadRouting.STUDENT_DIRECTORY, () -> mongoTemplate.find(query, Student.class).stream()
+            .map(studentMapper::toDTO)
+            .collect(Collectors.toList()));
+    }
+    
+    public Map<String, StudentDTO> getStudentsByIds(Collection<String> ids) {
+        return getStudentEntitiesByIds(ids).values().stream()
+            .collect(Collectors.toMap(Student::getId, studentMapper::toDTO));
     }
     
     public StudentDTO updateStudent(String id, UpdateStudentRequest request) {
-        Student student = studentRepository.findById(id)
-            .orElseThrow(() -> new ResourceNotFoundException("Student", "id", id));
-        
-        studentMapper.updateEntity(student, request);
-        Student updatedStudent = studentRepository.save(student);
-        return studentMapper.toDTO(updatedStudent);
+        return optimisticRetry.execute("Student", "id", id, () -> {
+            Student student = studentRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Student", "id", id));
+            checkVersion(student, request.version());
+            StudentChangedEvent.State before = StudentChangedEvent.State.of(student);
+            
+            studentMapper.updateEntity(student, request);
+            Student updatedStudent = studentRepository.save(student);
+            eventPublisher.publishEvent(StudentChangedEvent.updated(before, updatedStudent));
+            return studentMapper.toDTO(updatedStudent);
+        });
     }
     
     public void deleteStudent(String id) {
-        if (!studentRepository.existsById(id)) {
-            throw new ResourceNotFoundException("Student", "id", id);
-        }
-        studentRepository.deleteById(id);
+        optimisticRetry.run("Student", "id", id, () -> {
+            Student student = studentRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Student", "id", id));
+            studentRepository.delete(student);
+            eventPublisher.publishEvent(StudentChangedEvent.deleted(student));
+        });
     }
     
     public void deactivateStudent(String id) {
-        Student student = studentRepository.findById(id)
-            .orElseThrow(() -> new ResourceNotFoundException("Student", "id", id));
-        student.setActive(false);
-        studentRepository.save(student);
+        optimisticRetry.run("Student", "id", id, () -> {
+            Student student = studentRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Student", "id", id));
+            StudentChangedEvent.State before = StudentChangedEvent.State.of(student);
+            student.setActive(false);
+            Student savedStudent = studentRepository.save(student);
+            eventPublisher.publishEvent(StudentChangedEvent.updated(before, savedStudent));
+        });
+    }
+    
+    private static void checkVersion(Student student, Long expectedVersion) {
+        // A client-supplied version means the edit was based on that snapshot, so it is not retried
+        if (expectedVersion != null && !expectedVersion.equals(student.getVersion())) {
+            throw new ConcurrentUpdateException("Student", "id", student.getId());
+        }
     }
     
     public long getActiveStudentCount() {
@@ -109,12 +181,21 @@ public class StudentService {
     
     // Internal method for service-to-service calls
     public Student getStudentEntityByRollNumber(String rollNumber) {
-        return studentRepository.findByRollNumber(rollNumber.toUpperCase())
-            .orElseThrow(() -> new ResourceNotFoundException("Student", "rollNumber", rollNumber));
+        StudentLookupEvent event = new StudentLookupEvent("rollNumber", rollNumber);
+        Optional<Student> student = studentRepository.findByRollNumber(rollNumber.toUpperCase());
+        event.finish(student.isPresent());
+        return student.orElseThrow(() -> new ResourceNotFoundException("Student", "rollNumber", rollNumber));
+    }
+    
+    public Map<String, Student> getStudentEntitiesByIds(Collection<String> ids) {
+        return studentRepository.findAllById(ids).stream()
+            .collect(Collectors.toMap(Student::getId, Function.identity()));
     }
     
     public Student getStudentEntityById(String id) {
-        return studentRepository.findById(id)
-            .orElseThrow(() -> new ResourceNotFoundException("Student", "id", id));
+        StudentLookupEvent event = new StudentLookupEvent("id", id);
+        Optional<Student> student = studentRepository.findById(id);
+        event.finish(student.isPresent());
+        return student.orElseThrow(() -> new ResourceNotFoundException("Student", "id", id));
     }
 }
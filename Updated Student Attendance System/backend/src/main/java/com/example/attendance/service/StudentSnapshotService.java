@@ -0,0 +1,191 @@
+package com.example.attendance.service;
+
+import com.example.attendance.cache.CacheDependencies;
+import com.example.attendance.cache.ResponseCache;
+import com.example.attendance.config.SnapshotProperties;
+import com.example.attendance.dto.SnapshotConsistencyDTO;
+import com.example.attendance.event.StudentChangedEvent;
+import com.example.attendance.model.Attendance;
+import com.example.attendance.model.Student;
+import com.example.attendance.repository.StudentRepository;
+import com.example.attendance.tenant.TenantContext;
+import com.example.attendance.tenant.TenantRegistry;
+import jakarta.annotation.PreDestroy;
+import org.bson.Document;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Service;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+import static org.springframework.data.mongodb.core.query.Query.query;
+
+/**
+ * Keeps the student name and roll number denormalized onto attendance records
+ * in sync. Renames fan out on a background thread in batched updateMany calls;
+ * the consistency check finds missing or stale snapshots and can schedule the
+ * same rewrite for them, which is also how existing records are backfilled.
+ */
+@Service
+public class StudentSnapshotService {
+
+    private static final Logger log = LoggerFactory.getLogger(StudentSnapshotService.class);
+
+    private final MongoTemplate mongoTemplate;
+    private final StudentRepository studentRepository;
+    private final SnapshotProperties properties;
+    private final TenantRegistry tenantRegistry;
+    private final ResponseCache responseCache;
+
+    // A single thread keeps rewrites for the same student in rename order
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "snapshot-fanout");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public StudentSnapshotService(MongoTemplate mongoTemplate,
+                                  StudentRepository studentRepository,
+                                  SnapshotProperties properties,
+                                  TenantRegistry tenantRegistry,
+                                  ResponseCache responseCache) {
+        this.mongoTemplate = mongoTemplate;
+        this.studentRepository = studentRepository;
+        this.properties = properties;
+        this.tenantRegistry = tenantRegistry;
+        this.responseCache = responseCache;
+    }
+
+    @EventListener
+    public void onStudentChanged(StudentChangedEvent event) {
+        if (event.before() == null || event.after() == null) {
+            return;
+        }
+        if (!Objects.equals(event.before().name(), event.after().name())
+            || !Objects.equals(event.before().rollNumber(), event.after().rollNumber())) {
+            submit(event.tenantId(), event.studentId(), event.after().name(), event.after().rollNumber());
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        if (!properties.backfillOnStartup()) {
+            return;
+        }
+        tenantRegistry.forEachTenant(tenantId -> executor.submit(() -> TenantContext.run(tenantId, () -> {
+            try {
+                SnapshotConsistencyDTO report = checkConsistency(true);
+                if (report.studentsAffected() > 0) {
+                    log.info("Backfilling attendance snapshots of {} students for tenant {} ({} missing, {} stale)",
+                        report.studentsAffected(), tenantId, report.missingRecords(), report.staleRecords());
+                }
+            } catch (RuntimeException e) {
+                log.warn("Attendance snapshot backfill failed for tenant {}: {}", tenantId, e.getMessage());
+            }
+        })));
+    }
+
+    public SnapshotConsistencyDTO checkConsistency(boolean repair) {
+        // One row per distinct (student, snapshot) pair, so the comparison is bounded by students, not records
+        Aggregation aggregation = Aggregation.newAggregation(
+            Aggregation.group("studentId", "studentName", "rollNumber").count().as("count"));
+        List<Document> groups = mongoTemplate.aggregate(aggregation, Attendance.class, Document.class).getMappedResults();
+
+        Map<String, Student> students = studentRepository.findAll().stream()
+            .collect(Collectors.toMap(Student::getId, Function.identity()));
+        long checked = 0;
+        long missing = 0;
+        long stale = 0;
+        long orphaned = 0;
+        Set<String> affected = new HashSet<>();
+        for (Document group : groups) {
+            Document key = group.get("_id", Document.class);
+            long count = ((Number) group.get("count")).longValue();
+            String studentId = key.getString("studentId");
+            Student student = students.get(studentId);
+            checked += count;
+            if (student == null) {
+                orphaned += count;
+            } else if (key.getString("rollNumber") == null) {
+                missing += count;
+                affected.add(studentId);
+            } else if (!Objects.equals(key.getString("rollNumber"), student.getRollNumber())
+                || !Objects.equals(key.getString("studentName"), student.getName())) {
+                stale += count;
+                affected.add(studentId);
+            }
+        }
+
+        if (repair) {
+            String tenantId = TenantContext.current();
+            affected.forEach(studentId -> {
+                Student student = students.get(studentId);
+                submit(tenantId, studentId, student.getName(), student.getRollNumber());
+            });
+        }
+        return new SnapshotConsistencyDTO(checked, missing, stale, orphaned, affected.size(), repair && !affected.isEmpty());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        // Interrupted rewrites are picked up again by the startup consistency check
+        executor.shutdownNow();
+    }
+
+    private void submit(String tenantId, String studentId, String name, String rollNumber) {
+        executor.submit(() -> TenantContext.run(tenantId, () -> rewrite(studentId, name, rollNumber)));
+    }
+
+    private void rewrite(String studentId, String name, String rollNumber) {
+        Criteria outdated = where("studentId").is(studentId)
+            .orOperator(where("studentName").ne(name), where("rollNumber").ne(rollNumber));
+        // Bumping the version fails any save that read the record before the rewrite, so it retries with the new snapshot
+        Update update = new Update().set("studentName", name).set("rollNumber", rollNumber).inc("version", 1L);
+        long rewritten = 0;
+        try {
+            while (true) {
+                Query batch = query(outdated).limit(properties.batchSize());
+                batch.fields().include("_id");
+                List<Object> ids = mongoTemplate.find(batch, Document.class, mongoTemplate.getCollectionName(Attendance.class))
+                    .stream()
+                    .map(doc -> doc.get("_id"))
+                    .collect(Collectors.toList());
+                if (ids.isEmpty()) {
+                    break;
+                }
+                rewritten += mongoTemplate.updateMulti(query(where("_id").in(ids)), update, Attendance.class)
+                    .getModifiedCount();
+                if (ids.size() < properties.batchSize()) {
+                    break;
+                }
+                Thread.sleep(properties.batchDelayMs());
+            }
+            if (rewritten > 0) {
+                // Responses cached between the rename and the rewrite still carry the old snapshot
+                responseCache.invalidate(TenantContext.current(), CacheDependencies.studentKey(studentId));
+            }
+            log.debug("Rewrote {} attendance snapshots for student {}", rewritten, studentId);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (RuntimeException e) {
+            log.error("Attendance snapshot rewrite failed for student {} after {} records: {}",
+                studentId, rewritten, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package com.example.attendance.service;
+
+import com.example.attendance.tenant.TenantContext;
+import com.example.attendance.tenant.TenantRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Runs in-memory warm-ups for every tenant on background threads, so startup
+ * never waits on a full collection scan. A tenant whose warm-up throws is
+ * retried with exponential back-off until it succeeds.
+ */
+@Component
+public class TenantWarmup {
+
+    private static final Logger log = LoggerFactory.getLogger(TenantWarmup.class);
+
+    private static final long INITIAL_RETRY_MS = 1_000;
+    private static final long MAX_RETRY_MS = 60_000;
+
+    private final TenantRegistry tenantRegistry;
+    private final ScheduledExecutorService executor = Executors.newScheduledThreadPool(2, task -> {
+        Thread thread = new Thread(task, "tenant-warmup");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public TenantWarmup(TenantRegistry tenantRegistry) {
+        this.tenantRegistry = tenantRegistry;
+    }
+
+    public void submit(String name, Consumer<String> warmup) {
+        tenantRegistry.getTenants().forEach(tenant -> submit(name, tenant.id(), warmup));
+    }
+
+    public void submit(String name, String tenantId, Consumer<String> warmup) {
+        schedule(name, tenantId, warmup, 0, INITIAL_RETRY_MS);
+    }
+
+    private void schedule(String name, String tenantId, Consumer<String> warmup, long delayMs, long nextDelayMs) {
+        executor.schedule(() -> {
+            try {
+                TenantContext.run(tenantId, () -> warmup.accept(tenantId));
+            } catch (RuntimeException e) {
+                log.warn("{} failed for tenant {}, retrying in {} ms: {}", name, tenantId, nextDelayMs, e.getMessage());
+                schedule(name, tenantId, warmup, nextDelayMs, Math.min(nextDelayMs * 2, MAX_RETRY_MS));
+            }
+        }, delayMs, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
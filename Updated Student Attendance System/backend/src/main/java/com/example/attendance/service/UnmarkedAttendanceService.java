@@ -0,0 +1,252 @@
+package com.example.attendance.service;
+
+import com.example.attendance.config.AutoAbsentProperties;
+import com.example.attendance.dto.AutoAbsentResultDTO;
+import com.example.attendance.dto.UnmarkedStudentDTO;
+import com.example.attendance.dto.UnmarkedStudentsDTO;
+import com.example.attendance.event.AttendanceChangedEvent;
+import com.example.attendance.event.StudentChangedEvent;
+import com.example.attendance.model.Attendance;
+import com.example.attendance.model.Student;
+import com.example.attendance.repository.AttendanceRepository;
+import com.example.attendance.repository.StudentRepository;
+import com.example.attendance.tenant.TenantContext;
+import com.example.attendance.tenant.TenantRegistry;
+import com.mongodb.ErrorCategory;
+import com.mongodb.bulk.BulkWriteResult;
+import com.mongodb.bulk.BulkWriteUpsert;
+import org.bson.types.ObjectId;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+import static org.springframework.data.mongodb.core.query.Query.query;
+
+/**
+ * Finds active students without any attendance on a date as the difference
+ * of two bitsets over a dense per-tenant student index: the active (and
+ * department) set minus the students marked that day. The end-of-day job
+ * inserts ABSENT records for that difference in one bulk write. The index is
+ * loaded in the background once the application is ready, or on first use if
+ * that has not finished yet.
+ */
+@Service
+public class UnmarkedAttendanceService {
+
+    private static final Logger log = LoggerFactory.getLogger(UnmarkedAttendanceService.class);
+
+    private final AttendanceRepository attendanceRepository;
+    private final StudentRepository studentRepository;
+    private final MongoTemplate mongoTemplate;
+    private final AcademicCalendarService calendarService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final AutoAbsentProperties properties;
+    private final TenantRegistry tenantRegistry;
+    private final TenantWarmup tenantWarmup;
+
+    private final Map<String, TenantIndex> indexes = new ConcurrentHashMap<>();
+
+    public UnmarkedAttendanceService(AttendanceRepository attendanceRepository,
+                                     StudentRepository studentRepository,
+                                     MongoTemplate mongoTemplate,
+                                     AcademicCalendarService calendarService,
+                                     ApplicationEventPublisher eventPublisher,
+                                     AutoAbsentProperties properties,
+                                     TenantRegistry tenantRegistry,
+                                     TenantWarmup tenantWarmup) {
+        this.attendanceRepository = attendanceRepository;
+        this.studentRepository = studentRepository;
+        this.mongoTemplate = mongoTemplate;
+        this.calendarService = calendarService;
+        this.eventPublisher = eventPublisher;
+        this.properties = properties;
+        this.tenantRegistry = tenantRegistry;
+        this.tenantWarmup = tenantWarmup;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        tenantWarmup.submit("Student index initialization", this::load);
+    }
+
+    private void load(String tenantId) {
+        TenantIndex tenant = tenant(tenantId);
+        synchronized (tenant) {
+            if (tenant.ready) {
+                return;
+            }
+            for (Student student : studentRepository.findAll()) {
+                tenant.index.put(student.getId(), StudentChangedEvent.State.of(student));
+            }
+            tenant.ready = true;
+
+            // Students changed while loading may have been read before the change
+            Set<String> missed = Set.copyOf(tenant.missed);
+            tenant.missed.removeAll(missed);
+            if (!missed.isEmpty()) {
+                missed.forEach(tenant.index::remove);
+                studentRepository.findAllById(missed)
+                    .forEach(student -> tenant.index.put(student.getId(), StudentChangedEvent.State.of(student)));
+            }
+            log.info("Student index initialized with {} students for tenant {}", tenant.index.size(), tenantId);
+        }
+    }
+
+    @EventListener
+    public void onStudentChanged(StudentChangedEvent event) {
+        TenantIndex tenant = tenant(event.tenantId());
+        if (!tenant.ready) {
+            tenant.missed.add(event.studentId());
+        }
+        if (event.after() == null) {
+            tenant.index.remove(event.studentId());
+        } else {
+            tenant.index.put(event.studentId(), event.after());
+        }
+    }
+
+    public UnmarkedStudentsDTO getUnmarkedStudents(LocalDate date, String department) {
+        DenseStudentIndex index = readyIndex(TenantContext.current());
+        BitSet unmarked = index.active(department);
+        int activeStudents = unmarked.cardinality();
+        unmarked.andNot(markedOn(index, date));
+
+        List<UnmarkedStudentDTO> students = index.resolve(unmarked).stream()
+            .map(slot -> new UnmarkedStudentDTO(
+                slot.studentId(),
+                slot.state().name(),
+                slot.state().rollNumber(),
+                slot.state().department(),
+                slot.state().year()))
+            .collect(Collectors.toList());
+        return new UnmarkedStudentsDTO(date, department, activeStudents, activeStudents - students.size(), students);
+    }
+
+    public AutoAbsentResultDTO markUnmarkedAbsent(LocalDate date) {
+        DenseStudentIndex index = readyIndex(TenantContext.current());
+        BitSet unmarked = index.active(null);
+        unmarked.andNot(markedOn(index, date));
+        List<DenseStudentIndex.Slot> slots = index.resolve(unmarked);
+
+        BulkOperations ops = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Attendance.class);
+        List<Attendance> records = new ArrayList<>(slots.size());
+        Map<String, Boolean> workingDays = new HashMap<>();
+        LocalDateTime now = LocalDateTime.now();
+        int skipped = 0;
+        for (DenseStudentIndex.Slot slot : slots) {
+            String department = slot.state().department();
+            if (!workingDays.computeIfAbsent(department != null ? department : "",
+                    d -> calendarService.isWorkingDay(department, date))) {
+                skipped++;
+                continue;
+            }
+            Attendance record = new Attendance(slot.studentId(), date, Attendance.Status.ABSENT);
+            record.setId(new ObjectId().toHexString());
+            record.setStudentName(slot.state().name());
+            record.setRollNumber(slot.state().rollNumber());
+            records.add(record);
+
+            // Insert-only upsert: a record marked after the difference was computed is left untouched
+            Update update = new Update()
+                .setOnInsert("_id", new ObjectId(record.getId()))
+                .setOnInsert("status", Attendance.Status.ABSENT)
+                .setOnInsert("studentName", record.getStudentName())
+                .setOnInsert("rollNumber", record.getRollNumber())
+                .setOnInsert("version", 0L)
+                .setOnInsert("createdAt", now)
+                .setOnInsert("updatedAt", now);
+            ops.upsert(query(where("studentId").is(slot.studentId()).and("date").is(date).and("period").is(null)), update);
+        }
+
+        long inserted = 0;
+        if (!records.isEmpty()) {
+            BulkWriteResult result;
+            try {
+                result = ops.execute();
+            } catch (BulkOperationException e) {
+                // Unordered writes apply every other upsert, so those still need their events
+                result = e.getResult();
+                boolean onlyDuplicates = e.getErrors().stream()
+                    .allMatch(error -> error.getCategory() == ErrorCategory.DUPLICATE_KEY);
+                if (!onlyDuplicates) {
+                    publishCreated(records, result);
+                    throw e;
+                }
+                // Students marked concurrently won the race on the unique index and keep their record
+                log.debug("Day close for {} left {} concurrently marked students alone", date, e.getErrors().size());
+            }
+            publishCreated(records, result);
+            inserted = result.getUpserts().size();
+        }
+        return new AutoAbsentResultDTO(date, slots.size(), skipped, inserted);
+    }
+
+    @Scheduled(cron = "${attendance.auto-absent.cron:0 55 23 * * *}")
+    public void closeDay() {
+        if (!properties.enabled()) {
+            return;
+        }
+        LocalDate today = LocalDate.now();
+        tenantRegistry.forEachTenant(tenantId -> {
+            try {
+                AutoAbsentResultDTO result = markUnmarkedAbsent(today);
+                log.info("Day close for tenant {} on {}: {} unmarked, {} on non-working days, {} marked absent",
+                    tenantId, today, result.unmarkedStudents(), result.skippedNonWorkingDay(), result.insertedRecords());
+            } catch (RuntimeException e) {
+                log.error("Day close failed for tenant {} on {}: {}", tenantId, today, e.getMessage());
+            }
+        });
+    }
+
+    private void publishCreated(List<Attendance> records, BulkWriteResult result) {
+        for (BulkWriteUpsert upsert : result.getUpserts()) {
+            eventPublisher.publishEvent(AttendanceChangedEvent.created(records.get(upsert.getIndex())));
+        }
+    }
+
+    private BitSet markedOn(DenseStudentIndex index, LocalDate date) {
+        // Any record on the date, whole-day or per period, counts as marked
+        return index.slotsOf(attendanceRepository.findStudentIdsByDate(date).stream()
+            .map(Attendance::getStudentId)
+            .toList());
+    }
+
+    private DenseStudentIndex readyIndex(String tenantId) {
+        TenantIndex tenant = tenant(tenantId);
+        if (!tenant.ready) {
+            // A partial index would silently leave students out
+            load(tenantId);
+        }
+        return tenant.index;
+    }
+
+    private TenantIndex tenant(String tenantId) {
+        return indexes.computeIfAbsent(tenantId, id -> new TenantIndex());
+    }
+
+    private static final class TenantIndex {
+        private final DenseStudentIndex index = new DenseStudentIndex();
+        private final Set<String> missed = ConcurrentHashMap.newKeySet();
+        private volatile boolean ready;
+    }
+}
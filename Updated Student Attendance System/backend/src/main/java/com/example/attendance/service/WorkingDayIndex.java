@@ -0,0 +1,44 @@
+package com.example.attendance.service;
+
+import java.time.LocalDate;
+import java.util.function.Predicate;
+
+/**
+ * Working days of one compiled calendar as a prefix-sum array over the
+ * compiled window, so the count for any date range is two array reads.
+ */
+final class WorkingDayIndex {
+
+    private final LocalDate start;
+    private final LocalDate end;
+    private final int[] prefix;
+
+    WorkingDayIndex(LocalDate start, LocalDate end, Predicate<LocalDate> isWorkingDay) {
+        this.start = start;
+        this.end = end;
+        int days = (int) (end.toEpochDay() - start.toEpochDay()) + 1;
+        // prefix[i] = working days in [start, start + i)
+        this.prefix = new int[days + 1];
+        LocalDate date = start;
+        for (int i = 0; i < days; i++, date = date.plusDays(1)) {
+            prefix[i + 1] = prefix[i] + (isWorkingDay.test(date) ? 1 : 0);
+        }
+    }
+
+    long count(LocalDate from, LocalDate to) {
+        LocalDate a = from.isBefore(start) ? start : from;
+        LocalDate b = to.isAfter(end) ? end : to;
+        if (a.isAfter(b)) {
+            return 0;
+        }
+        return prefix[offset(b) + 1] - prefix[offset(a)];
+    }
+
+    boolean isWorkingDay(LocalDate date) {
+        return !date.isBefore(start) && !date.isAfter(end) && count(date, date) == 1;
+    }
+
+    private int offset(LocalDate date) {
+        return (int) (date.toEpochDay() - start.toEpochDay());
+    }
+}
@@ -0,0 +1,54 @@
+package com.example.attendance.tenant;
+
+import java.util.function.Supplier;
+
+/**
+ * Holds the tenant (campus) of the current request or background task.
+ * Falls back to the default tenant when nothing has been bound.
+ */
+public final class TenantContext {
+
+    private static final ThreadLocal<String> CURRENT = new ThreadLocal<>();
+    private static volatile String defaultTenant = "default";
+
+    private TenantContext() {
+    }
+
+    public static String current() {
+        String tenant = CURRENT.get();
+        return tenant != null ? tenant : defaultTenant;
+    }
+
+    public static void set(String tenant) {
+        CURRENT.set(tenant);
+    }
+
+    public static void clear() {
+        CURRENT.remove();
+    }
+
+    public static void run(String tenant, Runnable task) {
+        call(tenant, () -> {
+            task.run();
+            return null;
+        });
+    }
+
+    public static <T> T call(String tenant, Supplier<T> task) {
+        String previous = CURRENT.get();
+        CURRENT.set(tenant);
+        try {
+            return task.get();
+        } finally {
+            if (previous != null) {
+                CURRENT.set(previous);
+            } else {
+                CURRENT.remove();
+            }
+        }
+    }
+
+    static void setDefaultTenant(String tenant) {
+        defaultTenant = tenant;
+    }
+}
@@ -0,0 +1,68 @@
+package com.example.attendance.tenant;
+
+import com.example.attendance.dto.ApiResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * Resolves the tenant of each request from the tenant header, binds it for the
+ * duration of the request and records per-tenant request metrics.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+public class TenantFilter extends OncePerRequestFilter {
+
+    private final TenantRegistry tenantRegistry;
+    private final MeterRegistry meterRegistry;
+    private final ObjectMapper objectMapper;
+
+    public TenantFilter(TenantRegistry tenantRegistry, MeterRegistry meterRegistry, ObjectMapper objectMapper) {
+        this.tenantRegistry = tenantRegistry;
+        this.meterRegistry = meterRegistry;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+        throws ServletException, IOException {
+        String tenant = TenantContext.current();
+        String requested = request.getHeader(tenantRegistry.getHeader());
+
+        if (tenantRegistry.isEnabled() && requested != null && !requested.isBlank()) {
+            if (tenantRegistry.find(requested).isEmpty()) {
+                response.setStatus(HttpStatus.BAD_REQUEST.value());
+                response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+                objectMapper.writeValue(response.getOutputStream(), ApiResponse.error("Unknown tenant: " + requested));
+                return;
+            }
+            tenant = requested;
+        }
+
+        Timer.Sample sample = Timer.start(meterRegistry);
+        TenantContext.set(tenant);
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            TenantContext.clear();
+            sample.stop(Timer.builder("attendance.tenant.requests")
+                .description("HTTP requests per tenant")
+                .tag("tenant", tenant)
+                .tag("method", request.getMethod())
+                .tag("status", String.valueOf(response.getStatus()))
+                .register(meterRegistry));
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.example.attendance.tenant;
+
+import com.mongodb.event.CommandEvent;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.mongodb.DefaultMongoCommandTagsProvider;
+
+/**
+ * Adds the calling tenant to Mongo command metrics. The synchronous driver
+ * reports command events on the calling thread, so the tenant context is set.
+ */
+public class TenantMongoCommandTagsProvider extends DefaultMongoCommandTagsProvider {
+
+    @Override
+    public Iterable<Tag> commandTags(CommandEvent event) {
+        return Tags.of(super.commandTags(event)).and("tenant", TenantContext.current());
+    }
+}
@@ -0,0 +1,126 @@
+package com.example.attendance.tenant;
+
+import com.example.attendance.config.TenancyProperties;
+import com.example.attendance.querybudget.QueryCountingCommandListener;
+import com.mongodb.ConnectionString;
+import com.mongodb.MongoClientSettings;
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.mongodb.MongoMetricsCommandListener;
+import io.micrometer.core.instrument.binder.mongodb.MongoMetricsConnectionPoolListener;
+import io.micrometer.observation.ObservationRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.mongo.MongoProperties;
+import org.springframework.data.mongodb.observability.ContextProviderFactory;
+import org.springframework.data.mongodb.observability.MongoObservationCommandListener;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+/**
+ * Known tenants and the database (and optionally dedicated client) serving each.
+ * With tenancy disabled there is exactly one tenant backed by the configured database.
+ */
+@Component
+public class TenantRegistry {
+
+    private static final Logger log = LoggerFactory.getLogger(TenantRegistry.class);
+
+    public record Tenant(String id, String database, MongoClient client) {}
+
+    private final TenancyProperties properties;
+    private final Map<String, Tenant> tenants = new LinkedHashMap<>();
+    private final List<MongoClient> ownedClients = new ArrayList<>();
+
+    public TenantRegistry(TenancyProperties properties,
+                          MongoClient defaultClient,
+                          MongoProperties mongoProperties,
+                          ObjectProvider<MeterRegistry> meterRegistry,
+                          ObjectProvider<ObservationRegistry> observationRegistry) {
+        this.properties = properties;
+        TenantContext.setDefaultTenant(properties.defaultTenant());
+
+        tenants.put(properties.defaultTenant(),
+            new Tenant(properties.defaultTenant(), mongoProperties.getMongoClientDatabase(), defaultClient));
+
+        if (properties.enabled()) {
+            properties.tenants().forEach((id, config) -> {
+                MongoClient client = dedicatedClient(id, config, meterRegistry.getIfAvailable(),
+                    observationRegistry.getIfAvailable());
+                String database = config.database() != null ? config.database() : "attendance_" + id;
+                tenants.put(id, new Tenant(id, database, client != null ? client : defaultClient));
+            });
+            log.info("Multi-tenancy enabled for tenants {}", tenants.keySet());
+        }
+    }
+
+    public boolean isEnabled() {
+        return properties.enabled();
+    }
+
+    public String getHeader() {
+        return properties.header();
+    }
+
+    public Collection<Tenant> getTenants() {
+        return tenants.values();
+    }
+
+    public Optional<Tenant> find(String id) {
+        return Optional.ofNullable(tenants.get(id));
+    }
+
+    public Tenant current() {
+        Tenant tenant = tenants.get(TenantContext.current());
+        return tenant != null ? tenant : tenants.get(properties.defaultTenant());
+    }
+
+    public void forEachTenant(Consumer<String> task) {
+        for (String id : tenants.keySet()) {
+            TenantContext.run(id, () -> task.accept(id));
+        }
+    }
+
+    @PreDestroy
+    public void close() {
+        ownedClients.forEach(MongoClient::close);
+    }
+
+    private MongoClient dedicatedClient(String id, TenancyProperties.Tenant config, MeterRegistry meterRegistry,
+                                        ObservationRegistry observationRegistry) {
+        if (config.uri() == null && config.maxPoolSize() == null) {
+            return null;
+        }
+        MongoClientSettings.Builder settings = MongoClientSettings.builder();
+        if (config.uri() != null) {
+            settings.applyConnectionString(new ConnectionString(config.uri()));
+        }
+        if (config.maxPoolSize() != null) {
+            settings.applyToConnectionPoolSettings(pool -> pool.maxSize(config.maxPoolSize()));
+        }
+        if (meterRegistry != null) {
+            settings.addCommandListener(new MongoMetricsCommandListener(meterRegistry, new TenantMongoCommandTagsProvider()));
+            settings.applyToConnectionPoolSettings(pool -> pool.addConnectionPoolListener(
+                new MongoMetricsConnectionPoolListener(meterRegistry, event -> Tags.of("tenant", id))));
+        }
+        if (observationRegistry != null) {
+            settings.contextProvider(ContextProviderFactory.create(observationRegistry));
+            settings.addCommandListener(new MongoObservationCommandListener(observationRegistry));
+        }
+        settings.addCommandListener(new QueryCountingCommandListener());
+        MongoClient client = MongoClients.create(settings.build());
+        ownedClients.add(client);
+        return client;
+    }
+}
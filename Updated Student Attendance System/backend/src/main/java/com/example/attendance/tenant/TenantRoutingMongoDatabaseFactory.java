@@ -0,0 +1,53 @@
+package com.example.attendance.tenant;
+
+import com.example.attendance.routing.ReadPreferenceContext;
+import com.example.attendance.workload.WorkloadContext;
+import com.mongodb.MongoOperationTimeoutException;
+import com.mongodb.ReadPreference;
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoDatabase;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.mongodb.core.SimpleMongoClientDatabaseFactory;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Routes every repository and template operation to the database of the
+ * current tenant, using the tenant's dedicated client when it has one, with
+ * the read preference bound by {@link ReadPreferenceContext} and what is left
+ * of the request's deadline from {@link WorkloadContext}, if any.
+ */
+public class TenantRoutingMongoDatabaseFactory extends SimpleMongoClientDatabaseFactory {
+
+    private final TenantRegistry tenantRegistry;
+    private final MongoClient defaultClient;
+
+    public TenantRoutingMongoDatabaseFactory(MongoClient defaultClient, TenantRegistry tenantRegistry) {
+        super(defaultClient, tenantRegistry.current().database());
+        this.defaultClient = defaultClient;
+        this.tenantRegistry = tenantRegistry;
+    }
+
+    @Override
+    public MongoDatabase getMongoDatabase() throws DataAccessException {
+        TenantRegistry.Tenant tenant = tenantRegistry.current();
+        MongoDatabase database = tenant.client() == defaultClient
+            ? getMongoDatabase(tenant.database())
+            : tenant.client().getDatabase(tenant.database());
+        ReadPreference readPreference = ReadPreferenceContext.current();
+        if (readPreference != null) {
+            database = database.withReadPreference(readPreference);
+        }
+        // Client-side operation timeout: bounds pool checkout and sends the remainder as maxTimeMS
+        WorkloadContext.Workload workload = WorkloadContext.current();
+        if (workload != null && workload.hasDeadline()) {
+            long remainingMs = workload.remainingMs();
+            if (remainingMs <= 0) {
+                throw new MongoOperationTimeoutException(
+                    "Request deadline of " + workload.queryTimeoutMs() + " ms expired before the operation started");
+            }
+            database = database.withTimeout(remainingMs, TimeUnit.MILLISECONDS);
+        }
+        return database;
+    }
+}
@@ -0,0 +1,173 @@
+package com.example.attendance.tracing;
+
+import brave.handler.MutableSpan;
+import brave.handler.SpanHandler;
+import brave.propagation.TraceContext;
+import com.example.attendance.config.TracingProperties;
+import com.example.attendance.dto.SpanDTO;
+import com.example.attendance.dto.TraceDTO;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Collects finished spans in memory and assembles them into traces once the
+ * local root span (the HTTP request, a scheduled job, ...) ends. Keeps the most
+ * recent traces in a bounded ring; no external collector is involved.
+ * Lone spans without a server root (e.g. a Mongo command issued by a background
+ * thread) are not kept, so the ring is not flooded with single-command traces.
+ */
+@Component
+public class InMemoryTraceExporter extends SpanHandler {
+
+    private record SpanRecord(String spanId, String parentId, String name, String kind, long startMicros,
+                              long finishMicros, String error, Map<String, String> tags) {}
+
+    private record CompletedTrace(String traceId, SpanRecord root, List<SpanRecord> spans, int dropped) {
+        long durationMicros() {
+            return root.finishMicros() - root.startMicros();
+        }
+    }
+
+    private static final class PendingTrace {
+        private final long createdNanos = System.nanoTime();
+        private final List<SpanRecord> spans = new ArrayList<>();
+        private int dropped;
+    }
+
+    private final TracingProperties properties;
+    private final Map<String, PendingTrace> pending = new ConcurrentHashMap<>();
+    private final Deque<CompletedTrace> recent = new ArrayDeque<>();
+
+    public InMemoryTraceExporter(TracingProperties properties) {
+        this.properties = properties;
+    }
+
+    @Override
+    public boolean end(TraceContext context, MutableSpan span, Cause cause) {
+        if (cause == Cause.ABANDONED) {
+            return true;
+        }
+        SpanRecord record = toRecord(span);
+        // Spans are grouped by their local root so traces continued from a remote parent complete locally
+        String key = span.localRootId() != null ? span.localRootId() : span.id();
+        boolean localRoot = span.id().equals(key);
+
+        PendingTrace trace = pending.computeIfAbsent(key, k -> new PendingTrace());
+        synchronized (trace) {
+            if (trace.spans.size() < properties.maxSpansPerTrace() || localRoot) {
+                trace.spans.add(record);
+            } else {
+                trace.dropped++;
+            }
+        }
+        if (localRoot) {
+            pending.remove(key);
+            if (trace.spans.size() > 1 || "SERVER".equals(record.kind())) {
+                add(new CompletedTrace(span.traceId(), record, List.copyOf(trace.spans), trace.dropped));
+            }
+        }
+        return true;
+    }
+
+    public List<TraceDTO> getSlowest(int limit, double minDurationMs) {
+        return snapshot().stream()
+            .filter(trace -> trace.durationMicros() >= minDurationMs * 1000)
+            .sorted(Comparator.comparingLong(CompletedTrace::durationMicros).reversed())
+            .limit(limit)
+            .map(InMemoryTraceExporter::toDTO)
+            .toList();
+    }
+
+    public List<TraceDTO> getRecent(int limit) {
+        List<CompletedTrace> traces = snapshot();
+        List<TraceDTO> result = new ArrayList<>(Math.min(limit, traces.size()));
+        for (int i = traces.size() - 1; i >= 0 && result.size() < limit; i--) {
+            result.add(toDTO(traces.get(i)));
+        }
+        return result;
+    }
+
+    public Optional<TraceDTO> getTrace(String traceId) {
+        return snapshot().stream()
+            .filter(trace -> trace.traceId().equals(traceId))
+            .findFirst()
+            .map(InMemoryTraceExporter::toDTO);
+    }
+
+    @Scheduled(fixedDelay = 60_000)
+    public void evictAbandoned() {
+        // Children of roots that never finished (e.g. an aborted async task)
+        long cutoff = System.nanoTime() - TimeUnit.SECONDS.toNanos(properties.pendingTimeoutSeconds());
+        pending.values().removeIf(trace -> trace.createdNanos < cutoff);
+    }
+
+    private synchronized void add(CompletedTrace trace) {
+        recent.addLast(trace);
+        while (recent.size() > properties.recentCapacity()) {
+            recent.removeFirst();
+        }
+    }
+
+    private synchronized List<CompletedTrace> snapshot() {
+        return new ArrayList<>(recent);
+    }
+
+    private static SpanRecord toRecord(MutableSpan span) {
+        Map<String, String> tags = new LinkedHashMap<>();
+        for (int i = 0; i < span.tagCount(); i++) {
+            tags.put(span.tagKeyAt(i), span.tagValueAt(i));
+        }
+        String error = span.error() != null ? span.error().toString() : span.tag("error");
+        return new SpanRecord(span.id(), span.parentId(), span.name(), span.kind() != null ? span.kind().name() : null,
+            span.startTimestamp(), span.finishTimestamp(), error, tags);
+    }
+
+    private static TraceDTO toDTO(CompletedTrace trace) {
+        Map<String, List<SpanRecord>> children = new HashMap<>();
+        for (SpanRecord span : trace.spans()) {
+            if (span != trace.root() && span.parentId() != null) {
+                children.computeIfAbsent(span.parentId(), id -> new ArrayList<>()).add(span);
+            }
+        }
+        SpanDTO root = toSpanDTO(trace.root(), trace.root().startMicros(), children);
+        return new TraceDTO(
+            trace.traceId(),
+            trace.root().name(),
+            Instant.ofEpochSecond(0, TimeUnit.MICROSECONDS.toNanos(trace.root().startMicros())),
+            trace.durationMicros() / 1000.0,
+            trace.spans().size(),
+            trace.dropped(),
+            root
+        );
+    }
+
+    private static SpanDTO toSpanDTO(SpanRecord span, long traceStart, Map<String, List<SpanRecord>> children) {
+        List<SpanDTO> nested = children.getOrDefault(span.spanId(), List.of()).stream()
+            .sorted(Comparator.comparingLong(SpanRecord::startMicros))
+            .map(child -> toSpanDTO(child, traceStart, children))
+            .toList();
+        return new SpanDTO(
+            span.spanId(),
+            span.name(),
+            span.kind(),
+            (span.startMicros() - traceStart) / 1000.0,
+            (span.finishMicros() - span.startMicros()) / 1000.0,
+            span.error(),
+            span.tags(),
+            nested
+        );
+    }
+}
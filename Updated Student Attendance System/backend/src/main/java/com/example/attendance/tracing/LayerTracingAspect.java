@@ -0,0 +1,49 @@
+package com.example.attendance.tracing;
+
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.stereotype.Component;
+
+/**
+ * Opens a span around every controller method and every public method of the
+ * attendance and student services, nested under the HTTP request span. Calls
+ * from one service method to another on the same bean are not proxied and so
+ * do not get their own span.
+ */
+@Aspect
+@Component
+public class LayerTracingAspect {
+
+    static final String OBSERVATION_NAME = "attendance.layer";
+
+    private final ObservationRegistry observationRegistry;
+
+    public LayerTracingAspect(ObservationRegistry observationRegistry) {
+        this.observationRegistry = observationRegistry;
+    }
+
+    @Around("within(com.example.attendance.controller..*) && execution(public * *(..))")
+    public Object traceController(ProceedingJoinPoint joinPoint) throws Throwable {
+        return observe("controller", joinPoint);
+    }
+
+    @Around("(within(com.example.attendance.service.AttendanceService) || within(com.example.attendance.service.StudentService))"
+        + " && execution(public * *(..))")
+    public Object traceService(ProceedingJoinPoint joinPoint) throws Throwable {
+        return observe("service", joinPoint);
+    }
+
+    private Object observe(String layer, ProceedingJoinPoint joinPoint) throws Throwable {
+        String type = joinPoint.getSignature().getDeclaringType().getSimpleName();
+        String method = joinPoint.getSignature().getName();
+        return Observation.createNotStarted(OBSERVATION_NAME, observationRegistry)
+            .contextualName(type + "." + method)
+            .lowCardinalityKeyValue("layer", layer)
+            .lowCardinalityKeyValue("class", type)
+            .lowCardinalityKeyValue("method", method)
+            .observeChecked(() -> joinPoint.proceed());
+    }
+}
@@ -0,0 +1,43 @@
+package com.example.attendance.tracing;
+
+import com.example.attendance.config.TracingProperties;
+import io.micrometer.tracing.Span;
+import io.micrometer.tracing.Tracer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * Returns the trace id of each request in a response header so a slow
+ * response can be looked up under /api/admin/traces. Runs inside the HTTP
+ * server observation, which is opened at HIGHEST_PRECEDENCE + 1.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 5)
+public class TraceIdFilter extends OncePerRequestFilter {
+
+    private final Tracer tracer;
+    private final TracingProperties properties;
+
+    public TraceIdFilter(Tracer tracer, TracingProperties properties) {
+        this.tracer = tracer;
+        this.properties = properties;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+        throws ServletException, IOException {
+        Span span = tracer.currentSpan();
+        if (span != null) {
+            response.setHeader(properties.responseHeader(), span.context().traceId());
+        }
+        chain.doFilter(request, response);
+    }
+}
@@ -0,0 +1,139 @@
+package com.example.attendance.workload;
+
+import com.example.attendance.config.WorkloadProperties;
+import com.example.attendance.dto.ApiResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+
+import java.io.IOException;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Classifies each API request as an interactive write, an interactive read or
+ * a report, admits it against that class's bulkhead and binds the class's
+ * deadline for the Mongo operations it runs. The deadline starts when the
+ * request arrives and covers all of its operations together, including any
+ * queueing and the async dispatch, so a request that issues many queries
+ * cannot hold its permit for a multiple of it. Reports can therefore
+ * occupy only their own share of request threads and pool connections, and
+ * marking keeps its capacity however many reports are running. Asynchronously
+ * completed requests keep their permit until the response is written.
+ */
+@Component
+public class BulkheadInterceptor implements AsyncHandlerInterceptor {
+
+    private static final String PERMIT_ATTRIBUTE = BulkheadInterceptor.class.getName() + ".permit";
+    private static final String WORKLOAD_ATTRIBUTE = BulkheadInterceptor.class.getName() + ".workload";
+
+    private record Bulkhead(WorkloadClass workloadClass, Semaphore permits, WorkloadProperties.Bulkhead config) {}
+
+    private final WorkloadProperties properties;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+    private final Map<WorkloadClass, Bulkhead> bulkheads = new EnumMap<>(WorkloadClass.class);
+
+    public BulkheadInterceptor(WorkloadProperties properties, ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+        register(WorkloadClass.INTERACTIVE_WRITE, properties.writes());
+        register(WorkloadClass.INTERACTIVE_READ, properties.reads());
+        register(WorkloadClass.REPORT, properties.reports());
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler)
+        throws IOException {
+        if (request.getDispatcherType() == DispatcherType.ASYNC
+            && request.getAttribute(WORKLOAD_ATTRIBUTE) instanceof WorkloadContext.Workload workload) {
+            WorkloadContext.set(workload);
+            return true;
+        }
+        Bulkhead bulkhead = bulkheads.get(classify(request));
+        WorkloadContext.Workload workload = WorkloadContext.Workload.startingNow(bulkhead.workloadClass(),
+            bulkhead.config().queryTimeoutMs());
+        boolean admitted;
+        try {
+            admitted = bulkhead.permits().tryAcquire(bulkhead.config().maxWaitMs(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            admitted = false;
+        }
+        if (!admitted) {
+            meterRegistry.counter("attendance.workload.rejected", "class", bulkhead.workloadClass().name()).increment();
+            response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+            response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(properties.retryAfterSeconds()));
+            response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            objectMapper.writeValue(response.getOutputStream(), ApiResponse.error(
+                "Too many concurrent " + label(bulkhead.workloadClass()) + ", retry later"));
+            return false;
+        }
+        request.setAttribute(PERMIT_ATTRIBUTE, bulkhead);
+        request.setAttribute(WORKLOAD_ATTRIBUTE, workload);
+        WorkloadContext.set(workload);
+        return true;
+    }
+
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response,
+                                               Object handler) {
+        // The permit is released by afterCompletion of the async dispatch
+        WorkloadContext.clear();
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
+                                Exception ex) {
+        if (request.getAttribute(PERMIT_ATTRIBUTE) instanceof Bulkhead bulkhead) {
+            request.removeAttribute(PERMIT_ATTRIBUTE);
+            request.removeAttribute(WORKLOAD_ATTRIBUTE);
+            WorkloadContext.clear();
+            bulkhead.permits().release();
+        }
+    }
+
+    WorkloadClass classify(HttpServletRequest request) {
+        // Report paths are matched first, since GraphQL queries arrive as POST
+        String path = request.getRequestURI();
+        if (properties.reportPaths().stream().anyMatch(pattern -> pathMatcher.match(pattern, path))) {
+            return WorkloadClass.REPORT;
+        }
+        String method = request.getMethod();
+        return HttpMethod.GET.matches(method) || HttpMethod.HEAD.matches(method)
+            ? WorkloadClass.INTERACTIVE_READ
+            : WorkloadClass.INTERACTIVE_WRITE;
+    }
+
+    private void register(WorkloadClass workloadClass, WorkloadProperties.Bulkhead config) {
+        Bulkhead bulkhead = new Bulkhead(workloadClass, new Semaphore(config.maxConcurrent()), config);
+        bulkheads.put(workloadClass, bulkhead);
+        Gauge.builder("attendance.workload.active", bulkhead,
+                b -> b.config().maxConcurrent() - b.permits().availablePermits())
+            .description("Requests currently running in the workload class")
+            .tag("class", workloadClass.name())
+            .register(meterRegistry);
+    }
+
+    private static String label(WorkloadClass workloadClass) {
+        return switch (workloadClass) {
+            case INTERACTIVE_WRITE -> "updates";
+            case INTERACTIVE_READ -> "requests";
+            case REPORT -> "reports";
+        };
+    }
+}
@@ -0,0 +1,7 @@
+package com.example.attendance.workload;
+
+public enum WorkloadClass {
+    INTERACTIVE_WRITE,
+    INTERACTIVE_READ,
+    REPORT
+}
@@ -0,0 +1,47 @@
+package com.example.attendance.workload;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Workload class and deadline of the current request. Nothing bound
+ * (background jobs, startup) means no deadline beyond the client defaults.
+ */
+public final class WorkloadContext {
+
+    /**
+     * A {@code queryTimeoutMs} of zero or less means no deadline; otherwise
+     * the request must finish its Mongo operations by {@code deadlineNanos}.
+     */
+    public record Workload(WorkloadClass workloadClass, long queryTimeoutMs, long deadlineNanos) {
+
+        static Workload startingNow(WorkloadClass workloadClass, long queryTimeoutMs) {
+            return new Workload(workloadClass, queryTimeoutMs,
+                System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(Math.max(0, queryTimeoutMs)));
+        }
+
+        public boolean hasDeadline() {
+            return queryTimeoutMs > 0;
+        }
+
+        public long remainingMs() {
+            return TimeUnit.NANOSECONDS.toMillis(deadlineNanos - System.nanoTime());
+        }
+    }
+
+    private static final ThreadLocal<Workload> CURRENT = new ThreadLocal<>();
+
+    private WorkloadContext() {
+    }
+
+    public static Workload current() {
+        return CURRENT.get();
+    }
+
+    static void set(Workload workload) {
+        CURRENT.set(workload);
+    }
+
+    static void clear() {
+        CURRENT.remove();
+    }
+}
@@ -0,0 +1,30 @@
+package com.example.attendance;
+
+import de.bwaldvogel.mongo.MongoServer;
+import de.bwaldvogel.mongo.backend.memory.MemoryBackend;
+import org.springframework.test.context.DynamicPropertyRegistry;
+
+import java.net.InetSocketAddress;
+
+/**
+ * In-memory MongoDB wire-protocol server shared by the integration tests of a
+ * run. It lives as long as the JVM, since Spring keeps test contexts cached;
+ * each test class uses its own database.
+ */
+public final class InMemoryMongo {
+
+    private static final MongoServer SERVER = new MongoServer(new MemoryBackend());
+    private static final InetSocketAddress ADDRESS = SERVER.bind();
+
+    static {
+        Runtime.getRuntime().addShutdownHook(new Thread(SERVER::shutdownNow));
+    }
+
+    private InMemoryMongo() {
+    }
+
+    public static void register(DynamicPropertyRegistry registry, String database) {
+        registry.add("spring.data.mongodb.uri",
+            () -> "mongodb://" + ADDRESS.getHostString() + ":" + ADDRESS.getPort() + "/" + database);
+    }
+}
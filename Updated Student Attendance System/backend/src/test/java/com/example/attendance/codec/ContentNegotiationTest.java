@@ -0,0 +1,93 @@
+package com.example.attendance.codec;
+
+import com.example.attendance.InMemoryMongo;
+import com.example.attendance.model.Student;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Checks that each response format is chosen by the Accept header through the
+ * real converter chain.
+ */
+@SpringBootTest(properties = {
+    "attendance.response-cache.enabled=false",
+    "attendance.snapshot.backfill-on-startup=false"
+})
+@AutoConfigureMockMvc
+class ContentNegotiationTest {
+
+    private static final MediaType SMILE = MediaType.parseMediaType("application/x-jackson-smile");
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @DynamicPropertySource
+    static void mongo(DynamicPropertyRegistry registry) {
+        InMemoryMongo.register(registry, "content_negotiation_test");
+    }
+
+    @BeforeEach
+    void seed() {
+        mongoTemplate.dropCollection(Student.class);
+        for (int i = 1; i <= 3; i++) {
+            Student student = new Student();
+            student.setName("Student " + i);
+            student.setRollNumber(String.format("2024%04d", i));
+            student.setDepartment("CSE");
+            student.setYear(1);
+            mongoTemplate.insert(student);
+        }
+    }
+
+    @Test
+    void columnarWhenRequested() throws Exception {
+        mockMvc.perform(get("/api/students").accept(ColumnarJsonHttpMessageConverter.MEDIA_TYPE))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(ColumnarJsonHttpMessageConverter.MEDIA_TYPE))
+            .andExpect(jsonPath("$.data.count").value(3))
+            .andExpect(jsonPath("$.data.columns.rollNumber.length()").value(3))
+            .andExpect(jsonPath("$.data.columns.department[0]").value("CSE"));
+    }
+
+    @Test
+    void plainJsonForWildcardAccept() throws Exception {
+        mockMvc.perform(get("/api/students").accept(MediaType.ALL))
+            .andExpect(status().isOk())
+            .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+            .andExpect(jsonPath("$.data.length()").value(3))
+            .andExpect(jsonPath("$.data[0].department").value("CSE"));
+    }
+
+    @Test
+    void smileUsesTheJacksonSettings() throws Exception {
+        byte[] body = mockMvc.perform(get("/api/students").accept(SMILE))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(SMILE))
+            .andReturn().getResponse().getContentAsByteArray();
+
+        JsonNode student = new ObjectMapper(new SmileFactory()).readTree(body).path("data").path(0);
+        assertThat(student.path("department").asText()).isEqualTo("CSE");
+        // spring.jackson.default-property-inclusion=non_null leaves out the missing email
+        assertThat(student.has("email")).isFalse();
+    }
+}
@@ -0,0 +1,93 @@
+package com.example.attendance.limiter;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class GradientLimiterTest {
+
+    // Longer than the minimum update window, so the next sample closes it
+    private static final long WINDOW_MS = 120;
+
+    @Test
+    void rejectsOverTheLimitUntilAPermitIsReturned() {
+        GradientLimiter limiter = new GradientLimiter("test", 2, 1, 10, 2.0, 0.2);
+
+        GradientLimiter.Permit first = limiter.tryAcquire();
+        GradientLimiter.Permit second = limiter.tryAcquire();
+
+        assertThat(first).isNotNull();
+        assertThat(second).isNotNull();
+        assertThat(limiter.tryAcquire()).isNull();
+        assertThat(limiter.inflight()).isEqualTo(2);
+
+        first.onSuccess();
+        assertThat(limiter.inflight()).isEqualTo(1);
+        assertThat(limiter.tryAcquire()).isNotNull();
+    }
+
+    @Test
+    void growsWhileLatencyStaysAtTheBaseline() throws InterruptedException {
+        GradientLimiter limiter = new GradientLimiter("test", 20, 4, 100, 2.0, 1.0);
+
+        List<GradientLimiter.Permit> permits = acquire(limiter, 10);
+        Thread.sleep(WINDOW_MS);
+        permits.forEach(GradientLimiter.Permit::onSuccess);
+
+        // limit + sqrt(limit) with a gradient of 1
+        assertThat(limiter.limit()).isEqualTo(24);
+    }
+
+    @Test
+    void shrinksWhenLatencyRisesAboveTheBaseline() throws InterruptedException {
+        GradientLimiter limiter = new GradientLimiter("test", 20, 4, 100, 2.0, 1.0);
+
+        List<GradientLimiter.Permit> permits = acquire(limiter, 10);
+        permits.get(0).onSuccess();
+        Thread.sleep(WINDOW_MS);
+        permits.subList(1, permits.size()).forEach(GradientLimiter.Permit::onSuccess);
+
+        // Queued requests: the gradient bottoms out at 0.5, giving limit / 2 + sqrt(limit)
+        assertThat(limiter.limit()).isEqualTo(14);
+    }
+
+    @Test
+    void keepsTheLimitWhenItIsNotUsed() throws InterruptedException {
+        GradientLimiter limiter = new GradientLimiter("test", 40, 4, 100, 2.0, 1.0);
+
+        for (int i = 0; i < 10; i++) {
+            GradientLimiter.Permit permit = limiter.tryAcquire();
+            if (i == 9) {
+                Thread.sleep(WINDOW_MS);
+            }
+            permit.onSuccess();
+        }
+
+        assertThat(limiter.limit()).isEqualTo(40);
+    }
+
+    @Test
+    void backsOffOnFailuresDownToTheMinimum() throws InterruptedException {
+        GradientLimiter limiter = new GradientLimiter("test", 5, 4, 100, 2.0, 1.0);
+
+        Thread.sleep(WINDOW_MS);
+        limiter.tryAcquire().onDropped();
+        assertThat(limiter.limit()).isEqualTo(4);
+
+        Thread.sleep(WINDOW_MS);
+        limiter.tryAcquire().onDropped();
+        assertThat(limiter.limit()).isEqualTo(4);
+        assertThat(limiter.inflight()).isZero();
+    }
+
+    private static List<GradientLimiter.Permit> acquire(GradientLimiter limiter, int count) {
+        List<GradientLimiter.Permit> permits = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            permits.add(limiter.tryAcquire());
+        }
+        return permits;
+    }
+}
@@ -0,0 +1,115 @@
+package com.example.attendance.querybudget;
+
+import com.example.attendance.InMemoryMongo;
+import com.example.attendance.model.Attendance;
+import com.example.attendance.model.Student;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDate;
+
+import static org.hamcrest.Matchers.matchesPattern;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Runs the budgeted report endpoints against an in-memory MongoDB server with
+ * the {@code test} profile's enforcement on, so an endpoint whose command count
+ * grows past its budget fails the build.
+ */
+@SpringBootTest(properties = {
+    "attendance.response-cache.enabled=false",
+    "attendance.snapshot.backfill-on-startup=false"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class QueryBudgetEnforcementTest {
+
+    private static final LocalDate DAY = LocalDate.of(2024, 9, 2);
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @DynamicPropertySource
+    static void mongo(DynamicPropertyRegistry registry) {
+        InMemoryMongo.register(registry, "query_budget_test");
+    }
+
+    @BeforeEach
+    void seed() {
+        mongoTemplate.dropCollection(Attendance.class);
+        mongoTemplate.dropCollection(Student.class);
+        for (int i = 1; i <= 5; i++) {
+            Student student = student(i);
+            Attendance attendance = new Attendance(student.getId(), DAY,
+                i % 2 == 0 ? Attendance.Status.ABSENT : Attendance.Status.PRESENT);
+            attendance.setStudentName(student.getName());
+            attendance.setRollNumber(student.getRollNumber());
+            mongoTemplate.insert(attendance);
+        }
+    }
+
+    @Test
+    void dateReportStaysWithinBudget() throws Exception {
+        mockMvc.perform(get("/api/attendance/date/{date}", DAY))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.data.length()").value(5))
+            .andExpect(header().string("X-Query-Count", matchesPattern("[12]")));
+    }
+
+    @Test
+    void statusReportStaysWithinBudget() throws Exception {
+        mockMvc.perform(get("/api/attendance/status/{status}", Attendance.Status.ABSENT)
+                .param("startDate", DAY.toString())
+                .param("endDate", DAY.plusDays(6).toString()))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.data.length()").value(2))
+            .andExpect(header().string("X-Query-Count", matchesPattern("[12]")));
+    }
+
+    @Test
+    void rangeReportStaysWithinBudget() throws Exception {
+        mockMvc.perform(get("/api/attendance/range")
+                .param("startDate", DAY.minusDays(1).toString())
+                .param("endDate", DAY.plusDays(1).toString()))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.data.length()").value(5))
+            .andExpect(header().string("X-Query-Count", matchesPattern("[12]")));
+    }
+
+    @Test
+    void perRowLookupsFailTheRequest() throws Exception {
+        // Records without a student snapshot make the date report look up each student separately
+        LocalDate day = DAY.plusDays(1);
+        for (int i = 6; i <= 9; i++) {
+            mongoTemplate.insert(new Attendance(student(i).getId(), day, Attendance.Status.PRESENT));
+        }
+
+        mockMvc.perform(get("/api/attendance/date/{date}", day))
+            .andExpect(status().isInternalServerError())
+            .andExpect(jsonPath("$.success").value(false))
+            .andExpect(header().string("X-Query-Count", "5"));
+    }
+
+    private Student student(int i) {
+        Student student = new Student();
+        student.setName("Student " + i);
+        student.setRollNumber(String.format("2024%04d", i));
+        student.setDepartment("CSE");
+        student.setYear(1);
+        return mongoTemplate.insert(student);
+    }
+}
@@ -0,0 +1,88 @@
+package com.example.attendance.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AuditRingBufferTest {
+
+    @Test
+    void roundsCapacityUpAndRejectsWhenFull() {
+        AuditRingBuffer<Integer> buffer = new AuditRingBuffer<>(5);
+
+        assertThat(buffer.capacity()).isEqualTo(8);
+        for (int i = 0; i < 8; i++) {
+            assertThat(buffer.offer(i)).isTrue();
+        }
+        assertThat(buffer.offer(8)).isFalse();
+
+        List<Integer> drained = new ArrayList<>();
+        assertThat(buffer.drainTo(drained, 3)).isEqualTo(3);
+        assertThat(drained).containsExactly(0, 1, 2);
+        assertThat(buffer.size()).isEqualTo(5);
+        assertThat(buffer.offer(8)).isTrue();
+    }
+
+    @Test
+    void deliversEveryItemOnceInProducerOrderUnderContention() throws Exception {
+        int producers = 4;
+        int perProducer = 20_000;
+        // Small enough that producers keep running into a full buffer and wrapping around
+        AuditRingBuffer<long[]> buffer = new AuditRingBuffer<>(64);
+
+        ExecutorService executor = Executors.newFixedThreadPool(producers);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        try {
+            for (int p = 0; p < producers; p++) {
+                long producer = p;
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    for (long seq = 0; seq < perProducer; seq++) {
+                        long[] item = {producer, seq};
+                        while (!buffer.offer(item)) {
+                            Thread.yield();
+                        }
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+
+            long[] next = new long[producers];
+            List<long[]> batch = new ArrayList<>();
+            long received = 0;
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+            while (received < (long) producers * perProducer) {
+                assertThat(System.nanoTime()).as("drained %d items before timing out", received).isLessThan(deadline);
+                batch.clear();
+                if (buffer.drainTo(batch, 256) == 0) {
+                    Thread.yield();
+                }
+                for (long[] item : batch) {
+                    int producer = (int) item[0];
+                    assertThat(item[1]).isEqualTo(next[producer]);
+                    next[producer]++;
+                }
+                received += batch.size();
+            }
+            for (Future<?> future : futures) {
+                future.get(5, TimeUnit.SECONDS);
+            }
+
+            assertThat(next).containsOnly(perProducer);
+            assertThat(buffer.size()).isZero();
+            assertThat(buffer.drainTo(batch, 1)).isZero();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -3,9 +3,11 @@ import type {
   Attendance,
   MarkAttendanceRequest,
   StudentAttendanceHistory,
+  CompactAttendanceHistory,
   AttendanceStats,
   ApiResponse,
   AttendanceStatus,
+  UnmarkedStudents,
 } from '../types';
 
 export const attendanceApi = {
@@ -39,6 +41,15 @@ export const attendanceApi = {
     return apiClient.get<StudentAttendanceHistory>(`/attendance/student/${rollNumber}`);
   },
   
+  getCompactStudentHistory: async (
+    rollNumber: string,
+    includeIds = false
+  ): Promise<ApiResponse<CompactAttendanceHistory>> => {
+    return apiClient.get<CompactAttendanceHistory>(
+      `/attendance/student/${rollNumber}/compact?includeIds=${includeIds}`
+    );
+  },
+  
   getStudentHistoryByRange: async (
     rollNumber: string,
     startDate: string,
@@ -72,4 +83,38 @@ export const attendanceApi = {
       `/attendance/status/${status}?startDate=${startDate}&endDate=${endDate}`
     );
   },
-};
\ No newline at end of file
+
+  getUnmarkedStudents: async (
+    date?: string,
+    department?: string
+  ): Promise<ApiResponse<UnmarkedStudents>> => {
+    const params = new URLSearchParams();
+    if (date) params.set('date', date);
+    if (department) params.set('department', department);
+    const query = params.toString();
+    return apiClient.get<UnmarkedStudents>(`/attendance/unmarked${query ? `?${query}` : ''}`);
+  },
+};
+
+// Expands a compact history ("3P1A2-") into one entry per day, skipping days without a record
+export const expandCompactHistory = (
+  history: CompactAttendanceHistory
+): { date: string; status: AttendanceStatus; id?: string }[] => {
+  const days: { date: string; status: AttendanceStatus; id?: string }[] = [];
+  if (!history.startDate) return days;
+  const date = new Date(`${history.startDate}T00:00:00Z`);
+  let recordIndex = 0;
+  for (const [, count, symbol] of history.runs.matchAll(/(\d+)([PA-])/g)) {
+    for (let i = 0; i < Number(count); i++) {
+      if (symbol !== '-') {
+        days.push({
+          date: date.toISOString().slice(0, 10),
+          status: symbol === 'P' ? 'PRESENT' : 'ABSENT',
+          id: history.recordIds?.[recordIndex++],
+        });
+      }
+      date.setUTCDate(date.getUTCDate() + 1);
+    }
+  }
+  return days;
+};
@@ -17,8 +17,10 @@ class ApiClient {
     const debug = (import.meta as any)?.env?.DEV || (typeof window !== 'undefined' && window.localStorage?.getItem('API_DEBUG') === '1');
 
     try {
+      const tenantId = typeof window !== 'undefined' ? window.localStorage?.getItem('TENANT_ID') : null;
       const mergedHeaders = {
         'Content-Type': 'application/json',
+        ...(tenantId ? { 'X-Tenant-ID': tenantId } : {}),
         ...options?.headers,
       } as Record<string, string>;
 
@@ -57,7 +59,8 @@ class ApiClient {
       }
 
       let json: any = null;
-      const canParseJson = text && contentType.includes('application/json');
+      // Also covers application/graphql-response+json
+      const canParseJson = text && /[/+]json/.test(contentType);
       if (canParseJson) {
         try {
           json = JSON.parse(text);
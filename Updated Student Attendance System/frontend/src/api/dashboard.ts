@@ -0,0 +1,8 @@
+import { apiClient } from './client';
+import type { DashboardSummary, ApiResponse } from '../types';
+
+export const dashboardApi = {
+  getSummary: async (): Promise<ApiResponse<DashboardSummary>> => {
+    return apiClient.get<DashboardSummary>('/dashboard/summary');
+  },
+};
@@ -0,0 +1,26 @@
+import { apiClient } from './client';
+import type { ApiResponse } from '../types';
+
+interface GraphQLResult<T> {
+  data?: T | null;
+  errors?: { message: string }[];
+}
+
+export const graphqlApi = {
+  // Resolves to the GraphQL `data`; any errors are joined into `error`
+  query: async <T>(query: string, variables?: Record<string, unknown>): Promise<ApiResponse<T>> => {
+    const response = await apiClient.post<T>('/graphql', { query, variables });
+    const result = response as unknown as GraphQLResult<T> & ApiResponse<T>;
+    if (result.errors?.length) {
+      return {
+        success: false,
+        data: result.data ?? undefined,
+        error: result.errors.map((e) => e.message).join('; '),
+      };
+    }
+    if (response.success === false) {
+      return response;
+    }
+    return { success: true, data: result.data ?? undefined };
+  },
+};
@@ -1,3 +1,6 @@
 export * from './client';
 export * from './students';
 export * from './attendance';
+export * from './dashboard';
+export * from './sections';
+export * from './graphql';
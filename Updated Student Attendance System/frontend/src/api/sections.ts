@@ -0,0 +1,16 @@
+import { apiClient } from './client';
+import type { Section, RollCallRequest, RollCallResult, Attendance, ApiResponse } from '../types';
+
+export const sectionsApi = {
+  getAll: async (): Promise<ApiResponse<Section[]>> => {
+    return apiClient.get<Section[]>('/sections');
+  },
+
+  rollCall: async (sectionId: string, request: RollCallRequest): Promise<ApiResponse<RollCallResult>> => {
+    return apiClient.post<RollCallResult>(`/sections/${sectionId}/roll-call`, request);
+  },
+
+  getPeriodAttendance: async (sectionId: string, date: string, period: number): Promise<ApiResponse<Attendance[]>> => {
+    return apiClient.get<Attendance[]>(`/sections/${sectionId}/attendance?date=${date}&period=${period}`);
+  },
+};
@@ -1,24 +1,30 @@
-import { useState } from 'react';
+import { useEffect, useState } from 'react';
 import { StudentsPage } from './StudentsPage';
 import { AttendancePage } from './AttendancePage';
 import { ReportsPage } from './ReportsPage';
-import { useStudentStore } from '../store/useStudentStore';
-import { useAttendanceStore } from '../store/useAttendanceStore';
 import { ThemeToggle } from '../components/ThemeToggle';
+import { dashboardApi } from '../api';
+import { DashboardSummary } from '../types';
 import '../App.css';
 
 export function DashboardPage() {
   const [activeTab, setActiveTab] = useState('dashboard');
-  const { students } = useStudentStore();
-  const { todayAttendance } = useAttendanceStore();
+  const [summary, setSummary] = useState<DashboardSummary | null>(null);
   
-  // Calculate dashboard statistics
-  const activeStudents = students.filter(student => student.active).length;
-  const presentToday = todayAttendance.filter(att => att.status === 'PRESENT').length;
-  const absentToday = todayAttendance.filter(att => att.status === 'ABSENT').length;
-  const attendancePercentage = todayAttendance.length > 0 
-    ? Math.round((presentToday / todayAttendance.length) * 10000) / 100 
-    : 0;
+  // Dashboard statistics are computed server-side
+  useEffect(() => {
+    if (activeTab !== 'dashboard') return;
+    dashboardApi.getSummary().then(response => {
+      if (response.success && response.data) {
+        setSummary(response.data);
+      }
+    });
+  }, [activeTab]);
+  
+  const activeStudents = summary?.activeStudents ?? 0;
+  const presentToday = summary?.presentToday ?? 0;
+  const absentToday = summary?.absentToday ?? 0;
+  const attendancePercentage = summary?.attendancePercentage ?? 0;
 
   return (
     <div className="dashboard-container">
@@ -92,7 +98,7 @@ export function DashboardPage() {
                 <h2>Recent Activity</h2>
                 <div className="activity-list">
                   <p>Welcome to the Student Attendance System! Use the navigation menu to manage students, attendance, and reports.</p>
-                  <p>Today's attendance has been recorded for {todayAttendance.length} students.</p>
+                  <p>Today's attendance has been recorded for {summary?.markedToday ?? 0} students.</p>
                 </div>
               </div>
               
@@ -9,12 +9,16 @@ export interface Attendance {
   rollNumber: string;
   date: string;
   status: AttendanceStatus;
+  sectionId?: string;
+  period?: number;
+  version?: number;
 }
 
 export interface MarkAttendanceRequest {
   rollNumber: string;
   status: AttendanceStatus;
   date?: string;
+  version?: number;
 }
 
 export interface AttendanceStats {
@@ -29,3 +33,28 @@ export interface StudentAttendanceHistory {
   attendanceRecords: Attendance[];
   statistics: AttendanceStats;
 }
+
+export interface CompactAttendanceHistory {
+  student: Student;
+  startDate?: string;
+  endDate?: string;
+  runs: string;
+  recordIds?: string[];
+  statistics: AttendanceStats;
+}
+
+export interface UnmarkedStudent {
+  studentId: string;
+  name: string;
+  rollNumber: string;
+  department?: string;
+  year?: number;
+}
+
+export interface UnmarkedStudents {
+  date: string;
+  department?: string;
+  activeStudents: number;
+  markedStudents: number;
+  students: UnmarkedStudent[];
+}
@@ -0,0 +1,8 @@
+export interface DashboardSummary {
+  date: string;
+  activeStudents: number;
+  presentToday: number;
+  absentToday: number;
+  markedToday: number;
+  attendancePercentage: number;
+}
@@ -1,3 +1,5 @@
 export * from './student';
 export * from './attendance';
 export * from './api';
+export * from './dashboard';
+export * from './section';
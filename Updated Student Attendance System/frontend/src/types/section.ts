@@ -0,0 +1,35 @@
+import { AttendanceStatus } from './attendance';
+
+export interface Period {
+  number: number;
+  name?: string;
+  startTime?: string;
+  endTime?: string;
+}
+
+export interface Section {
+  id: string;
+  name: string;
+  department?: string;
+  year?: number;
+  periods: Period[];
+  rosterSize: number;
+}
+
+export interface RollCallRequest {
+  date?: string;
+  period: number;
+  defaultStatus?: AttendanceStatus;
+  exceptions: string[];
+}
+
+export interface RollCallResult {
+  sectionId: string;
+  date: string;
+  period: number;
+  presentCount: number;
+  absentCount: number;
+  inserted: number;
+  updated: number;
+  unchanged: number;
+}
@@ -7,6 +7,7 @@ export interface Student {
   department?: string;
   year?: number;
   active: boolean;
+  version?: number;
 }
 
 export interface CreateStudentRequest {
@@ -25,4 +26,5 @@ export interface UpdateStudentRequest {
   department?: string;
   year?: number;
   active?: boolean;
+  version?: number;
 }
\ No newline at end of file
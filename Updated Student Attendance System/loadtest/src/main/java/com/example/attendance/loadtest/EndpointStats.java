@@ -0,0 +1,68 @@
+package com.example.attendance.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Outcomes of one endpoint within one phase. Latency is measured from the
+ * request's scheduled arrival time, not from when it was sent, so queueing
+ * in the client or server is not hidden (no coordinated omission).
+ */
+final class EndpointStats {
+
+    private static final long MAX_MICROS = TimeUnit.MINUTES.toMicros(2);
+
+    private final Histogram latencyMicros = new ConcurrentHistogram(MAX_MICROS, 3);
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder errors = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    private final Map<String, LongAdder> outcomes = new ConcurrentHashMap<>();
+
+    void record(long scheduledNanos, long completedNanos, String outcome, boolean success) {
+        long micros = TimeUnit.NANOSECONDS.toMicros(completedNanos - scheduledNanos);
+        latencyMicros.recordValue(Math.max(1, Math.min(micros, MAX_MICROS)));
+        requests.increment();
+        if (!success) {
+            errors.increment();
+        }
+        outcomes.computeIfAbsent(outcome, key -> new LongAdder()).increment();
+    }
+
+    /** The generator itself was saturated; the arrival is counted but never sent. */
+    void dropped() {
+        dropped.increment();
+    }
+
+    Report.EndpointResult result(String name, double seconds) {
+        long total = requests.sum();
+        Map<String, Long> byOutcome = new TreeMap<>();
+        outcomes.forEach((outcome, count) -> byOutcome.put(outcome, count.sum()));
+        return new Report.EndpointResult(
+            name,
+            total,
+            errors.sum(),
+            dropped.sum(),
+            total > 0 ? (double) errors.sum() / total : 0.0,
+            seconds > 0 ? total / seconds : 0.0,
+            new Report.Latency(
+                millis(latencyMicros.getValueAtPercentile(50)),
+                millis(latencyMicros.getValueAtPercentile(90)),
+                millis(latencyMicros.getValueAtPercentile(99)),
+                millis(latencyMicros.getValueAtPercentile(99.9)),
+                millis(latencyMicros.getMaxValue()),
+                total > 0 ? latencyMicros.getMean() / 1000.0 : 0.0
+            ),
+            byOutcome
+        );
+    }
+
+    private static double millis(long micros) {
+        return micros / 1000.0;
+    }
+}
@@ -0,0 +1,185 @@
+package com.example.attendance.loadtest;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpTimeoutException;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Drives a scenario open-loop: arrivals follow a Poisson process at the
+ * phase's rate whether or not earlier requests have completed, so a slow
+ * server sees growing concurrency instead of a politely slowing client.
+ * Requests are sent with the non-blocking {@link HttpClient#sendAsync} API,
+ * so one scheduler thread can keep thousands of requests in flight.
+ */
+final class LoadRunner {
+
+    private final Scenario scenario;
+    private final HttpClient client;
+    private final ExecutorService callbacks;
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    private final String today;
+    private final String weekAgo;
+    private final String monthStart;
+
+    LoadRunner(Scenario scenario) {
+        this.scenario = scenario;
+        this.callbacks = Executors.newFixedThreadPool(Math.max(2, Runtime.getRuntime().availableProcessors()), runnable -> {
+            Thread thread = new Thread(runnable, "loadtest-http");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.client = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(5))
+            .executor(callbacks)
+            .build();
+        LocalDate date = LocalDate.now();
+        this.today = date.toString();
+        this.weekAgo = date.minusDays(7).toString();
+        this.monthStart = date.withDayOfMonth(1).toString();
+    }
+
+    List<Report.PhaseResult> run() throws InterruptedException {
+        List<Map<String, EndpointStats>> statsByPhase = new ArrayList<>();
+        for (int i = 0; i < scenario.phases().size(); i++) {
+            Scenario.Phase phase = scenario.phases().get(i);
+            System.out.printf("Phase %s: %d s at %.0f req/s%n", phase.name(), phase.durationSeconds(), phase.ratePerSecond());
+            statsByPhase.add(runPhase(phase, new SplittableRandom(scenario.seed() + i)));
+        }
+        awaitInFlight();
+
+        List<Report.PhaseResult> results = new ArrayList<>();
+        for (int i = 0; i < scenario.phases().size(); i++) {
+            Scenario.Phase phase = scenario.phases().get(i);
+            List<Report.EndpointResult> endpoints = new ArrayList<>();
+            statsByPhase.get(i).forEach((name, stats) -> endpoints.add(stats.result(name, phase.durationSeconds())));
+            results.add(new Report.PhaseResult(phase.name(), phase.durationSeconds(), phase.ratePerSecond(),
+                phase.recorded(), endpoints));
+        }
+        callbacks.shutdownNow();
+        return results;
+    }
+
+    private Map<String, EndpointStats> runPhase(Scenario.Phase phase, SplittableRandom random) {
+        List<Scenario.Endpoint> endpoints = new ArrayList<>();
+        List<Integer> cumulative = new ArrayList<>();
+        Map<String, EndpointStats> stats = new LinkedHashMap<>();
+        int totalWeight = 0;
+        for (Map.Entry<String, Integer> entry : phase.mix().entrySet()) {
+            totalWeight += entry.getValue();
+            endpoints.add(scenario.endpoint(entry.getKey()));
+            cumulative.add(totalWeight);
+            stats.put(entry.getKey(), new EndpointStats());
+        }
+
+        long start = System.nanoTime();
+        long end = start + TimeUnit.SECONDS.toNanos(phase.durationSeconds());
+        double meanGapNanos = TimeUnit.SECONDS.toNanos(1) / phase.ratePerSecond();
+        long next = start;
+        while (true) {
+            next += (long) (-Math.log(1 - random.nextDouble()) * meanGapNanos);
+            if (next >= end) {
+                break;
+            }
+            long wait = next - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+
+            int pick = random.nextInt(totalWeight);
+            int index = 0;
+            while (cumulative.get(index) <= pick) {
+                index++;
+            }
+            Scenario.Endpoint endpoint = endpoints.get(index);
+            EndpointStats endpointStats = stats.get(endpoint.name());
+            if (inFlight.get() >= scenario.effectiveMaxInFlight()) {
+                endpointStats.dropped();
+                continue;
+            }
+            send(request(endpoint, random), next, endpointStats);
+        }
+        return stats;
+    }
+
+    private void send(HttpRequest request, long scheduled, EndpointStats stats) {
+        inFlight.incrementAndGet();
+        client.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+            .whenComplete((response, error) -> {
+                long completed = System.nanoTime();
+                inFlight.decrementAndGet();
+                if (error == null) {
+                    int status = response.statusCode();
+                    stats.record(scheduled, completed, String.valueOf(status), status < 400);
+                } else {
+                    stats.record(scheduled, completed, outcome(error), false);
+                }
+            });
+    }
+
+    private HttpRequest request(Scenario.Endpoint endpoint, SplittableRandom random) {
+        String rollNumber = String.valueOf(scenario.rollNumbers().first() + random.nextInt(scenario.rollNumbers().count()));
+        String status = random.nextDouble() < 0.85 ? "PRESENT" : "ABSENT";
+        HttpRequest.Builder builder = HttpRequest.newBuilder()
+            .uri(URI.create(scenario.baseUrl() + expand(endpoint.path(), rollNumber, status)))
+            .timeout(Duration.ofMillis(scenario.effectiveTimeoutMs()))
+            .header("Accept", "application/json");
+        if (scenario.tenant() != null) {
+            builder.header("X-Tenant-ID", scenario.tenant());
+        }
+        if (endpoint.body() != null) {
+            builder.header("Content-Type", "application/json")
+                .method(endpoint.method(), HttpRequest.BodyPublishers.ofString(expand(endpoint.body(), rollNumber, status)));
+        } else {
+            builder.method(endpoint.method(), HttpRequest.BodyPublishers.noBody());
+        }
+        return builder.build();
+    }
+
+    private String expand(String template, String rollNumber, String status) {
+        if (template.indexOf('$') < 0) {
+            return template;
+        }
+        return template
+            .replace("${rollNumber}", rollNumber)
+            .replace("${status}", status)
+            .replace("${today}", today)
+            .replace("${weekAgo}", weekAgo)
+            .replace("${monthStart}", monthStart);
+    }
+
+    private void awaitInFlight() throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(scenario.effectiveTimeoutMs() + 1000);
+        while (inFlight.get() > 0 && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+    }
+
+    private static String outcome(Throwable error) {
+        Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+        if (cause instanceof HttpTimeoutException) {
+            return "timeout";
+        }
+        if (cause instanceof IOException) {
+            return "io-error";
+        }
+        return cause.getClass().getSimpleName();
+    }
+}
@@ -0,0 +1,54 @@
+package com.example.attendance.loadtest;
+
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Command line entry point.
+ * <pre>
+ * run      [scenario.json] [--base-url=URL] [--tenant=ID] [--rate-scale=N] [--report=FILE]
+ * compare  baseline.json candidate.json
+ * </pre>
+ */
+public final class LoadTest {
+
+    private LoadTest() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        if (args.length > 0 && args[0].equals("compare")) {
+            if (args.length != 3) {
+                throw new IllegalArgumentException("Usage: compare <baseline.json> <candidate.json>");
+            }
+            Report.compare(Report.read(Path.of(args[1])), Report.read(Path.of(args[2])), System.out);
+            return;
+        }
+
+        Map<String, String> options = new HashMap<>();
+        String scenarioFile = "scenarios/mixed.json";
+        for (int i = args.length > 0 && args[0].equals("run") ? 1 : 0; i < args.length; i++) {
+            if (args[i].startsWith("--") && args[i].contains("=")) {
+                options.put(args[i].substring(2, args[i].indexOf('=')), args[i].substring(args[i].indexOf('=') + 1));
+            } else {
+                scenarioFile = args[i];
+            }
+        }
+
+        Scenario scenario = Scenario.load(Path.of(scenarioFile)).withOverrides(
+            options.get("base-url"),
+            options.get("tenant"),
+            Double.parseDouble(options.getOrDefault("rate-scale", "1")));
+        LocalDateTime startedAt = LocalDateTime.now();
+        Report report = new Report(scenario.name(), scenario.baseUrl(), startedAt.toString(),
+            new LoadRunner(scenario).run());
+
+        Path reportFile = Path.of(options.getOrDefault("report", "target/reports/" + scenario.name() + "-"
+            + startedAt.format(DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss")) + ".json"));
+        report.write(reportFile);
+        report.print(System.out);
+        System.out.printf("%nReport written to %s%n", reportFile.toAbsolutePath());
+    }
+}
@@ -0,0 +1,93 @@
+package com.example.attendance.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The report written after a run. Its shape is stable so that two reports
+ * (e.g. before and after a change) can be compared with {@code compare}.
+ */
+record Report(String scenario, String baseUrl, String startedAt, List<PhaseResult> phases) {
+
+    record PhaseResult(String name, int durationSeconds, double targetRate, boolean recorded,
+                       List<EndpointResult> endpoints) {}
+
+    record EndpointResult(String name, long requests, long errors, long dropped, double errorRate,
+                          double throughput, Latency latencyMs, Map<String, Long> outcomes) {}
+
+    record Latency(double p50, double p90, double p99, double p999, double max, double mean) {}
+
+    private static final ObjectMapper MAPPER = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+
+    void write(Path file) throws IOException {
+        if (file.getParent() != null) {
+            Files.createDirectories(file.getParent());
+        }
+        MAPPER.writeValue(file.toFile(), this);
+    }
+
+    static Report read(Path file) throws IOException {
+        return MAPPER.readValue(file.toFile(), Report.class);
+    }
+
+    void print(PrintStream out) {
+        out.printf("%nScenario %s against %s (started %s)%n", scenario, baseUrl, startedAt);
+        for (PhaseResult phase : phases) {
+            if (!phase.recorded()) {
+                continue;
+            }
+            out.printf("%n%s: %d s at %.0f req/s%n", phase.name(), phase.durationSeconds(), phase.targetRate());
+            out.printf("  %-10s %9s %8s %8s %9s %9s %9s %9s %9s%n",
+                "endpoint", "requests", "req/s", "errors", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms");
+            for (EndpointResult endpoint : phase.endpoints()) {
+                Latency latency = endpoint.latencyMs();
+                out.printf("  %-10s %9d %8.1f %7.2f%% %9.2f %9.2f %9.2f %9.2f %9.2f%s%n",
+                    endpoint.name(), endpoint.requests(), endpoint.throughput(), endpoint.errorRate() * 100,
+                    latency.p50(), latency.p90(), latency.p99(), latency.p999(), latency.max(),
+                    endpoint.dropped() > 0 ? "  (" + endpoint.dropped() + " dropped by client)" : "");
+            }
+        }
+    }
+
+    static void compare(Report baseline, Report candidate, PrintStream out) {
+        out.printf("Comparing %s (%s) with %s (%s)%n", baseline.scenario(), baseline.startedAt(),
+            candidate.scenario(), candidate.startedAt());
+        for (PhaseResult phase : candidate.phases()) {
+            PhaseResult before = baseline.phases().stream()
+                .filter(p -> p.name().equals(phase.name()))
+                .findFirst()
+                .orElse(null);
+            if (before == null || !phase.recorded()) {
+                continue;
+            }
+            out.printf("%n%s%n", phase.name());
+            out.printf("  %-10s %18s %18s %18s %16s%n", "endpoint", "p50 ms", "p99 ms", "p99.9 ms", "error rate");
+            for (EndpointResult endpoint : phase.endpoints()) {
+                EndpointResult old = before.endpoints().stream()
+                    .filter(e -> e.name().equals(endpoint.name()))
+                    .findFirst()
+                    .orElse(null);
+                if (old == null) {
+                    continue;
+                }
+                out.printf("  %-10s %18s %18s %18s %16s%n", endpoint.name(),
+                    delta(old.latencyMs().p50(), endpoint.latencyMs().p50()),
+                    delta(old.latencyMs().p99(), endpoint.latencyMs().p99()),
+                    delta(old.latencyMs().p999(), endpoint.latencyMs().p999()),
+                    String.format("%.2f%% -> %.2f%%", old.errorRate() * 100, endpoint.errorRate() * 100));
+            }
+        }
+    }
+
+    private static String delta(double before, double after) {
+        String change = before > 0 ? String.format("%+.0f%%", (after - before) * 100 / before) : "n/a";
+        return String.format("%.1f->%.1f %s", before, after, change);
+    }
+}
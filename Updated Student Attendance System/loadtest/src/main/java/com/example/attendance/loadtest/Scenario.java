@@ -0,0 +1,74 @@
+package com.example.attendance.loadtest;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A load test scenario: the endpoints that can be called and a sequence of
+ * phases, each with an open-loop arrival rate and a weighted endpoint mix.
+ * Paths and bodies may use the placeholders {@code ${rollNumber}},
+ * {@code ${status}}, {@code ${today}}, {@code ${weekAgo}} and {@code ${monthStart}}.
+ */
+record Scenario(
+    String name,
+    String baseUrl,
+    String tenant,
+    int maxInFlight,
+    long timeoutMs,
+    long seed,
+    RollNumbers rollNumbers,
+    List<Endpoint> endpoints,
+    List<Phase> phases
+) {
+
+    /** Roll numbers are drawn from {@code first .. first + count - 1}, matching the dataset generator. */
+    record RollNumbers(long first, int count) {}
+
+    record Endpoint(String name, String method, String path, String body) {}
+
+    record Phase(String name, int durationSeconds, double ratePerSecond, Boolean record, Map<String, Integer> mix) {
+        boolean recorded() {
+            return record == null || record;
+        }
+    }
+
+    static Scenario load(Path file) throws IOException {
+        Scenario scenario = new ObjectMapper()
+            .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false)
+            .readValue(file.toFile(), Scenario.class);
+        for (Phase phase : scenario.phases()) {
+            for (String endpoint : phase.mix().keySet()) {
+                if (scenario.endpoint(endpoint) == null) {
+                    throw new IllegalArgumentException("Phase " + phase.name() + " uses unknown endpoint " + endpoint);
+                }
+            }
+        }
+        return scenario;
+    }
+
+    Scenario withOverrides(String baseUrl, String tenant, double rateScale) {
+        List<Phase> scaled = phases.stream()
+            .map(phase -> new Phase(phase.name(), phase.durationSeconds(), phase.ratePerSecond() * rateScale,
+                phase.record(), phase.mix()))
+            .toList();
+        return new Scenario(name, baseUrl != null ? baseUrl : this.baseUrl, tenant != null ? tenant : this.tenant,
+            maxInFlight, timeoutMs, seed, rollNumbers, endpoints, scaled);
+    }
+
+    Endpoint endpoint(String name) {
+        return endpoints.stream().filter(endpoint -> endpoint.name().equals(name)).findFirst().orElse(null);
+    }
+
+    int effectiveMaxInFlight() {
+        return maxInFlight > 0 ? maxInFlight : 5000;
+    }
+
+    long effectiveTimeoutMs() {
+        return timeoutMs > 0 ? timeoutMs : 10_000;
+    }
+}